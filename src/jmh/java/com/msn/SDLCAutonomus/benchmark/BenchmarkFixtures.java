@@ -0,0 +1,400 @@
+package com.msn.SDLCAutonomus.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Deterministic inputs for the benchmarks, shaped like what the pipeline really sees: agent output
+ * with file markers and fenced code, Spring Boot POMs, Jira wiki descriptions and Order XML/XSD pairs.
+ * Sizes are parameters so the same shapes can be measured small and multi-megabyte.
+ */
+public final class BenchmarkFixtures {
+
+    private static final String PACKAGE_PATH = "src/main/java/com/example/orders";
+    private static final String[] LAYERS = {"model", "service", "controller", "repository", "dto"};
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * CodeGen/TestGen style output: "// Create File:" markers followed by fenced Java classes,
+     * with a few Modify/Refactored markers and unfenced blocks mixed in, until {@code targetBytes}.
+     */
+    public static String agentOutput(int targetBytes) {
+        Random random = new Random(42);
+        StringBuilder out = new StringBuilder(targetBytes + 8192);
+        out.append("Here are the generated files for the requested feature.\n\n");
+        int fileIndex = 0;
+        while (out.length() < targetBytes) {
+            String layer = LAYERS[fileIndex % LAYERS.length];
+            String className = capitalize(layer) + "Type" + fileIndex;
+            String marker = fileIndex % 17 == 16 ? "Refactored File" : "Create File";
+            out.append("// ").append(marker).append(": ").append(PACKAGE_PATH).append('/').append(layer).append('/')
+                .append(className).append(".java\n");
+            boolean fenced = fileIndex % 9 != 0;
+            if (fenced) {
+                out.append("```java\n");
+            }
+            appendJavaClass(out, layer, className, 4 + random.nextInt(24));
+            if (fenced) {
+                out.append("```\n");
+            }
+            out.append('\n');
+            fileIndex++;
+        }
+        return out.toString();
+    }
+
+    /**
+     * A single fenced block of roughly {@code targetBytes}, as handed to {@code filteredContent}.
+     */
+    public static String fencedBlock(int targetBytes) {
+        Random random = new Random(7);
+        StringBuilder out = new StringBuilder(targetBytes + 4096);
+        out.append("```java\n");
+        int i = 0;
+        while (out.length() < targetBytes) {
+            appendJavaClass(out, "service", "LargeService" + i++, 8 + random.nextInt(16));
+        }
+        out.append("```\n");
+        return out.toString();
+    }
+
+    /**
+     * A Spring Boot POM with a BOM import, {@code dependencyCount} dependencies (versions, scopes,
+     * optional flags and exclusions) and a plugin section that declares dependencies of its own.
+     */
+    public static String pom(int dependencyCount) {
+        Random random = new Random(11);
+        StringBuilder pom = new StringBuilder(dependencyCount * 400 + 4096);
+        pom.append("""
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0" xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                xsi:schemaLocation="http://maven.apache.org/POM/4.0.0 https://maven.apache.org/xsd/maven-4.0.0.xsd">
+                <modelVersion>4.0.0</modelVersion>
+                <parent>
+                    <groupId>org.springframework.boot</groupId>
+                    <artifactId>spring-boot-starter-parent</artifactId>
+                    <version>3.5.3</version>
+                    <relativePath/>
+                </parent>
+                <groupId>com.example</groupId>
+                <artifactId>order-service</artifactId>
+                <version>1.0.0-SNAPSHOT</version>
+                <properties>
+                    <java.version>21</java.version>
+                    <springdoc.version>2.5.0</springdoc.version>
+                </properties>
+                <dependencyManagement>
+                    <dependencies>
+                        <dependency>
+                            <groupId>org.springframework.cloud</groupId>
+                            <artifactId>spring-cloud-dependencies</artifactId>
+                            <version>2025.0.0</version>
+                            <type>pom</type>
+                            <scope>import</scope>
+                        </dependency>
+                    </dependencies>
+                </dependencyManagement>
+                <dependencies>
+            """);
+        for (int i = 0; i < dependencyCount; i++) {
+            pom.append("        <dependency>\n")
+                .append("            <groupId>com.example.group").append(i % 37).append("</groupId>\n")
+                .append("            <artifactId>library-").append(i).append("</artifactId>\n");
+            switch (random.nextInt(5)) {
+                case 0 -> pom.append("            <version>${springdoc.version}</version>\n");
+                case 1 -> pom.append("            <version>1.").append(i % 20).append(".").append(i % 7).append("</version>\n")
+                    .append("            <scope>test</scope>\n");
+                case 2 -> pom.append("            <optional>true</optional>\n");
+                case 3 -> pom.append("            <version>2.").append(i % 11).append(".0</version>\n")
+                    .append("            <exclusions>\n")
+                    .append("                <exclusion>\n")
+                    .append("                    <groupId>commons-logging</groupId>\n")
+                    .append("                    <artifactId>commons-logging</artifactId>\n")
+                    .append("                </exclusion>\n")
+                    .append("            </exclusions>\n");
+                default -> pom.append("            <scope>runtime</scope>\n");
+            }
+            pom.append("        </dependency>\n");
+        }
+        pom.append("""
+                </dependencies>
+                <build>
+                    <plugins>
+                        <plugin>
+                            <groupId>org.springframework.boot</groupId>
+                            <artifactId>spring-boot-maven-plugin</artifactId>
+                        </plugin>
+                        <plugin>
+                            <groupId>org.apache.maven.plugins</groupId>
+                            <artifactId>maven-compiler-plugin</artifactId>
+                            <dependencies>
+                                <dependency>
+                                    <groupId>org.projectlombok</groupId>
+                                    <artifactId>lombok</artifactId>
+                                    <version>1.18.30</version>
+                                </dependency>
+                            </dependencies>
+                        </plugin>
+                    </plugins>
+                </build>
+            </project>
+            """);
+        return pom.toString();
+    }
+
+    /**
+     * A Jira description of about {@code targetBytes}: the SRS header, wiki headings, tables and
+     * embedded XML, with the attachment names only mentioned at the very end (the worst case for a scan).
+     */
+    public static String jiraDescription(int targetBytes, boolean namedAttachments) {
+        Random random = new Random(3);
+        StringBuilder text = new StringBuilder(targetBytes + 1024);
+        text.append("Feature: Order feed transformation\n\n")
+            .append("GitHub-URL: https://github.com/example/order-service.git\n")
+            .append("checkout_branch: main\n")
+            .append("Repository-Name: order-service\n")
+            .append("Java-Version: 21\n")
+            .append("SpringBoot-Version: 3.5.3\n")
+            .append("Package-Name: com.example.orders\n\n");
+        int section = 0;
+        while (text.length() < targetBytes) {
+            text.append("h2. Requirement ").append(section).append('\n')
+                .append("As an operations user I want incoming partner orders to be validated and transformed ")
+                .append("so that downstream billing receives consistent payment data. Orders with ")
+                .append(random.nextInt(500)).append(" items or more are split into separate batches.\n")
+                .append("||Source field||Target field||Rule||\n")
+                .append("|Order/OrderId|PurchaseOrder/Id|required, numeric|\n")
+                .append("|Order/Customer/Name|PurchaseOrder/Client/FullName|trim, max length 120|\n")
+                .append("|Order/Billing/Paid|PurchaseOrder/Payment/Status|true -> Paid, false -> Unpaid|\n")
+                .append("{code:xml}\n<Order><OrderId>").append(10_000 + section)
+                .append("</OrderId><Billing><Paid>true</Paid></Billing></Order>\n{code}\n\n");
+            section++;
+        }
+        if (namedAttachments) {
+            text.append("sourcefilename: partner-orders.xml\n")
+                .append("mapping file: order-mapping.xlsx\n");
+        } else {
+            text.append("The sample feed is attached as partner-orders.xml together with order-mapping.xlsx\n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * An Order document in the shape of sample/source.xml with {@code itemCount} line items.
+     */
+    public static String orderXml(int itemCount) {
+        StringBuilder xml = new StringBuilder(itemCount * 200 + 1024);
+        try {
+            appendOrderXml(xml, itemCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return xml.toString();
+    }
+
+    /**
+     * Writes {@link #orderXml} to a file without holding it in memory, for documents larger than the heap.
+     */
+    public static void writeOrderXml(Path file, int itemCount) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            appendOrderXml(writer, itemCount);
+        }
+    }
+
+    private static void appendOrderXml(Appendable xml, int itemCount) throws IOException {
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<Order>\n")
+            .append("  <OrderId>12345</OrderId>\n")
+            .append("  <OrderDate>2024-05-20</OrderDate>\n")
+            .append("  <Customer>\n")
+            .append("    <CustomerId>C001</CustomerId>\n")
+            .append("    <Name>John Doe</Name>\n")
+            .append("    <Contact>\n")
+            .append("      <Email>john.doe@example.com</Email>\n")
+            .append("      <Phone>+1-555-1234</Phone>\n")
+            .append("    </Contact>\n")
+            .append("  </Customer>\n")
+            .append("  <Items>\n");
+        for (int i = 0; i < itemCount; i++) {
+            xml.append("    <Item>\n")
+                .append("      <ItemId>I").append(String.valueOf(i)).append("</ItemId>\n")
+                .append("      <Description>Wireless mouse, model ").append(String.valueOf(i % 97)).append("</Description>\n")
+                .append("      <Quantity>").append(String.valueOf(1 + i % 9)).append("</Quantity>\n")
+                .append("      <Price>").append(String.valueOf(10 + i % 90)).append('.').append(String.valueOf(i % 10)).append("5</Price>\n")
+                .append("    </Item>\n");
+        }
+        xml.append("  </Items>\n")
+            .append("  <Billing>\n")
+            .append("    <CustomerId>C001</CustomerId>\n")
+            .append("    <TotalAmount>1234.50</TotalAmount>\n")
+            .append("    <Paid>true</Paid>\n")
+            .append("  </Billing>\n")
+            .append("</Order>\n");
+    }
+
+    /**
+     * An .xlsx workbook whose first sheet holds a header and {@code rowCount} mapping rows. Headers and rules come
+     * from the shared-string table, the paths are inline strings, and every third row leaves the
+     * TransformationRule cell out, as Excel does for empty cells.
+     */
+    public static void writeMappingXlsx(Path file, int rowCount) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            Writer writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+            zipEntry(zip, writer, "xl/workbook.xml", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+                xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">
+                <sheets><sheet name="Mapping" sheetId="1" r:id="rId1"/></sheets></workbook>
+                """);
+            zipEntry(zip, writer, "xl/_rels/workbook.xml.rels", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+                <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" \
+                Target="worksheets/sheet1.xml"/></Relationships>
+                """);
+            zipEntry(zip, writer, "xl/sharedStrings.xml", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <sst xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" count="6" uniqueCount="6">
+                <si><t>SourcePath</t></si><si><t>TargetPath</t></si><si><t>TransformationRule</t></si>
+                <si><t>ValidationRule</t></si><si><r><t>TO_UPPER</t></r></si><si><t>required, maxLength=40</t></si></sst>
+                """);
+            zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+            writer.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+                .append("<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>\n")
+                .append("<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"B1\" t=\"s\"><v>1</v></c>")
+                .append("<c r=\"C1\" t=\"s\"><v>2</v></c><c r=\"D1\" t=\"s\"><v>3</v></c></row>\n");
+            for (int i = 0; i < rowCount; i++) {
+                String row = String.valueOf(i + 2);
+                writer.append("<row r=\"").append(row).append("\">")
+                    .append("<c r=\"A").append(row).append("\" t=\"inlineStr\"><is><t>Order.Items.Item[].Field")
+                    .append(String.valueOf(i)).append("</t></is></c>")
+                    .append("<c r=\"B").append(row).append("\" t=\"inlineStr\"><is><t>PurchaseOrder.Products.Product[].Field")
+                    .append(String.valueOf(i)).append("</t></is></c>");
+                if (i % 3 != 0) {
+                    writer.append("<c r=\"C").append(row).append("\" t=\"s\"><v>4</v></c>");
+                }
+                writer.append("<c r=\"D").append(row).append("\" t=\"s\"><v>5</v></c></row>\n");
+            }
+            writer.append("</sheetData></worksheet>\n");
+            writer.flush();
+            zip.closeEntry();
+        }
+    }
+
+    private static void zipEntry(ZipOutputStream zip, Writer writer, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    /**
+     * The XSD the generator agent produces for {@link #orderXml}.
+     */
+    public static String orderXsd() {
+        return """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <xs:schema xmlns:xs="http://www.w3.org/2001/XMLSchema" elementFormDefault="qualified">
+              <xs:element name="Order">
+                <xs:complexType>
+                  <xs:sequence>
+                    <xs:element name="OrderId" type="xs:int"/>
+                    <xs:element name="OrderDate" type="xs:date"/>
+                    <xs:element name="Customer" type="CustomerType"/>
+                    <xs:element name="Items">
+                      <xs:complexType>
+                        <xs:sequence>
+                          <xs:element name="Item" type="ItemType" maxOccurs="unbounded"/>
+                        </xs:sequence>
+                      </xs:complexType>
+                    </xs:element>
+                    <xs:element name="Billing" type="BillingType"/>
+                  </xs:sequence>
+                </xs:complexType>
+              </xs:element>
+              <xs:complexType name="CustomerType">
+                <xs:sequence>
+                  <xs:element name="CustomerId" type="xs:string"/>
+                  <xs:element name="Name" type="xs:string"/>
+                  <xs:element name="Contact">
+                    <xs:complexType>
+                      <xs:sequence>
+                        <xs:element name="Email" type="xs:string"/>
+                        <xs:element name="Phone" type="xs:string"/>
+                      </xs:sequence>
+                    </xs:complexType>
+                  </xs:element>
+                </xs:sequence>
+              </xs:complexType>
+              <xs:complexType name="ItemType">
+                <xs:sequence>
+                  <xs:element name="ItemId" type="xs:string"/>
+                  <xs:element name="Description" type="xs:string"/>
+                  <xs:element name="Quantity" type="xs:positiveInteger"/>
+                  <xs:element name="Price" type="xs:decimal"/>
+                </xs:sequence>
+              </xs:complexType>
+              <xs:complexType name="BillingType">
+                <xs:sequence>
+                  <xs:element name="CustomerId" type="xs:string"/>
+                  <xs:element name="TotalAmount" type="xs:decimal"/>
+                  <xs:element name="Paid" type="xs:boolean"/>
+                </xs:sequence>
+              </xs:complexType>
+            </xs:schema>
+            """;
+    }
+
+    /**
+     * A generated project on disk: {@code pom.xml} with 40 dependencies and {@code fileCount} Java classes
+     * under {@code src/main/java}, spread over the usual layers.
+     */
+    public static void writeProjectTree(Path root, int fileCount) throws IOException {
+        Files.writeString(root.resolve("pom.xml"), pom(40), StandardCharsets.UTF_8);
+        Random random = new Random(11);
+        for (int i = 0; i < fileCount; i++) {
+            String layer = LAYERS[i % LAYERS.length];
+            String className = capitalize(layer) + "Type" + i;
+            Path file = root.resolve(PACKAGE_PATH).resolve(layer).resolve(className + ".java");
+            Files.createDirectories(file.getParent());
+            StringBuilder source = new StringBuilder();
+            appendJavaClass(source, layer, className, 4 + random.nextInt(24));
+            Files.writeString(file, source, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void appendJavaClass(StringBuilder out, String layer, String className, int methods) {
+        out.append("package com.example.orders.").append(layer).append(";\n\n")
+            .append("import java.math.BigDecimal;\n")
+            .append("import java.util.List;\n")
+            .append("import lombok.RequiredArgsConstructor;\n")
+            .append("import org.springframework.stereotype.Service;\n\n")
+            .append("/**\n * Handles ").append(layer).append(" concerns for purchase orders.\n */\n")
+            .append("@Service\n@RequiredArgsConstructor\n")
+            .append("public class ").append(className).append(" {\n\n")
+            .append("    private final OrderRepository orderRepository;\n\n");
+        for (int m = 0; m < methods; m++) {
+            out.append("    public BigDecimal computeTotal").append(m).append("(List<OrderItem> items) {\n")
+                .append("        // Sum quantity * unit price, ignoring cancelled lines\n")
+                .append("        return items.stream()\n")
+                .append("            .filter(item -> !item.isCancelled())\n")
+                .append("            .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))\n")
+                .append("            .reduce(BigDecimal.ZERO, BigDecimal::add);\n")
+                .append("    }\n\n");
+        }
+        out.append("}\n");
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
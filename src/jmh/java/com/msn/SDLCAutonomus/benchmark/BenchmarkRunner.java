@@ -0,0 +1,123 @@
+package com.msn.SDLCAutonomus.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks and compares every score with {@code src/jmh/baseline.json}.
+ * A benchmark that is more than {@code jmh.tolerance} slower than its baseline fails the run;
+ * {@code -Djmh.updateBaseline=true} rewrites the baseline from the current results instead.
+ * Arguments are passed through to JMH; {@code mvn -Pjmh test-compile exec:exec -Djmh.include=JiraContent}
+ * runs a subset.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path resultFile = Path.of(System.getProperty("jmh.result", "target/jmh-result.json"));
+        Path baselineFile = Path.of(System.getProperty("jmh.baseline", "src/jmh/baseline.json"));
+        double tolerance = Double.parseDouble(System.getProperty("jmh.tolerance", "0.25"));
+        boolean updateBaseline = Boolean.getBoolean("jmh.updateBaseline");
+
+        Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile.toString())
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        Map<String, Score> current = new TreeMap<>();
+        for (RunResult result : results) {
+            String key = result.getParams().getBenchmark() + paramsSuffix(result);
+            current.put(key, new Score(result.getPrimaryResult().getScore(), result.getPrimaryResult().getScoreUnit()));
+        }
+
+        if (updateBaseline || !Files.exists(baselineFile)) {
+            writeBaseline(baselineFile, current);
+            System.out.println("Baseline written to " + baselineFile + " (" + current.size() + " benchmarks)");
+            return;
+        }
+
+        List<String> regressions = compare(readBaseline(baselineFile), current, tolerance);
+        if (!regressions.isEmpty()) {
+            System.err.println("Benchmark regressions against " + baselineFile + ":");
+            regressions.forEach(line -> System.err.println("  " + line));
+            System.exit(1);
+        }
+        System.out.println("No regressions beyond " + Math.round(tolerance * 100) + "% against " + baselineFile);
+    }
+
+    record Score(double value, String unit) {}
+
+    /** All benchmarks here report time per operation, so a higher score is a regression. */
+    static List<String> compare(Map<String, Score> baseline, Map<String, Score> current, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        current.forEach((key, score) -> {
+            Score reference = baseline.get(key);
+            if (reference == null) {
+                System.out.println("No baseline for " + key + ", skipping");
+                return;
+            }
+            if (!reference.unit().equals(score.unit())) {
+                regressions.add(key + ": unit changed from " + reference.unit() + " to " + score.unit());
+                return;
+            }
+            double ratio = score.value() / reference.value();
+            System.out.printf("%-90s %12.3f %-8s baseline %12.3f (%+.1f%%)%n", key, score.value(), score.unit(),
+                reference.value(), (ratio - 1) * 100);
+            if (ratio > 1 + tolerance) {
+                regressions.add(String.format("%s: %.3f %s vs baseline %.3f (%+.1f%%)", key, score.value(), score.unit(),
+                    reference.value(), (ratio - 1) * 100));
+            }
+        });
+        return regressions;
+    }
+
+    private static String paramsSuffix(RunResult result) {
+        StringBuilder suffix = new StringBuilder();
+        for (String param : result.getParams().getParamsKeys()) {
+            suffix.append(suffix.isEmpty() ? ":" : ",").append(param).append('=').append(result.getParams().getParam(param));
+        }
+        return suffix.toString();
+    }
+
+    private static Map<String, Score> readBaseline(Path file) throws Exception {
+        JSONObject json = new JSONObject(Files.readString(file, StandardCharsets.UTF_8));
+        JSONObject benchmarks = json.getJSONObject("benchmarks");
+        Map<String, Score> baseline = new TreeMap<>();
+        for (String key : benchmarks.keySet()) {
+            JSONObject entry = benchmarks.getJSONObject(key);
+            baseline.put(key, new Score(entry.getDouble("score"), entry.getString("unit")));
+        }
+        return baseline;
+    }
+
+    private static void writeBaseline(Path file, Map<String, Score> scores) throws Exception {
+        JSONObject benchmarks = new JSONObject();
+        scores.forEach((key, score) -> benchmarks.put(key, new JSONObject()
+            .put("score", Math.round(score.value() * 1000) / 1000.0)
+            .put("unit", score.unit())));
+        JSONObject json = new JSONObject()
+            .put("jvm", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"))
+            .put("cpus", Runtime.getRuntime().availableProcessors())
+            .put("benchmarks", benchmarks);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, json.toString(2) + "\n", StandardCharsets.UTF_8);
+    }
+}
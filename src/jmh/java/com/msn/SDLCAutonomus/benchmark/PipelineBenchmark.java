@@ -0,0 +1,261 @@
+package com.msn.SDLCAutonomus.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.msn.SDLCAutonomus.SdlcAutonomusApplication;
+import com.msn.SDLCAutonomus.model.PipelineProfile;
+import com.msn.SDLCAutonomus.model.StageMetrics;
+import com.msn.SDLCAutonomus.service.PipelineProfiler;
+import com.msn.SDLCAutonomus.service.SDLCAutoService;
+import com.msn.SDLCAutonomus.service.UtilityService;
+
+/**
+ * Runs the complete {@code runSDLCAuto} pipeline offline and writes the per-stage breakdown as JSON.
+ *
+ * <p>Jira is the stand-in server with its fixtures, the LLM is the replay backend (recorded fixtures, else the
+ * stubs under {@code pipeline/llm}) and the repository is a local bare git repository seeded with a minimal
+ * Spring Boot project. Every iteration starts from a fresh clone and empty run state, so nothing is skipped
+ * by the SRS fingerprint. Run with:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec@pipeline -Dpipeline.iterations=5 \
+ *     -Dpipeline.properties=sdlc.llm.replay-latency=500ms,sdlc.jira-standin.latency=50ms
+ * </pre>
+ * {@code pipeline.properties} is a comma-separated list of Spring properties; it is copied into the report so
+ * runs with different concurrency or latency settings can be compared.
+ */
+public final class PipelineBenchmark {
+
+    private static final String REPOSITORY_NAME = "order-service";
+
+    private PipelineBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String issueKey = System.getProperty("pipeline.issue", "SAMPLE-1");
+        int warmup = Integer.getInteger("pipeline.warmup", 1);
+        int iterations = Integer.getInteger("pipeline.iterations", 3);
+        Path output = Path.of(System.getProperty("pipeline.output", "target/pipeline-benchmark.json"));
+        Path remote = Path.of(System.getProperty("pipeline.remote", "/tmp/sdlc-fixtures/" + REPOSITORY_NAME + ".git"));
+        Map<String, String> settings = parseProperties(System.getProperty("pipeline.properties", ""));
+
+        Path workDir = Files.createTempDirectory("sdlc-pipeline-benchmark");
+        createRemoteRepository(remote, workDir.resolve("seed"));
+
+        // Passed as command-line arguments so they win over application.properties.
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.profiles.active", "jira-standin");
+        properties.put("sdlc.llm.mode", "REPLAY");
+        properties.put("sdlc.llm.fixture-dir", Path.of(PipelineBenchmark.class.getResource("/pipeline/llm").toURI()).toString());
+        properties.put("sdlc.state.dir", workDir.resolve("state").toString());
+        properties.put("sdlc.attachments.cache-dir", workDir.resolve("attachments").toString());
+        properties.putAll(settings);
+
+        List<PipelineProfile> profiles = new ArrayList<>();
+        List<String> results = new ArrayList<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SdlcAutonomusApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(properties.entrySet().stream().map(e -> "--" + e.getKey() + "=" + e.getValue()).toArray(String[]::new))) {
+            SDLCAutoService sdlcAutoService = context.getBean(SDLCAutoService.class);
+            PipelineProfiler profiler = context.getBean(PipelineProfiler.class);
+            Path clone = Path.of(context.getBean(UtilityService.class).createTempDir(REPOSITORY_NAME));
+
+            for (int i = 0; i < warmup + iterations; i++) {
+                deleteRecursively(clone);
+                deleteRecursively(workDir.resolve("state"));
+                String result = sdlcAutoService.runSDLCAuto(issueKey);
+                PipelineProfile profile = profiler.getLastProfile().orElseThrow();
+                System.out.printf("%s %d: %d ms -> %s%n", i < warmup ? "warmup" : "iteration", i < warmup ? i + 1 : i - warmup + 1,
+                    TimeUnit.NANOSECONDS.toMillis(profile.getTotalWallNanos()), result);
+                if (i >= warmup) {
+                    profiles.add(profile);
+                    results.add(result);
+                }
+            }
+        } finally {
+            deleteRecursively(workDir);
+        }
+
+        JSONObject report = report(issueKey, warmup, settings, profiles, results);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, report.toString(2) + "\n", StandardCharsets.UTF_8);
+        System.out.println("Pipeline report written to " + output);
+        System.out.println(report.getJSONObject("median").toString(2));
+        // The stand-in server and the replay scheduler keep non-daemon threads around.
+        System.exit(0);
+    }
+
+    static JSONObject report(String issueKey, int warmup, Map<String, String> settings, List<PipelineProfile> profiles, List<String> results) {
+        JSONArray runs = new JSONArray();
+        Set<String> stageNames = new LinkedHashSet<>();
+        for (int i = 0; i < profiles.size(); i++) {
+            PipelineProfile profile = profiles.get(i);
+            JSONObject stages = new JSONObject();
+            profile.getStages().forEach((name, metrics) -> {
+                stageNames.add(name);
+                stages.put(name, toJson(metrics));
+            });
+            runs.put(new JSONObject()
+                .put("result", results.get(i) == null ? JSONObject.NULL : results.get(i))
+                .put("startedAt", profile.getStartedAt())
+                .put("total", toJson(new StageMetrics(1, profile.getTotalWallNanos(), profile.getTotalCpuNanos(), profile.getTotalAllocatedBytes())))
+                .put("stages", stages));
+        }
+
+        JSONObject median = new JSONObject();
+        median.put("total", toJson(median(profiles.stream()
+            .map(p -> new StageMetrics(1, p.getTotalWallNanos(), p.getTotalCpuNanos(), p.getTotalAllocatedBytes())).toList())));
+        for (String name : stageNames) {
+            median.put(name, toJson(median(profiles.stream()
+                .map(p -> p.getStages().getOrDefault(name, new StageMetrics())).toList())));
+        }
+
+        return new JSONObject()
+            .put("issue", issueKey)
+            .put("recordedAt", Instant.now().toString())
+            .put("jvm", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"))
+            .put("cpus", Runtime.getRuntime().availableProcessors())
+            .put("warmup", warmup)
+            .put("iterations", profiles.size())
+            .put("settings", new JSONObject(settings))
+            .put("median", median)
+            .put("runs", runs);
+    }
+
+    private static StageMetrics median(List<StageMetrics> values) {
+        if (values.isEmpty()) {
+            return new StageMetrics();
+        }
+        int middle = values.size() / 2;
+        return new StageMetrics(
+            values.stream().mapToInt(StageMetrics::getCount).sorted().toArray()[middle],
+            values.stream().mapToLong(StageMetrics::getWallNanos).sorted().toArray()[middle],
+            values.stream().mapToLong(StageMetrics::getCpuNanos).sorted().toArray()[middle],
+            values.stream().mapToLong(StageMetrics::getAllocatedBytes).sorted().toArray()[middle]);
+    }
+
+    private static JSONObject toJson(StageMetrics metrics) {
+        return new JSONObject()
+            .put("count", metrics.getCount())
+            .put("wallMs", metrics.getWallNanos() / 1_000_000.0)
+            .put("cpuMs", metrics.getCpuNanos() / 1_000_000.0)
+            .put("allocatedBytes", metrics.getAllocatedBytes());
+    }
+
+    private static Map<String, String> parseProperties(String value) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator > 0) {
+                properties.put(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim());
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Recreates the bare repository the stand-in issue points at, with one commit on main holding a
+     * minimal Spring Boot application.
+     */
+    private static void createRemoteRepository(Path remote, Path seed) throws IOException, InterruptedException {
+        deleteRecursively(remote);
+        Files.createDirectories(remote);
+        git(remote, "init", "--bare", "--quiet");
+        git(remote, "symbolic-ref", "HEAD", "refs/heads/main");
+
+        Path application = seed.resolve("src/main/java/com/example/orders/OrderServiceApplication.java");
+        Files.createDirectories(application.getParent());
+        Files.writeString(seed.resolve("pom.xml"), """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0" xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                xsi:schemaLocation="http://maven.apache.org/POM/4.0.0 https://maven.apache.org/xsd/maven-4.0.0.xsd">
+                <modelVersion>4.0.0</modelVersion>
+                <parent>
+                    <groupId>org.springframework.boot</groupId>
+                    <artifactId>spring-boot-starter-parent</artifactId>
+                    <version>3.5.3</version>
+                    <relativePath/>
+                </parent>
+                <groupId>com.example</groupId>
+                <artifactId>order-service</artifactId>
+                <version>1.0.0</version>
+                <properties>
+                    <java.version>21</java.version>
+                </properties>
+                <dependencies>
+                    <dependency>
+                        <groupId>org.springframework.boot</groupId>
+                        <artifactId>spring-boot-starter-web</artifactId>
+                    </dependency>
+                    <dependency>
+                        <groupId>org.springframework.boot</groupId>
+                        <artifactId>spring-boot-starter-test</artifactId>
+                        <scope>test</scope>
+                    </dependency>
+                </dependencies>
+            </project>
+            """, StandardCharsets.UTF_8);
+        Files.writeString(application, """
+            package com.example.orders;
+
+            import org.springframework.boot.SpringApplication;
+            import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+            @SpringBootApplication
+            public class OrderServiceApplication {
+
+                public static void main(String[] args) {
+                    SpringApplication.run(OrderServiceApplication.class, args);
+                }
+            }
+            """, StandardCharsets.UTF_8);
+
+        git(seed, "init", "--quiet");
+        git(seed, "checkout", "--quiet", "-b", "main");
+        git(seed, "add", ".");
+        git(seed, "commit", "--quiet", "-m", "Initial order service");
+        git(seed, "push", "--quiet", remote.toUri().toString(), "main");
+    }
+
+    private static void git(Path dir, String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("git"));
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).directory(dir.toFile()).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IOException(String.join(" ", command) + " failed:\n" + output);
+        }
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                File file = path.toFile();
+                file.setWritable(true);
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.msn.SDLCAutonomus.benchmark.BenchmarkFixtures;
+import com.msn.SDLCAutonomus.config.XmlProcessingProperties;
+import com.msn.SDLCAutonomus.model.BatchTransformationReport;
+
+/**
+ * A directory of sample-sized order documents, validated against the order XSD and transformed with the sample
+ * mapping. Compare {@code parallelism} against the cores of the machine the numbers come from.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BatchTransformationServiceBenchmark {
+
+    private static final int DOCUMENTS = 1000;
+
+    /** Worker threads; 0 is one per core. */
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private final MappingEngineService mappingEngineService = new MappingEngineService();
+    private final XmlValidationService xmlValidationService = new XmlValidationService();
+    private BatchTransformationService batchTransformationService;
+    private MappingPlan plan;
+    private String xsd;
+    private Path inputDir;
+    private Path outputDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        XmlProcessingProperties properties = new XmlProcessingProperties();
+        properties.setBatchParallelism(parallelism);
+        batchTransformationService = new BatchTransformationService(mappingEngineService, xmlValidationService, properties);
+        try (InputStream mapping = getClass().getResourceAsStream("/sample/mapping_with_validation.json")) {
+            plan = mappingEngineService.compile(new String(mapping.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        xsd = BenchmarkFixtures.orderXsd();
+        inputDir = Files.createTempDirectory("jmh-batch-in");
+        outputDir = Files.createTempDirectory("jmh-batch-out");
+        for (int i = 0; i < DOCUMENTS; i++) {
+            Files.writeString(inputDir.resolve("order-" + i + ".xml"), BenchmarkFixtures.orderXml(2 + i % 20), StandardCharsets.UTF_8);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        batchTransformationService.shutdown();
+        xmlValidationService.shutdown();
+        for (Path dir : List.of(inputDir, outputDir)) {
+            try (Stream<Path> paths = Files.walk(dir)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public BatchTransformationReport transformDirectory() throws IOException {
+        return batchTransformationService.transformDirectory(plan, xsd, inputDir, outputDir);
+    }
+}
@@ -0,0 +1,65 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.msn.SDLCAutonomus.benchmark.BenchmarkFixtures;
+
+/**
+ * The scans {@link SDLCAutoService} runs over the Jira description to pick the XML workflows and
+ * find the attachment names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JiraContentBenchmark {
+
+    @Param({"4096", "65536"})
+    public int descriptionBytes;
+
+    private String namedDescription;
+    private String unnamedDescription;
+    private String lowerCaseDescription;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        namedDescription = BenchmarkFixtures.jiraDescription(descriptionBytes, true);
+        unnamedDescription = BenchmarkFixtures.jiraDescription(descriptionBytes, false);
+        lowerCaseDescription = namedDescription.toLowerCase();
+    }
+
+    @Benchmark
+    public String extractAttachmentNameByKeyword() {
+        return SDLCAutoService.extractAttachmentNameFromJiraContent(namedDescription, "excelAttachment");
+    }
+
+    @Benchmark
+    public String extractAttachmentNameByExtension() {
+        return SDLCAutoService.extractAttachmentNameFromJiraContent(unnamedDescription, "excelAttachment");
+    }
+
+    @Benchmark
+    public boolean matchesPojoWorkflow() {
+        return SDLCAutoService.matchesPOJOMappingFromXML(lowerCaseDescription, "pojo");
+    }
+
+    @Benchmark
+    public boolean matchesMappingWorkflow() {
+        return SDLCAutoService.matchesPOJOMappingFromXML(lowerCaseDescription, "mapping");
+    }
+}
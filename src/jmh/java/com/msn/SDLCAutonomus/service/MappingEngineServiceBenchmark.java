@@ -0,0 +1,55 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.msn.SDLCAutonomus.benchmark.BenchmarkFixtures;
+import com.msn.SDLCAutonomus.model.MappingResult;
+
+/**
+ * One document through a compiled mapping plan, i.e. the per-document cost once the sample mapping is compiled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingEngineServiceBenchmark {
+
+    /** Line items in the source document. */
+    @Param({"10", "20000"})
+    public int size;
+
+    private final MappingEngineService mappingEngineService = new MappingEngineService();
+    private MappingPlan plan;
+    private String sourceXml;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (InputStream mapping = getClass().getResourceAsStream("/sample/mapping_with_validation.json")) {
+            plan = mappingEngineService.compile(new String(mapping.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        sourceXml = BenchmarkFixtures.orderXml(size);
+    }
+
+    @Benchmark
+    public MappingResult transform() throws IOException {
+        return mappingEngineService.transform(plan, sourceXml);
+    }
+}
@@ -0,0 +1,75 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.msn.SDLCAutonomus.benchmark.BenchmarkFixtures;
+import com.msn.SDLCAutonomus.model.MappingViolation;
+import com.msn.SDLCAutonomus.service.MappingPlan.ArrayRule;
+import com.msn.SDLCAutonomus.service.MappingPlan.SourceNode;
+
+/**
+ * The item rules of the sample mapping (type, length, pattern and bounds checks plus the TO_INT transform)
+ * evaluated on one million line-item records, validation only. The records are 1000 distinct items parsed up
+ * front and cycled, so parsing is not part of the score. Run with {@code -prof gc} to see the allocation per
+ * operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingValidationBenchmark {
+
+    private static final int RECORDS = 1_000_000;
+
+    private ArrayRule itemRule;
+    private SourceNode[] items;
+    private final StringBuilder targetPrefix = new StringBuilder();
+    private final List<MappingViolation> violations = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, XMLStreamException {
+        MappingEngineService mappingEngineService = new MappingEngineService();
+        MappingPlan plan;
+        try (InputStream mapping = getClass().getResourceAsStream("/sample/mapping_with_validation.json")) {
+            plan = mappingEngineService.compile(new String(mapping.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        itemRule = plan.rules().stream().filter(ArrayRule.class::isInstance).map(ArrayRule.class::cast).findFirst().orElseThrow();
+
+        XMLStreamReader reader = XMLInputFactory.newFactory().createXMLStreamReader(new StringReader(BenchmarkFixtures.orderXml(1000)));
+        reader.nextTag();
+        items = MappingEngineService.readElement(reader).child("Items").children.toArray(new SourceNode[0]);
+    }
+
+    @Benchmark
+    public int validateItems() {
+        violations.clear();
+        for (int i = 0; i < RECORDS; i++) {
+            itemRule.applyItem(items[i % items.length], null, targetPrefix, i, violations);
+        }
+        return violations.size();
+    }
+}
@@ -0,0 +1,63 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.msn.SDLCAutonomus.benchmark.BenchmarkFixtures;
+
+/**
+ * POM parsing without the cache, and a merge of the typical agent output (the full dependency list with a few
+ * updates and a few additions) into a parsed POM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PomServiceBenchmark {
+
+    /** Dependencies in the POM. */
+    @Param({"100", "20000"})
+    public int size;
+
+    private final PomService pomService = new PomService();
+    private String pom;
+    private List<String> coordinates;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pom = BenchmarkFixtures.pom(size);
+        // The agent lists the full set: every dependency already there, a few with a new version, plus a few new ones.
+        coordinates = new ArrayList<>(PomService.coordinates(PomService.scan(pom).model().getDependencies()));
+        for (int i = 0; i < 10; i++) {
+            coordinates.set(i, "com.example.group" + (i % 37) + ":library-" + i + ":9." + i + ".0");
+            coordinates.add("org.example.added:added-" + i + ":1.0." + i + ":test");
+        }
+    }
+
+    @Benchmark
+    public PomService.PomDocument scan() throws IOException {
+        return PomService.scan(pom);
+    }
+
+    @Benchmark
+    public String mergeDependencies() throws IOException {
+        return pomService.mergeDependencies(pom, coordinates);
+    }
+}
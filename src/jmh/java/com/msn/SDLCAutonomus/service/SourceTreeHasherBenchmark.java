@@ -0,0 +1,87 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.msn.SDLCAutonomus.benchmark.BenchmarkFixtures;
+
+/**
+ * Hash of a generated project tree: from scratch, and again after one file changed (the self-healing case).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SourceTreeHasherBenchmark {
+
+    /** Java files under src/main/java. */
+    @Param({"200", "2000"})
+    public int files;
+
+    private Path root;
+    private List<Path> sources;
+    private SourceTreeHasher hasher;
+    private long edits;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("jmh-tree");
+        BenchmarkFixtures.writeProjectTree(root, files);
+        try (Stream<Path> paths = Files.walk(root)) {
+            sources = paths.filter(path -> path.toString().endsWith(".java")).sorted().toList();
+        }
+        // Files written well before the scan, as a cloned or generated tree is by the time it is built.
+        FileTime old = FileTime.fromMillis(System.currentTimeMillis() - 3_600_000);
+        for (Path source : sources) {
+            Files.setLastModifiedTime(source, old);
+        }
+        Files.setLastModifiedTime(root.resolve("pom.xml"), old);
+        hasher = new SourceTreeHasher();
+        hasher.hash(root);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String fullHash() throws IOException {
+        return new SourceTreeHasher().hash(root);
+    }
+
+    @Benchmark
+    public String incrementalHash() throws IOException {
+        // One corrector fix: a single file rewritten since the last hash.
+        Path source = sources.get((int) (edits % sources.size()));
+        Files.writeString(source, "// edit " + edits + "\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis() - 60_000 + edits++ % 50_000));
+        return hasher.hash(root);
+    }
+}
@@ -0,0 +1,60 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.msn.SDLCAutonomus.benchmark.BenchmarkFixtures;
+import com.msn.SDLCAutonomus.config.AttachmentProperties;
+
+/**
+ * Conversion of an .xlsx mapping sheet to CSV, output discarded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// The sheet XML of 200000 rows is about 40 MB, so a reader that buffers the sheet fails under this cap.
+@Fork(value = 1, jvmArgsAppend = "-Xmx32m")
+public class SpreadsheetMappingReaderBenchmark {
+
+    /** Mapping rows below the header. */
+    @Param({"20000", "200000"})
+    public int rows;
+
+    private final SpreadsheetMappingReader reader = new SpreadsheetMappingReader(new AttachmentProperties());
+    private Path workbook;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workbook = Files.createTempFile("jmh-mapping", ".xlsx");
+        BenchmarkFixtures.writeMappingXlsx(workbook, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(workbook);
+    }
+
+    @Benchmark
+    public long writeCsv() throws IOException {
+        return reader.writeCsv(workbook, Writer.nullWriter());
+    }
+}
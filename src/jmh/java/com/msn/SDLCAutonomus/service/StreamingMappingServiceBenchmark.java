@@ -0,0 +1,71 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.FileSystemResource;
+
+import com.msn.SDLCAutonomus.benchmark.BenchmarkFixtures;
+import com.msn.SDLCAutonomus.config.XmlProcessingProperties;
+import com.msn.SDLCAutonomus.model.StreamingMappingResult;
+
+/**
+ * Streaming transformation of an order file with the sample mapping, output discarded. The fixture is about
+ * 167 bytes per line item, so throughput is {@code size * 167 / score} bytes and {@code size / score} items per
+ * millisecond.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// The heap cap is far below the 200000-item document (about 33 MB), so a run that buffers the document fails.
+@Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+public class StreamingMappingServiceBenchmark {
+
+    /** Line items in the source document. */
+    @Param({"20000", "200000"})
+    public int size;
+
+    private final MappingEngineService mappingEngineService = new MappingEngineService();
+    private final StreamingMappingService streamingMappingService = new StreamingMappingService(new XmlProcessingProperties());
+    private MappingPlan plan;
+    private Path xmlFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (InputStream mapping = getClass().getResourceAsStream("/sample/mapping_with_validation.json")) {
+            plan = mappingEngineService.compile(new String(mapping.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        xmlFile = Files.createTempFile("jmh-order", ".xml");
+        BenchmarkFixtures.writeOrderXml(xmlFile, size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(xmlFile);
+    }
+
+    @Benchmark
+    public StreamingMappingResult transform() throws IOException {
+        return streamingMappingService.transform(plan, new FileSystemResource(xmlFile), OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,95 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.SAXException;
+
+import com.msn.SDLCAutonomus.benchmark.BenchmarkFixtures;
+import com.msn.SDLCAutonomus.model.XmlValidationResult;
+
+/**
+ * POM dependency parsing and XSD validation, both run on every pipeline that touches an existing
+ * repository or a source XML attachment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UtilityServiceBenchmark {
+
+    /** Dependencies in the POM and line items in the XML, so both inputs grow together. */
+    @Param({"100", "20000"})
+    public int size;
+
+    private static final int BATCH_DOCUMENTS = 16;
+
+    private final XmlValidationService xmlValidationService = new XmlValidationService();
+    private final UtilityService utilityService = new UtilityService(xmlValidationService, new PomService());
+    private String pom;
+    private String xml;
+    private String xsd;
+    private Path xmlFile;
+    private final List<Path> batch = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pom = BenchmarkFixtures.pom(size);
+        xml = BenchmarkFixtures.orderXml(size);
+        xsd = BenchmarkFixtures.orderXsd();
+        xmlFile = Files.createTempFile("jmh-order", ".xml");
+        Files.writeString(xmlFile, xml, StandardCharsets.UTF_8);
+        for (int i = 0; i < BATCH_DOCUMENTS; i++) {
+            batch.add(Files.copy(xmlFile, xmlFile.resolveSibling("jmh-order-batch-" + i + ".xml")));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(xmlFile);
+        for (Path file : batch) {
+            Files.deleteIfExists(file);
+        }
+        xmlValidationService.shutdown();
+    }
+
+    @Benchmark
+    public List<String> parseExistingDependenciesFromPom() {
+        return utilityService.parseExistingDependenciesFromPom(pom);
+    }
+
+    @Benchmark
+    public void validateXmlStringWithXsd() throws IOException, SAXException {
+        utilityService.validateXmlWithXsd(xml, xsd);
+    }
+
+    @Benchmark
+    public void validateXmlFileWithXsd() throws IOException, SAXException {
+        utilityService.validateXmlWithXsd(xmlFile, xsd);
+    }
+
+    @Benchmark
+    public List<XmlValidationResult> validateBatchWithXsd() throws SAXException, InterruptedException {
+        return xmlValidationService.validateAll(batch, xsd);
+    }
+}
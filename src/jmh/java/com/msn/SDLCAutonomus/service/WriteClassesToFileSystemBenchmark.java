@@ -0,0 +1,80 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.msn.SDLCAutonomus.benchmark.BenchmarkFixtures;
+
+/**
+ * Marker parsing and file writing for CodeGen/TestGen output. Only Create/Refactored markers are
+ * used, so the merge agent is never called.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteClassesToFileSystemBenchmark {
+
+    @Param({"262144", "4194304"})
+    public int outputBytes;
+
+    private String agentOutput;
+    private String fencedBlock;
+    private Path baseDir;
+    private PrintStream originalOut;
+    private WriteClassesToFileSystemService service;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        agentOutput = BenchmarkFixtures.agentOutput(outputBytes);
+        fencedBlock = BenchmarkFixtures.fencedBlock(outputBytes);
+        baseDir = Files.createTempDirectory("jmh-write-classes");
+        service = new WriteClassesToFileSystemService(null, null, null, null);
+        // The service echoes the whole agent output to stdout; keep that out of the measurement.
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.setOut(originalOut);
+        try (Stream<Path> paths = Files.walk(baseDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<String> writeClassesToFileSystem() {
+        return service.writeClassesToFileSystem(agentOutput, baseDir.toString());
+    }
+
+    @Benchmark
+    public String filteredContent() {
+        return WriteClassesToFileSystemService.filteredContent(fencedBlock);
+    }
+}
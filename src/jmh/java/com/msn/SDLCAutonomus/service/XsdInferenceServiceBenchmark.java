@@ -0,0 +1,60 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.msn.SDLCAutonomus.benchmark.BenchmarkFixtures;
+
+/**
+ * Local XSD inference from the source XML, which replaces the XsdGeneratorAgent call in the XML
+ * transformation workflow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XsdInferenceServiceBenchmark {
+
+    /** Line items in the sample document. */
+    @Param({"100", "20000"})
+    public int size;
+
+    private final XsdInferenceService xsdInferenceService = new XsdInferenceService();
+    private Path xmlFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        xmlFile = Files.createTempFile("jmh-order", ".xml");
+        Files.writeString(xmlFile, BenchmarkFixtures.orderXml(size), StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(xmlFile);
+    }
+
+    @Benchmark
+    public String inferXsd() throws IOException {
+        return xsdInferenceService.inferXsd(List.of(xmlFile));
+    }
+}
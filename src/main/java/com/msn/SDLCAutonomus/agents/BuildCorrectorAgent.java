@@ -8,6 +8,7 @@ import com.google.adk.runner.InMemoryRunner;
 import com.google.adk.sessions.Session;
 import com.google.genai.types.Content;
 import com.google.genai.types.Part;
+import com.msn.SDLCAutonomus.service.ModelRouter;
 import com.msn.SDLCAutonomus.service.UtilityService;
 
 import lombok.AllArgsConstructor;
@@ -20,13 +21,26 @@ public class BuildCorrectorAgent {
 
     private static final String BUILD_CORRECTOR_AGENT_NAME = "BuildCorrectorAgent";
     private final UtilityService utilityService;
+    private final ModelRouter modelRouter;
 
-    public String runBuildCorrectorAgent(String buildLog, String reviewAnalysis, String allSourceFiles) {
+    /**
+     * @param escalationLevel number of previous fixes that still failed to compile; each one moves
+     *                        the request one tier up the agent's model route.
+     */
+    public String runBuildCorrectorAgent(String buildLog, String reviewAnalysis, String allSourceFiles, int escalationLevel) {
         log.info("--- 🤖 Starting Build Corrector Agent ---");
-        LlmAgent correctorAgent = LlmAgent.builder()
-                .name(BUILD_CORRECTOR_AGENT_NAME)
-                .description("Analyzes build failures and corrects the faulty Java code across the entire project.")
-                .instruction("""
+        final Content userMsg = Content.fromParts(
+            Part.fromText("**BUILD LOG:**\n" + buildLog),
+            Part.fromText("\n**REVIEW ANALYSIS:**\n" + reviewAnalysis),
+            Part.fromText("\n**PROJECT SOURCE FILES:**\n" + allSourceFiles)
+        );
+
+        try {
+            String response = modelRouter.route(BUILD_CORRECTOR_AGENT_NAME, escalationLevel, model -> {
+                LlmAgent correctorAgent = LlmAgent.builder()
+                        .name(BUILD_CORRECTOR_AGENT_NAME)
+                        .description("Analyzes build failures and corrects the faulty Java code across the entire project.")
+                        .instruction("""
 You are a Senior Software Engineer specializing in debugging and fixing build failures. You will be given a Maven build log, an analysis of the failure, and the full content of ALL source files in the project.
 
 Your task is to identify the root cause of the build failure and provide the corrected code for ALL files that need to be changed to fix the error.
@@ -41,23 +55,17 @@ Your task is to identify the root cause of the build failure and provide the cor
     - Follow the marker with the complete, corrected code for that file.
 5.  **Do not add any other explanation or text.** Your entire response must be only the file markers and their corresponding code blocks.
 """)
-                .model("gemini-2.0-flash")
-                .outputKey("corrected_code")
-                .build();
-
-        final InMemoryRunner runner = new InMemoryRunner(correctorAgent);
-        final Content userMsg = Content.fromParts(
-            Part.fromText("**BUILD LOG:**\n" + buildLog),
-            Part.fromText("\n**REVIEW ANALYSIS:**\n" + reviewAnalysis),
-            Part.fromText("\n**PROJECT SOURCE FILES:**\n" + allSourceFiles)
-        );
+                        .model(model)
+                        .outputKey("corrected_code")
+                        .build();
 
-        try {
-            Event finalEvent = utilityService.retryWithBackoff(() -> {
-                Session session = runner.sessionService().createSession(runner.appName(), "user-build-corrector").blockingGet();
-                return runner.runAsync(session.userId(), session.id(), userMsg).blockingLast();
-            });
-            String response = finalEvent != null ? finalEvent.stringifyContent().trim() : "";
+                final InMemoryRunner runner = new InMemoryRunner(correctorAgent);
+                Event finalEvent = utilityService.retryWithBackoff(() -> {
+                    Session session = runner.sessionService().createSession(runner.appName(), "user-build-corrector").blockingGet();
+                    return runner.runAsync(session.userId(), session.id(), userMsg).blockingLast();
+                });
+                return finalEvent != null ? finalEvent.stringifyContent().trim() : "";
+            }, BuildCorrectorAgent::containsFileMarkers);
             log.info("Full raw response from BuildCorrectorAgent:\n---\n{}\n---", response);
             // The response can be directly passed to writeClassesToFileSystem, so we just return it.
             if (!response.isBlank()) {
@@ -75,4 +83,8 @@ Your task is to identify the root cause of the build failure and provide the cor
         }
     }
 
+    private static boolean containsFileMarkers(String response) {
+        return response.contains("// Refactored File:") || response.contains("// Create File:");
+    }
+
 }
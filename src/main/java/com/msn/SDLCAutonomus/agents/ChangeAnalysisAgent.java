@@ -8,6 +8,7 @@ import com.google.adk.runner.InMemoryRunner;
 import com.google.adk.sessions.Session;
 import com.google.genai.types.Content;
 import com.google.genai.types.Part;
+import com.msn.SDLCAutonomus.service.ModelRouter;
 import com.msn.SDLCAutonomus.service.UtilityService;
 
 import lombok.AllArgsConstructor;
@@ -19,39 +20,48 @@ import lombok.extern.slf4j.Slf4j;
 public class ChangeAnalysisAgent {
 
     private final UtilityService utilityService;
+    private final ModelRouter modelRouter;
 
     private static final String CHANGE_ANALYSIS_AGENT_NAME = "ChangeAnalysisAgent";
     private static final String KEY_CHANGE_ANALYSIS = "change_analysis";
+    public static final String INITIAL_VERSION_MARKER = "--- INITIAL VERSION ---";
 
 
-    public String runChangeAnalysisAgent(String oldSrs, String newSrs) {
+    /**
+     * @param srsDiff a line diff of the story ("+ " added, "- " removed, "  " context), or the full
+     *                story prefixed with {@link #INITIAL_VERSION_MARKER} when there is no previous version.
+     */
+    public String runChangeAnalysisAgent(String srsDiff) {
         log.info("--- 🤖 Starting Change Analysis Agent ---");
-        LlmAgent changeAgent = LlmAgent.builder()
-                .name(CHANGE_ANALYSIS_AGENT_NAME)
-                .description("Compares old and new Jira stories to generate a changelog.")
-                .instruction("""
-                        You will be given an old and a new version of a Jira user story, separated by markers.
-                        Analyze the differences and generate a concise, human-readable changelog in Markdown format.
-                        Focus on added, removed, and modified features. If the old story is empty, state that this is the initial version of the project.
-                        If there are no functional changes between the two versions, respond with ONLY the text "No changes detected.".
-                        """)
-                .model("gemini-2.0-flash")
-                .outputKey(KEY_CHANGE_ANALYSIS)
-                .build();
-
-        String combinedInput = "--- OLD SRS ---\n" + oldSrs + "\n\n--- NEW SRS ---\n" + newSrs;
-
-        // Use the simpler, synchronous-style run method that handles session creation internally.
-        // This is more robust for single-shot agent invocations and avoids potential session state issues.
-        final InMemoryRunner runner = new InMemoryRunner(changeAgent);
-        final Content userMsg = Content.fromParts(Part.fromText(combinedInput));
-
-        Event finalEvent = utilityService.retryWithBackoff(() -> {
-            Session session = runner.sessionService().createSession(runner.appName(), "user-change-analyzer").blockingGet();
-            return runner.runAsync(session.userId(), session.id(), userMsg).blockingLast();
-        });
+        final Content userMsg = Content.fromParts(Part.fromText(srsDiff));
+
+        String analysis = modelRouter.route(CHANGE_ANALYSIS_AGENT_NAME, model -> {
+            LlmAgent changeAgent = LlmAgent.builder()
+                    .name(CHANGE_ANALYSIS_AGENT_NAME)
+                    .description("Summarizes the diff between two versions of a Jira story as a changelog.")
+                    .instruction("""
+                            You will be given a line diff between the previous and the new version of a Jira user story.
+                            Lines starting with "+ " were added, lines starting with "- " were removed, and lines starting with two spaces are unchanged context.
+                            Analyze the differences and generate a concise, human-readable changelog in Markdown format.
+                            Focus on added, removed, and modified features.
+                            If the input starts with "--- INITIAL VERSION ---", it is the full text of a first story: state that this is the initial version of the project and summarize it.
+                            If the changes are not functional (e.g. wording, formatting or typo fixes only), respond with ONLY the text "No changes detected.".
+                            """)
+                    .model(model)
+                    .outputKey(KEY_CHANGE_ANALYSIS)
+                    .build();
+
+            // Use the simpler, synchronous-style run method that handles session creation internally.
+            // This is more robust for single-shot agent invocations and avoids potential session state issues.
+            final InMemoryRunner runner = new InMemoryRunner(changeAgent);
+            Event finalEvent = utilityService.retryWithBackoff(() -> {
+                Session session = runner.sessionService().createSession(runner.appName(), "user-change-analyzer").blockingGet();
+                return runner.runAsync(session.userId(), session.id(), userMsg).blockingLast();
+            });
+            return finalEvent != null ? finalEvent.stringifyContent() : "";
+        }, response -> !response.isBlank());
         log.info("--- ✅ Finished Change Analysis Agent ---");
-        return finalEvent != null ? finalEvent.stringifyContent() : "";
+        return analysis;
     }
 
 }
@@ -8,6 +8,7 @@ import com.google.adk.runner.InMemoryRunner;
 import com.google.adk.sessions.Session;
 import com.google.genai.types.Content;
 import com.google.genai.types.Part;
+import com.msn.SDLCAutonomus.service.ModelRouter;
 import com.msn.SDLCAutonomus.service.UtilityService;
 
 import lombok.AllArgsConstructor;
@@ -19,49 +20,52 @@ import lombok.extern.slf4j.Slf4j;
 public class ContextExtractionAgent {
 
     private final UtilityService utilityService;
+    private final ModelRouter modelRouter;
 
     private static final String CONTEXT_EXTRACTION_AGENT_NAME = "ContextExtractionAgent";
 
     public String runContextExtractionAgent(String existingFileContent) {
         log.info("--- 🤖 Starting Context Extraction Agent ---");
-        LlmAgent contextAgent = LlmAgent.builder()
-            .name(CONTEXT_EXTRACTION_AGENT_NAME)
-            .description("Extracts class-level context and conventions from an existing Java file for use in code generation.")
-            .instruction("""
-                    You are an expert Java code analyst. Given the full content of a Java class, extract the following information as a structured summary for use in code generation:
-                    - The class name and its type (e.g., Controller, Service, Repository, Entity)
-                    - All class-level annotations (e.g., @RestController, @RequestMapping, @Service)
-                    - The value of any base @RequestMapping or similar annotation
-                    - All static variables/constants (names and values)
-                    - All field declarations (names, types, and annotations)
-                    - The names of injected dependencies (e.g., services, repositories)
-                    - Any naming conventions for objects or references
+        final Content userMsg = Content.fromParts(Part.fromText(existingFileContent));
 
-                    Output the information as a structured summary, e.g.:
-                    Class: EmployeeController
-                    Type: Controller
-                    Class-level Annotations: @RestController, @RequestMapping("/employees")
-                    Base RequestMapping: /employees
-                    Static Variables: [String API_VERSION = "v1"]
-                    Fields: [private final EmployeeService employeeService]
-                    Injected Dependencies: [employeeService]
-                    Naming Conventions: [employeeService for EmployeeService]
+        try {
+            String contextSummary = modelRouter.route(CONTEXT_EXTRACTION_AGENT_NAME, model -> {
+                LlmAgent contextAgent = LlmAgent.builder()
+                    .name(CONTEXT_EXTRACTION_AGENT_NAME)
+                    .description("Extracts class-level context and conventions from an existing Java file for use in code generation.")
+                    .instruction("""
+                            You are an expert Java code analyst. Given the full content of a Java class, extract the following information as a structured summary for use in code generation:
+                            - The class name and its type (e.g., Controller, Service, Repository, Entity)
+                            - All class-level annotations (e.g., @RestController, @RequestMapping, @Service)
+                            - The value of any base @RequestMapping or similar annotation
+                            - All static variables/constants (names and values)
+                            - All field declarations (names, types, and annotations)
+                            - The names of injected dependencies (e.g., services, repositories)
+                            - Any naming conventions for objects or references
 
-                    Do not include any code, only the structured summary.
-                    """)
-            .model("gemini-2.0-flash")
-            .outputKey("context")
-            .build();
+                            Output the information as a structured summary, e.g.:
+                            Class: EmployeeController
+                            Type: Controller
+                            Class-level Annotations: @RestController, @RequestMapping("/employees")
+                            Base RequestMapping: /employees
+                            Static Variables: [String API_VERSION = "v1"]
+                            Fields: [private final EmployeeService employeeService]
+                            Injected Dependencies: [employeeService]
+                            Naming Conventions: [employeeService for EmployeeService]
 
-        final InMemoryRunner runner = new InMemoryRunner(contextAgent);
-        final Content userMsg = Content.fromParts(Part.fromText(existingFileContent));
+                            Do not include any code, only the structured summary.
+                            """)
+                    .model(model)
+                    .outputKey("context")
+                    .build();
 
-        try {
-            Event finalEvent = utilityService.retryWithBackoff(() -> {
-                Session session = runner.sessionService().createSession(runner.appName(), "user-context-extractor").blockingGet();
-                return runner.runAsync(session.userId(), session.id(), userMsg).blockingLast();
-            });
-            String contextSummary = finalEvent != null ? finalEvent.stringifyContent().trim() : "";
+                final InMemoryRunner runner = new InMemoryRunner(contextAgent);
+                Event finalEvent = utilityService.retryWithBackoff(() -> {
+                    Session session = runner.sessionService().createSession(runner.appName(), "user-context-extractor").blockingGet();
+                    return runner.runAsync(session.userId(), session.id(), userMsg).blockingLast();
+                });
+                return finalEvent != null ? finalEvent.stringifyContent().trim() : "";
+            }, summary -> summary.contains("Class:"));
             log.info("✅ ContextExtractionAgent summary:\n{}", contextSummary);
             log.info("--- ✅ Finished Context Extraction Agent ---");
             return contextSummary;
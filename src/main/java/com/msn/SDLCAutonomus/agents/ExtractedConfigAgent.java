@@ -17,6 +17,7 @@ import com.google.genai.types.Part;
 import com.msn.SDLCAutonomus.model.ExtractedConfig;
 import com.msn.SDLCAutonomus.model.GitConfig;
 import com.msn.SDLCAutonomus.model.ProjectConfig;
+import com.msn.SDLCAutonomus.service.ModelRouter;
 import com.msn.SDLCAutonomus.service.UtilityService;
 
 import lombok.AllArgsConstructor;
@@ -28,6 +29,9 @@ import lombok.extern.slf4j.Slf4j;
 public class ExtractedConfigAgent {
 
     private final UtilityService utilityService;
+    private final ModelRouter modelRouter;
+
+    private static final String CONFIG_AGENT_NAME = "ConfigAgent";
 
     private static final String SRS_KEY_GITHUB_URL = "GitHub-URL";
     private static final String SRS_KEY_CHECKOUT_BRANCH = "checkout_branch";
@@ -38,55 +42,58 @@ public class ExtractedConfigAgent {
 
     public ExtractedConfig runConfigAgent(String srsContent) throws IOException {
         log.info("--- 🤖 Starting Config Agent ---");
-        LlmAgent configAgent = LlmAgent.builder()
-                .name("ConfigAgent")
-                .description("Extracts all key project configurations from a Jira user story.")
-                .instruction("""
-                    You are an expert configuration parser. Analyze the following Jira user story text.
-                    Your task is to intelligently extract values for a predefined set of configuration keys.
-
-                    **Be flexible with the input format.** The keys in the story text might be phrased differently, have different casing, or lack hyphens. You must map them to the canonical keys below.
-                    - **Handle Partial Versions**: If the `SpringBoot-Version` in the text is a partial or wildcard version (e.g., `3.2.x`, `3.2.*`, or just `3.2`), you MUST ignore it and use the default version instead. Only use a version from the text if it is a complete, concrete version (e.g., `3.5.3`).
-                    For example:
-                    - "java 21", "java-version: 21", or "Java Version 21" should all map to `Java-Version: 21`.
-                    - "spring boot 3.5.3" should be mapped to `SpringBoot-Version: 3.5.3`.
-                    - "spring boot 3.2.x" or "springboot-version: 3.2" MUST be ignored, and you should use the default.
-                    - "Repo Name my-project" or "Repository-Name: my-project" should map to `Repository-Name: my-project`.
-
-                    **Output Format:**
-                    You MUST respond with ONLY the canonical key-value pairs, one per line. Do not include any other text or explanation.
-
-                    **Canonical Keys to Extract:**
-                    - `GitHub-URL`
-                    - `checkout_branch`
-                    - `Repository-Name`
-                    - `Java-Version`
-                    - `SpringBoot-Version`
-                    - `Package-Name`
-
-                    **Default Values:**
-                    If a value is not specified for `Java-Version`, `SpringBoot-Version`, or if the `SpringBoot-Version` is partial/wildcard, you MUST use the following default values:
-                    - `Java-Version: 17`
-                    - `SpringBoot-Version: 3.5.3`
-                    If `Package-Name` is not specified, default to `com.generated.microservice`.
-
-                    **Mandatory Keys:**
-                    The keys `GitHub-URL`, `checkout_branch`, and `Repository-Name` are mandatory. If you cannot find them in the text, respond with an empty value for that key.
-                    """)
-                .model("gemini-2.0-flash")
-                .outputKey("config")
-                .build();
 
         try {
-            final InMemoryRunner runner = new InMemoryRunner(configAgent);
             final Content userMsg = Content.fromParts(Part.fromText(srsContent));
 
-            Event finalEvent = utilityService.retryWithBackoff(() -> {
-                Session session = runner.sessionService().createSession(runner.appName(), "user-config-analyzer").blockingGet();
-                return runner.runAsync(session.userId(), session.id(), userMsg).blockingLast();
-            });
-
-            String response = finalEvent != null ? finalEvent.stringifyContent() : "";
+            // A lighter model is usually enough; escalate only if it misses a mandatory key.
+            String response = modelRouter.route(CONFIG_AGENT_NAME, model -> {
+                LlmAgent configAgent = LlmAgent.builder()
+                        .name(CONFIG_AGENT_NAME)
+                        .description("Extracts all key project configurations from a Jira user story.")
+                        .instruction("""
+                            You are an expert configuration parser. Analyze the following Jira user story text.
+                            Your task is to intelligently extract values for a predefined set of configuration keys.
+
+                            **Be flexible with the input format.** The keys in the story text might be phrased differently, have different casing, or lack hyphens. You must map them to the canonical keys below.
+                            - **Handle Partial Versions**: If the `SpringBoot-Version` in the text is a partial or wildcard version (e.g., `3.2.x`, `3.2.*`, or just `3.2`), you MUST ignore it and use the default version instead. Only use a version from the text if it is a complete, concrete version (e.g., `3.5.3`).
+                            For example:
+                            - "java 21", "java-version: 21", or "Java Version 21" should all map to `Java-Version: 21`.
+                            - "spring boot 3.5.3" should be mapped to `SpringBoot-Version: 3.5.3`.
+                            - "spring boot 3.2.x" or "springboot-version: 3.2" MUST be ignored, and you should use the default.
+                            - "Repo Name my-project" or "Repository-Name: my-project" should map to `Repository-Name: my-project`.
+
+                            **Output Format:**
+                            You MUST respond with ONLY the canonical key-value pairs, one per line. Do not include any other text or explanation.
+
+                            **Canonical Keys to Extract:**
+                            - `GitHub-URL`
+                            - `checkout_branch`
+                            - `Repository-Name`
+                            - `Java-Version`
+                            - `SpringBoot-Version`
+                            - `Package-Name`
+
+                            **Default Values:**
+                            If a value is not specified for `Java-Version`, `SpringBoot-Version`, or if the `SpringBoot-Version` is partial/wildcard, you MUST use the following default values:
+                            - `Java-Version: 17`
+                            - `SpringBoot-Version: 3.5.3`
+                            If `Package-Name` is not specified, default to `com.generated.microservice`.
+
+                            **Mandatory Keys:**
+                            The keys `GitHub-URL`, `checkout_branch`, and `Repository-Name` are mandatory. If you cannot find them in the text, respond with an empty value for that key.
+                            """)
+                        .model(model)
+                        .outputKey("config")
+                        .build();
+
+                final InMemoryRunner runner = new InMemoryRunner(configAgent);
+                Event finalEvent = utilityService.retryWithBackoff(() -> {
+                    Session session = runner.sessionService().createSession(runner.appName(), "user-config-analyzer").blockingGet();
+                    return runner.runAsync(session.userId(), session.id(), userMsg).blockingLast();
+                });
+                return finalEvent != null ? finalEvent.stringifyContent() : "";
+            }, candidate -> findMissingMandatoryKeys(candidate).isEmpty());
             log.debug("ConfigAgent Response:\\n{}", response);
 
             String repoUrl = parseSrsForValue(response, SRS_KEY_GITHUB_URL);
@@ -105,10 +112,7 @@ public class ExtractedConfigAgent {
             // --- END NEW LOGIC ---
 
             // --- NEW: Validate mandatory fields and fail fast ---
-            List<String> missingKeys = new ArrayList<>();
-            if (repoUrl == null || repoUrl.isBlank()) missingKeys.add(SRS_KEY_GITHUB_URL);
-            if (baseBranch == null || baseBranch.isBlank()) missingKeys.add(SRS_KEY_CHECKOUT_BRANCH);
-            if (repoPath == null || repoPath.isBlank()) missingKeys.add(SRS_KEY_REPO_NAME);
+            List<String> missingKeys = findMissingMandatoryKeys(response);
 
             if (!missingKeys.isEmpty()) {
                 String errorMessage = "ConfigAgent failed to extract mandatory keys: " + String.join(", ", missingKeys)
@@ -136,6 +140,15 @@ public class ExtractedConfigAgent {
     }
 
 
+    private static List<String> findMissingMandatoryKeys(String response) {
+        List<String> missingKeys = new ArrayList<>();
+        for (String key : List.of(SRS_KEY_GITHUB_URL, SRS_KEY_CHECKOUT_BRANCH, SRS_KEY_REPO_NAME)) {
+            String value = parseSrsForValue(response, key);
+            if (value == null || value.isBlank()) missingKeys.add(key);
+        }
+        return missingKeys;
+    }
+
     private static String parseSrsForValue(String srsContent, String key) {
         Pattern pattern = Pattern.compile("^" + key + ":\\s*(.+)$", Pattern.MULTILINE | Pattern.CASE_INSENSITIVE);
         Matcher matcher = pattern.matcher(srsContent);
@@ -8,12 +8,14 @@ import org.springframework.stereotype.Service;
 
 import com.google.adk.agents.LlmAgent;
 import com.google.adk.agents.SequentialAgent;
+import com.google.adk.events.Event;
 import com.google.adk.runner.InMemoryRunner;
 import com.google.adk.sessions.Session;
 import com.google.genai.types.Content;
 import com.google.genai.types.Part;
 import com.msn.SDLCAutonomus.model.ProjectConfig;
 import com.msn.SDLCAutonomus.model.WorkflowResult;
+import com.msn.SDLCAutonomus.service.ModelRouter;
 import com.msn.SDLCAutonomus.service.UtilityService;
 
 import lombok.AllArgsConstructor;
@@ -40,6 +42,7 @@ public class MainWorkflowAgent {
 
 
     private final UtilityService utilityService;
+    private final ModelRouter modelRouter;
 
 
     public WorkflowResult runMainWorkflow(String userInput, ProjectConfig projectConfig, Map<String, String> agentPrompts, List<String> existingPomDependencies) {
@@ -98,7 +101,61 @@ public class MainWorkflowAgent {
     }
 
 
-    public static SequentialAgent buildWorkflow(ProjectConfig projectConfig, Map<String, String> agentPrompts, List<String> existingPomDependencies) {
+    /**
+     * Asks the DependencyAgent to fix the coordinates the local verification could not resolve, before any build runs.
+     *
+     * @param dependencies the coordinates that passed verification
+     * @param problems one line per rejected coordinate and why
+     * @return the corrected, complete list, or an empty list if the agent gave no usable answer
+     */
+    public List<String> runDependencyCorrection(ProjectConfig projectConfig, List<String> dependencies, List<String> problems) {
+        log.info("--- 🤖 Starting Dependency Correction ---");
+        Content userMsg = Content.fromParts(
+            Part.fromText("**VERIFIED DEPENDENCIES:**\n" + String.join("\n", dependencies)),
+            Part.fromText("\n**UNRESOLVABLE DEPENDENCIES:**\n" + String.join("\n", problems)));
+        try {
+            String response = modelRouter.route(DEPENDENCY_AGENT_NAME, 1, model -> {
+                LlmAgent correctorAgent = LlmAgent.builder()
+                        .name(DEPENDENCY_AGENT_NAME)
+                        .description("Corrects Maven dependency coordinates that could not be resolved.")
+                        .instruction(String.format("""
+                            You selected Maven dependencies for a project using Java %s and Spring Boot %s. Some of them could not be resolved: \
+                            the artifact or version does not exist, or a version is missing for an artifact the Spring Boot parent POM does not manage.
+
+                            Provide the FINAL list of dependencies: all `VERIFIED DEPENDENCIES` unchanged, plus a corrected coordinate for each \
+                            `UNRESOLVABLE DEPENDENCIES` entry that is still needed. Use real, published coordinates only; drop an entry rather than guess.
+                            Omit the version for artifacts managed by Spring Boot %s.
+
+                            Provide ONLY `groupId:artifactId[:version][:scope]` tuples, one per line, followed by a line containing exactly "---END-DEPS---".
+                            """, projectConfig.getJavaVersion(), projectConfig.getSpringBootVersion(), projectConfig.getSpringBootVersion()))
+                        .model(model)
+                        .outputKey(KEY_DEPENDENCIES)
+                        .build();
+                InMemoryRunner runner = new InMemoryRunner(correctorAgent);
+                Event finalEvent = utilityService.retryWithBackoff(() -> {
+                    Session session = runner.sessionService().createSession(runner.appName(), "user-dependency-corrector").blockingGet();
+                    return runner.runAsync(session.userId(), session.id(), userMsg).blockingLast();
+                });
+                return finalEvent != null ? finalEvent.stringifyContent().trim() : "";
+            }, output -> output.contains(DEPS_SEPARATOR));
+
+            List<String> corrected = new ArrayList<>();
+            for (String line : response.split("\\s*" + DEPS_SEPARATOR + "\\s*")[0].split("\\r?\\n")) {
+                String coordinate = line.replace("`", "").strip();
+                if (coordinate.contains(":") && !coordinate.contains(" ")) {
+                    corrected.add(coordinate);
+                }
+            }
+            log.info("--- ✅ Finished Dependency Correction: {} dependencies ---", corrected.size());
+            return corrected;
+        } catch (Exception e) {
+            log.error("❌ The dependency correction failed: {}", e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+
+    public SequentialAgent buildWorkflow(ProjectConfig projectConfig, Map<String, String> agentPrompts, List<String> existingPomDependencies) {
         LlmAgent req = LlmAgent.builder()
                 .name(REQUIREMENTS_AGENT_NAME)
                 .description("Extracts structured functional requirements from a Jira user story.")
@@ -113,7 +170,7 @@ public class MainWorkflowAgent {
                         Constraints:
                         Logic:
                         """)
-                .model("gemini-2.0-flash")
+                .model(modelRouter.selectLlm(REQUIREMENTS_AGENT_NAME, 0))
                 .outputKey(KEY_REQUIREMENTS)
                 .build();
 
@@ -151,7 +208,7 @@ public class MainWorkflowAgent {
                     Requirements:
                     {requirements}
                     """, projectConfig.getJavaVersion(), projectConfig.getSpringBootVersion(), String.join("\n", existingPomDependencies), projectConfig.getSpringBootVersion()))
-                .model("gemini-2.0-flash")
+                .model(modelRouter.selectLlm(DEPENDENCY_AGENT_NAME, 0))
                 .outputKey(KEY_DEPENDENCIES)
                 .build();
 
@@ -159,7 +216,7 @@ public class MainWorkflowAgent {
                 .name(CODEGEN_AGENT_NAME)
                 .description("Generates a complete Spring Boot microservice skeleton based on structured requirements.")
                 .instruction(agentPrompts.get(CODEGEN_AGENT_NAME))
-                .model("gemini-2.0-flash")
+                .model(modelRouter.selectLlm(CODEGEN_AGENT_NAME, 0))
                 .outputKey(KEY_CODE)
                 .build();
 
@@ -167,7 +224,7 @@ public class MainWorkflowAgent {
                 .name(TESTGEN_AGENT_NAME)
                 .description("Generates JUnit 5 test cases for a Spring Boot microservice.")
                 .instruction(agentPrompts.get(TESTGEN_AGENT_NAME))
-                .model("gemini-2.0-flash")
+                .model(modelRouter.selectLlm(TESTGEN_AGENT_NAME, 0))
                 .outputKey(KEY_TEST)
                 .build();
 
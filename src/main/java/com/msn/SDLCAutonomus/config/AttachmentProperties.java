@@ -0,0 +1,34 @@
+package com.msn.SDLCAutonomus.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * Local handling of Jira attachments, bound from {@code sdlc.attachments.*} in application.properties.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sdlc.attachments")
+public class AttachmentProperties {
+
+    /** Directory of the on-disk attachment cache. */
+    private String cacheDir = "../temp/.sdlc-state/attachments";
+
+    /** Total size of the cache; least recently used files are evicted above it. */
+    private DataSize cacheMaxSize = DataSize.ofMegabytes(512);
+
+    /** Largest attachment that is downloaded at all; bigger ones fail before or during the transfer. */
+    private DataSize maxDownloadSize = DataSize.ofMegabytes(256);
+
+    /** Time limit of a single attachment download, redirects included. */
+    private Duration downloadTimeout = Duration.ofMinutes(2);
+
+    /** How much of an attachment is read into memory for the LLM stages; XML validation always streams the full file. */
+    private DataSize llmSampleSize = DataSize.ofMegabytes(1);
+
+}
@@ -0,0 +1,58 @@
+package com.msn.SDLCAutonomus.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Builds of the generated projects, bound from {@code sdlc.build.*} in application.properties.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sdlc.build")
+public class BuildProperties {
+
+    /** Build generated projects offline against the local repository of their Spring Boot version once it is warm. */
+    private boolean offline = true;
+
+    /** Directory holding one local Maven repository per Spring Boot version. */
+    private String repositoryCacheDir = "../temp/.sdlc-state/maven-repositories";
+
+    /** Fetch artifacts missing from a warm repository with one online build instead of failing the offline one; such builds of one repository run one at a time. */
+    private boolean fetchMissingOnline = true;
+
+    /** Warm the repositories of {@link #warmUpVersions} in the background when the application starts. */
+    private boolean warmUpOnStartup = false;
+
+    /** Spring Boot versions warmed at startup. */
+    private List<String> warmUpVersions = new ArrayList<>(List.of("3.5.3"));
+
+    /** Dependencies added to the seed project on top of the defaults every generated project gets. */
+    private List<String> seedDependencies = new ArrayList<>();
+
+    /** Java version of the seed project. */
+    private String seedJavaVersion = "17";
+
+    /** Reuse the outcome of an earlier build of the same {@code pom.xml} and {@code src} tree instead of building it again. */
+    private boolean resultCache = true;
+
+    /** Directory of the build result cache. */
+    private String resultCacheDir = "../temp/.sdlc-state/build-results";
+
+    /** Cached build outcomes kept; least recently used ones are evicted above it. */
+    private int resultCacheMaxEntries = 500;
+
+    /** Longest build failure log handed to the agents and cached; longer logs lose their middle. */
+    private int maxLogChars = 64_000;
+
+    /** Fixes requested from the BuildCorrectorAgent per self-healing round, each built in its own workspace copy; 1 keeps the serial loop. */
+    private int selfHealCandidates = 1;
+
+    /** Candidate builds that run at the same time (0 = half the cores, at least one). */
+    private int maxConcurrentBuilds = 0;
+
+}
@@ -0,0 +1,32 @@
+package com.msn.SDLCAutonomus.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Checks on the dependencies the DependencyAgent proposes, bound from {@code sdlc.dependencies.*} in
+ * application.properties.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sdlc.dependencies")
+public class DependencyProperties {
+
+    /** Verify the coordinates against the local repository and the Spring Boot BOM before the first build. */
+    private boolean verify = true;
+
+    /** Local Maven repository the coordinates are checked against; empty means {@code ~/.m2/repository}. */
+    private String localRepository = "";
+
+    /** Times the DependencyAgent is asked to fix coordinates that could not be resolved. */
+    private int correctionRounds = 1;
+
+    /**
+     * Treat coordinates missing from the local repository as unresolvable, and replace a version missing there by
+     * the newest local one of the same major version (for builds that run offline).
+     */
+    private boolean requireLocal = false;
+
+}
@@ -0,0 +1,27 @@
+package com.msn.SDLCAutonomus.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Settings of the shared Jira HTTP client, bound from {@code sdlc.jira.*} in application.properties.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sdlc.jira")
+public class JiraClientProperties {
+
+    /** TCP/TLS connect timeout of the shared client. */
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    /** Timeout of a single REST call (issue fetch). */
+    private Duration requestTimeout = Duration.ofSeconds(30);
+
+    /** How long attachment metadata fetched with the issue is reused before Jira is asked again. */
+    private Duration metadataCacheTtl = Duration.ofMinutes(10);
+
+}
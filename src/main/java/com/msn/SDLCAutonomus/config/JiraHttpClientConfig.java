@@ -0,0 +1,24 @@
+package com.msn.SDLCAutonomus.config;
+
+import java.net.http.HttpClient;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * One {@link HttpClient} for all Jira traffic so connections (and TLS sessions) are pooled and reused.
+ */
+@Configuration
+public class JiraHttpClientConfig {
+
+    @Bean
+    public HttpClient jiraHttpClient(JiraClientProperties properties) {
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(properties.getConnectTimeout())
+            // Attachment content answers with 303 to a signed URL; redirects are followed explicitly.
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.msn.SDLCAutonomus.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Local Jira stand-in used with the {@code jira-standin} profile, bound from {@code sdlc.jira-standin.*}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sdlc.jira-standin")
+public class JiraStandInProperties {
+
+    /** Port of the embedded server; 0 picks a free one. */
+    private int port = 0;
+
+    /**
+     * Directory with one sub-directory per issue key, each holding an {@code issue.json}
+     * ({@code summary}, {@code description}, optional {@code attachments} paths or {@code classpath:} locations)
+     * and/or an {@code attachments/} folder. Defaults to the fixtures bundled with the application; a filesystem
+     * directory overrides them.
+     */
+    private String fixtureDir = "classpath:jira-standin/";
+
+    /** Fixed delay added to every response. */
+    private Duration latency = Duration.ZERO;
+
+    /** Extra random delay, uniformly distributed between zero and this value. */
+    private Duration latencyJitter = Duration.ZERO;
+
+    /** Fraction of requests (0..1) answered with {@link #errorStatus} instead of the fixture. */
+    private double errorRate = 0.0;
+
+    private int errorStatus = 503;
+
+    /** Answer attachment content with a 303 to a second URL, the way Jira Cloud does. */
+    private boolean redirectAttachments = true;
+
+}
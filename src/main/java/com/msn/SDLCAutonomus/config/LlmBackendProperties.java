@@ -0,0 +1,49 @@
+package com.msn.SDLCAutonomus.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Model backend selection, bound from {@code sdlc.llm.*} in application.properties.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sdlc.llm")
+public class LlmBackendProperties {
+
+    public enum Mode {
+        /** Call the model provider directly. */
+        LIVE,
+        /** Call the model provider and store every request/response pair as a fixture. */
+        RECORD,
+        /** Serve responses from fixtures only; no network access. */
+        REPLAY
+    }
+
+    private Mode mode = Mode.LIVE;
+
+    /** Fixture store: one sub-directory per agent, one JSON file per distinct request. */
+    private String fixtureDir = "../temp/.sdlc-state/llm-fixtures";
+
+    /** Fixed delay added to every replayed response. */
+    private Duration replayLatency = Duration.ZERO;
+
+    /** Share of the recorded provider latency added to every replayed response (0 = none, 1 = as recorded). */
+    private double replayLatencyScale = 0.0;
+
+    /**
+     * Scripted responses per agent name, used in replay mode when no fixture matches the request.
+     * A {@code stub.txt} in the agent's fixture directory takes the same role.
+     */
+    private Map<String, String> stubs = new LinkedHashMap<>();
+
+    /** Response for agents without fixture or stub in replay mode. */
+    private String defaultStub = "";
+
+}
@@ -0,0 +1,32 @@
+package com.msn.SDLCAutonomus.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Per-agent model routing, bound from {@code sdlc.models.*} in application.properties.
+ * A route is an ordered list of tiers: the first tier is tried first and the following
+ * ones are only used when the agent output fails validation.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sdlc.models")
+public class ModelRoutingProperties {
+
+    /** Model id per tier name, e.g. {@code fast -> gemini-2.0-flash-lite}. */
+    private Map<String, String> tiers = new LinkedHashMap<>();
+
+    /** Tier chain for agents that have no explicit route. */
+    private List<String> defaultRoute = new ArrayList<>(List.of("standard"));
+
+    /** Tier chain per agent name (the LlmAgent name, e.g. {@code ConfigAgent}). */
+    private Map<String, List<String>> routes = new LinkedHashMap<>();
+
+}
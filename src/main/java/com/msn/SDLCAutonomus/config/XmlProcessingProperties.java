@@ -0,0 +1,43 @@
+package com.msn.SDLCAutonomus.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * Local XML processing of source documents, bound from {@code sdlc.xml.*} in application.properties.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sdlc.xml")
+public class XmlProcessingProperties {
+
+    /** Streaming validation stops after this many schema errors. */
+    private int maxValidationErrors = 20;
+
+    /** Distinct element paths kept in the structural summary; deeper variety is counted but not listed. */
+    private int summaryMaxPaths = 500;
+
+    /** The XSD is inferred locally; when enabled the XsdGeneratorAgent additionally applies the mapping rules to it. */
+    private boolean llmXsdRefinement = false;
+
+    /** POJOs are generated locally; when enabled the XmlPojoAgent is asked if local generation fails. */
+    private boolean llmPojoFallback = false;
+
+    /** Worker threads for batch transformations; 0 uses one per core. */
+    private int batchParallelism = 0;
+
+    /** Root of the directories batch transformations read and write; request paths are relative to it and cannot leave it. */
+    private String batchDirectoryRoot = "../temp/xml-batch";
+
+    /** Largest upload the streaming route accepts, per file and per request; negative means no limit. Other routes keep spring.servlet.multipart.*. */
+    private DataSize streamMaxUploadSize = DataSize.ofMegabytes(200);
+
+    /** How long the streaming route may take to send its response; zero means no limit. Other routes keep spring.mvc.async.request-timeout. */
+    private Duration streamTimeout = Duration.ZERO;
+
+}
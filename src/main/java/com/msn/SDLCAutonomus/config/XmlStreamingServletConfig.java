@@ -0,0 +1,33 @@
+package com.msn.SDLCAutonomus.config;
+
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import jakarta.servlet.MultipartConfigElement;
+
+/**
+ * Serves {@code /sdlc/auto/xml-transform/stream} from a DispatcherServlet of its own, since multipart limits are
+ * set per servlet: this one takes uploads up to {@code sdlc.xml.stream-max-upload-size}, spooled to disk, while
+ * the main servlet keeps {@code spring.servlet.multipart.*}. Both dispatch to the same controllers.
+ */
+@Configuration
+public class XmlStreamingServletConfig {
+
+    private static final String STREAM_PATH = "/sdlc/auto/xml-transform/stream";
+
+    @Bean
+    public ServletRegistrationBean<DispatcherServlet> xmlStreamingServlet(WebApplicationContext context, XmlProcessingProperties properties) {
+        ServletRegistrationBean<DispatcherServlet> registration = new ServletRegistrationBean<>(new DispatcherServlet(context), STREAM_PATH);
+        registration.setName("xmlStreamingDispatcher");
+        registration.setAsyncSupported(true);
+        registration.setLoadOnStartup(1);
+        long maxSize = properties.getStreamMaxUploadSize().toBytes();
+        // A threshold of 0 writes every part straight to disk.
+        registration.setMultipartConfig(new MultipartConfigElement("", maxSize, maxSize, 0));
+        return registration;
+    }
+
+}
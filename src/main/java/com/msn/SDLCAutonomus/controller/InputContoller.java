@@ -1,15 +1,37 @@
 package com.msn.SDLCAutonomus.controller;
 
+import com.msn.SDLCAutonomus.config.XmlProcessingProperties;
+import com.msn.SDLCAutonomus.model.BatchTransformationReport;
+import com.msn.SDLCAutonomus.service.BatchTransformationService;
+import com.msn.SDLCAutonomus.service.MappingEngineService;
+import com.msn.SDLCAutonomus.service.MappingPlan;
+import com.msn.SDLCAutonomus.service.MavenRepositoryCache;
 import com.msn.SDLCAutonomus.service.SDLCAutoService;
+import com.msn.SDLCAutonomus.service.StreamingMappingService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @AllArgsConstructor
@@ -17,6 +39,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/sdlc/auto")
 public class InputContoller {
     private final SDLCAutoService sdlcAutoService;
+    private final MappingEngineService mappingEngineService;
+    private final StreamingMappingService streamingMappingService;
+    private final BatchTransformationService batchTransformationService;
+    private final MavenRepositoryCache mavenRepositoryCache;
+    private final XmlProcessingProperties xmlProcessingProperties;
 
     @GetMapping("/code/{jiraTicket}")
     public String takeJiraTicket(@PathVariable String jiraTicket) throws Exception {
@@ -41,10 +68,67 @@ public class InputContoller {
         return sdlcAutoService.runXmlTransformationWorkflowFromJiraAttachments(jiraTicket, xmlAttachmentName, jsonAttachmentName, targetXmlAttachmentName);
     }
 
+    // --- NEW: Runs a mapping JSON on a large source XML and streams the target document back ---
+    // Served by its own servlet (XmlStreamingServletConfig) for the upload limit; the response timeout is set here.
+    @PostMapping(value = "/xml-transform/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamXmlTransformation(
+            @RequestPart("mapping") MultipartFile mapping,
+            @RequestPart("source") MultipartFile source,
+            HttpServletRequest request) throws Exception {
+        log.info("Streaming XML Transformation Request - Mapping: {}, Source: {} ({} bytes)",
+                mapping.getOriginalFilename(), source.getOriginalFilename(), source.getSize());
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(xmlProcessingProperties.getStreamTimeout().toMillis());
+        MappingPlan plan = mappingEngineService.compile(new String(mapping.getBytes(), StandardCharsets.UTF_8));
+        StreamingResponseBody body = out -> streamingMappingService.transform(plan, source, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_XML).body(body);
+    }
+
+    // --- NEW: Batch transformation of uploaded documents, returned as a zip with transformation-report.json ---
+    @PostMapping(value = "/xml-transform/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = "application/zip")
+    public ResponseEntity<StreamingResponseBody> batchXmlTransformation(
+            @RequestPart("mapping") MultipartFile mapping,
+            @RequestPart(value = "xsd", required = false) MultipartFile xsd,
+            @RequestPart("sources") List<MultipartFile> sources) throws Exception {
+        log.info("Batch XML Transformation Request - Mapping: {}, XSD: {}, Sources: {}",
+                mapping.getOriginalFilename(), xsd == null ? null : xsd.getOriginalFilename(), sources.size());
+        MappingPlan plan = mappingEngineService.compile(new String(mapping.getBytes(), StandardCharsets.UTF_8));
+        String xsdContent = xsd == null ? null : new String(xsd.getBytes(), StandardCharsets.UTF_8);
+        StreamingResponseBody body = out -> batchTransformationService.transformToZip(plan, xsdContent, sources, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transformed.zip\"")
+                .body(body);
+    }
+
+    // --- NEW: Batch transformation of a server-side directory of documents into an output directory ---
+    // Both directories are relative to sdlc.xml.batch-directory-root; anything resolving outside it is rejected.
+    @PostMapping(value = "/xml-transform/batch/directory", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public BatchTransformationReport batchXmlTransformationOfDirectory(
+            @RequestParam("inputDir") String inputDir,
+            @RequestParam("outputDir") String outputDir,
+            @RequestPart("mapping") MultipartFile mapping,
+            @RequestPart(value = "xsd", required = false) MultipartFile xsd) throws IOException {
+        log.info("Batch XML Transformation Request - Input: {}, Output: {}", inputDir, outputDir);
+        MappingPlan plan = mappingEngineService.compile(new String(mapping.getBytes(), StandardCharsets.UTF_8));
+        String xsdContent = xsd == null ? null : new String(xsd.getBytes(), StandardCharsets.UTF_8);
+        try {
+            return batchTransformationService.transformDirectoryUnderRoot(plan, xsdContent, inputDir, outputDir);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
     @GetMapping("/attachments/{jiraTicket}")
     public String listJiraAttachments(@PathVariable String jiraTicket) throws Exception {
         log.info("Listing attachments for Jira ticket: {}", jiraTicket);
         return sdlcAutoService.listJiraAttachments(jiraTicket);
     }
 
+    // --- NEW: One-off warm-up of the offline Maven repository generated projects on this Spring Boot version build against ---
+    @PostMapping("/maven-repository/{springBootVersion}/warm-up")
+    public String warmUpMavenRepository(@PathVariable String springBootVersion) throws Exception {
+        log.info("Maven repository warm-up request - Spring Boot: {}", springBootVersion);
+        return mavenRepositoryCache.warmUp(springBootVersion).toString();
+    }
+
 }
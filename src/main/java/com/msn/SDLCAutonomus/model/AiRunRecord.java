@@ -0,0 +1,26 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One pipeline run as stored under {@code .ai-state/runs/} in the target repository.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AiRunRecord {
+    private int runId;
+    private String issueKey;
+    private String branch;
+    private String timestamp;
+    private String srsSha256;
+    private String srs;
+    private String changeAnalysis;
+    private List<String> generatedFiles = new ArrayList<>();
+    private String outcome;
+}
@@ -0,0 +1,22 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one document in a batch transformation; {@code error} is set when no target was written.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchDocumentResult {
+    private String document;
+    private boolean transformed;
+    private String error;
+    private List<MappingViolation> violations = new ArrayList<>();
+    private long elapsedMillis;
+}
@@ -0,0 +1,24 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-document results of a batch transformation, in input order.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchTransformationReport {
+    private int documentCount;
+    private int transformedCount;
+    /** Transformed documents whose mapping validation found violations. */
+    private int withViolationsCount;
+    private int failedCount;
+    private long elapsedMillis;
+    private List<BatchDocumentResult> documents = new ArrayList<>();
+}
@@ -0,0 +1,22 @@
+package com.msn.SDLCAutonomus.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of one {@code mvn clean verify} of a generated project, as kept in the build result cache.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BuildOutcome {
+    /** Content hash of {@code pom.xml} and {@code src/**} that was built. */
+    private String treeHash;
+    private boolean success;
+    /** The distilled build log of a failure; null on success. */
+    private String log;
+    private long durationMillis;
+    /** ISO-8601 instant the build finished. */
+    private String builtAt;
+}
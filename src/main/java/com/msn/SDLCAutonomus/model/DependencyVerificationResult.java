@@ -0,0 +1,25 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of checking the DependencyAgent's coordinates before a build.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DependencyVerificationResult {
+    /** Coordinates that can go into the POM, with corrected versions applied. */
+    private List<String> dependencies = new ArrayList<>();
+    /** What was changed, one line per corrected coordinate. */
+    private List<String> corrections = new ArrayList<>();
+    /** Coordinates that would break the build, as given. */
+    private List<String> unresolved = new ArrayList<>();
+    /** Why each unresolved coordinate was rejected, in the same order. */
+    private List<String> problems = new ArrayList<>();
+}
@@ -0,0 +1,81 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Element declaration inferred from sample XML documents or read from an XSD: occurrence bounds, value type,
+ * attributes and child elements in document order. Built by {@code XsdInferenceService} and rendered as XSD or Java.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class InferredXmlElement {
+
+    /** Primitive content types, narrowest first; two different observations widen to the closest common type. */
+    public enum ValueType {
+        BOOLEAN("xs:boolean"),
+        INT("xs:int"),
+        /** Only from a provided XSD; inference keeps long digit runs as strings. */
+        LONG("xs:long"),
+        DECIMAL("xs:decimal"),
+        DATE("xs:date"),
+        DATE_TIME("xs:dateTime"),
+        STRING("xs:string");
+
+        private final String xsdType;
+
+        ValueType(String xsdType) {
+            this.xsdType = xsdType;
+        }
+
+        public String getXsdType() {
+            return xsdType;
+        }
+
+        public ValueType widen(ValueType other) {
+            if (other == null || other == this) {
+                return this;
+            }
+            boolean numeric = this == INT || this == LONG || this == DECIMAL;
+            boolean otherNumeric = other == INT || other == LONG || other == DECIMAL;
+            if (numeric && otherNumeric) {
+                return ordinal() > other.ordinal() ? this : other;
+            }
+            return STRING;
+        }
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Attribute {
+        private String name;
+        private ValueType type;
+        private boolean required;
+    }
+
+    private String name;
+    private String namespace;
+    private int minOccurs;
+    /** -1 for unbounded. */
+    private int maxOccurs;
+    /** Type of the text content; null when the element only ever had child elements or no content at all. */
+    private ValueType type;
+    /** Children did not always appear in the same order, so they are declared as a repeating choice. */
+    private boolean unordered;
+    /** Text appeared next to child elements. */
+    private boolean mixed;
+    private Map<String, Attribute> attributes = new LinkedHashMap<>();
+    private List<InferredXmlElement> children = new ArrayList<>();
+
+    public boolean isComplex() {
+        return !children.isEmpty() || !attributes.isEmpty();
+    }
+}
@@ -8,8 +8,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 public class JiraAttachment {
+    private String id;
     private String filename;
     private String contentUrl;
     private Long size;
     private String mimeType;
+    private String created;
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JiraIssue {
+    private String issueKey;
+    private String summary;
+    private String description;
+    private List<JiraAttachment> attachments = new ArrayList<>();
+}
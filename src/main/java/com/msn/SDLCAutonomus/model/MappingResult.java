@@ -0,0 +1,23 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Target document produced by executing a mapping, with every rule violation found on the way.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MappingResult {
+    private String targetXml;
+    private List<MappingViolation> violations = new ArrayList<>();
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+}
@@ -0,0 +1,18 @@
+package com.msn.SDLCAutonomus.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One mapping rule a document did not satisfy, at its target path (e.g. {@code PurchaseOrder.Products.Product[2].Qty}).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MappingViolation {
+    private String path;
+    /** The validation key that failed: required, type, minLength, maxLength, pattern, min, max, occurrence or transform. */
+    private String rule;
+    private String message;
+}
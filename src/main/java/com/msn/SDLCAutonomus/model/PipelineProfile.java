@@ -0,0 +1,24 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-stage breakdown of one {@code runSDLCAuto} call, in the order the stages first ran.
+ * Totals cover the whole run, so anything not inside a named stage is their difference to the stage sum.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PipelineProfile {
+    private String issueKey;
+    private String startedAt;
+    private long totalWallNanos;
+    private long totalCpuNanos;
+    private long totalAllocatedBytes;
+    private Map<String, StageMetrics> stages = new LinkedHashMap<>();
+}
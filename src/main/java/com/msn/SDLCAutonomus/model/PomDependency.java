@@ -0,0 +1,34 @@
+package com.msn.SDLCAutonomus.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One {@code <dependency>} of a POM, with its version resolved against the POM's properties.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PomDependency {
+    private String groupId;
+    private String artifactId;
+    /** The version with {@code ${property}} references resolved; null when managed elsewhere. */
+    private String version;
+    /** The version as written, e.g. {@code ${springdoc.version}}. */
+    private String declaredVersion;
+    private String type;
+    private String classifier;
+    /** Null means the default (compile) scope. */
+    private String scope;
+    private boolean optional;
+
+    public String getKey() {
+        return groupId + ":" + artifactId;
+    }
+
+    /** A jar without a classifier: the only kind of dependency a {@code groupId:artifactId} coordinate names. */
+    public boolean isPlainJar() {
+        return (type == null || type.equals("jar")) && classifier == null;
+    }
+}
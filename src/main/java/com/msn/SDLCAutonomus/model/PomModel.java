@@ -0,0 +1,31 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The parts of a {@code pom.xml} the pipeline reads, with dependencies kept apart by section.
+ */
+@Data
+@NoArgsConstructor
+public class PomModel {
+    private String groupId;
+    private String artifactId;
+    private String version;
+    private String packaging;
+    private String parentGroupId;
+    private String parentArtifactId;
+    private String parentVersion;
+    private Map<String, String> properties = new LinkedHashMap<>();
+    /** {@code project/dependencies}: what the project actually depends on. */
+    private List<PomDependency> dependencies = new ArrayList<>();
+    /** {@code project/dependencyManagement/dependencies}, BOM imports included. */
+    private List<PomDependency> managedDependencies = new ArrayList<>();
+    /** Dependencies declared inside {@code build} plugins. */
+    private List<PomDependency> pluginDependencies = new ArrayList<>();
+}
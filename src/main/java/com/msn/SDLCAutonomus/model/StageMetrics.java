@@ -0,0 +1,19 @@
+package com.msn.SDLCAutonomus.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Time and allocation spent in one pipeline stage, excluding nested stages.
+ * CPU time and allocated bytes are measured on the thread that ran the stage.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StageMetrics {
+    private int count;
+    private long wallNanos;
+    private long cpuNanos;
+    private long allocatedBytes;
+}
@@ -0,0 +1,23 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a streaming mapping run; the target document itself went straight to the output stream.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StreamingMappingResult {
+    /** Repeating source elements mapped one at a time. */
+    private long itemCount;
+    private long violationCount;
+    /** The first violations, up to {@code sdlc.xml.max-validation-errors}. */
+    private List<MappingViolation> violations = new ArrayList<>();
+    private long elapsedMillis;
+}
@@ -0,0 +1,22 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of one streaming validation pass: the first errors found and the document structure.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class XmlStreamValidationResult {
+    private boolean valid;
+    private List<XmlValidationError> errors = new ArrayList<>();
+    /** True when validation stopped at the error limit, so later errors were not looked for. */
+    private boolean errorLimitReached;
+    private XmlStructureSummary summary;
+}
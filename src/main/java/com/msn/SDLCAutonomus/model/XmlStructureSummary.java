@@ -0,0 +1,38 @@
+package com.msn.SDLCAutonomus.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Shape of an XML document collected while it streams past: every distinct element path with its
+ * counts, attributes and first text value, in document order.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class XmlStructureSummary {
+    private String rootElement;
+    private long elementCount;
+    private int maxDepth;
+    /** False when the pass stopped early or more than {@code summary-max-paths} paths were seen. */
+    private boolean complete = true;
+    private Map<String, PathStats> paths = new LinkedHashMap<>();
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PathStats {
+        private long occurrences;
+        /** Highest number of times the element appeared under a single parent; above 1 it is a repeating element. */
+        private int maxPerParent;
+        private boolean hasChildren;
+        private Set<String> attributes = new TreeSet<>();
+        private String sampleValue;
+    }
+}
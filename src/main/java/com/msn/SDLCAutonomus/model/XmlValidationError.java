@@ -0,0 +1,17 @@
+package com.msn.SDLCAutonomus.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One schema or well-formedness error, with the position reported by the parser (-1 when unknown).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class XmlValidationError {
+    private int line;
+    private int column;
+    private String message;
+}
@@ -0,0 +1,17 @@
+package com.msn.SDLCAutonomus.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of validating one document in a batch; {@code error} is null when the document is valid.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class XmlValidationResult {
+    private String document;
+    private boolean valid;
+    private String error;
+}
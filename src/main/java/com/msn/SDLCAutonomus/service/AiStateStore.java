@@ -0,0 +1,234 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.model.AiRunRecord;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Versioned state the pipeline keeps inside the target repository.
+ * <p>
+ * Every run is written to its own {@code .ai-state/runs/NNNNNN.json} record and a small
+ * {@code .ai-state/index.json} points at the latest one, so reading the latest SRS, change
+ * analysis, generated files and outcome costs two small file reads however long the history is.
+ * Repositories that only have the old append-only {@code jira_issue.txt} are still read (last entry only).
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AiStateStore {
+
+    public static final String OUTCOME_GENERATED = "GENERATED";
+    public static final String OUTCOME_BUILD_SUCCEEDED = "BUILD_SUCCEEDED";
+    public static final String OUTCOME_BUILD_FAILED = "BUILD_FAILED";
+
+    private static final String AI_STATE_DIR = ".ai-state";
+    private static final String RUNS_DIR = "runs";
+    private static final String INDEX_FILE_NAME = "index.json";
+    private static final String LEGACY_STATE_FILE_NAME = "jira_issue.txt";
+    private static final int FORMAT_VERSION = 1;
+
+    private final SrsFingerprintService srsFingerprintService;
+
+
+    /**
+     * Returns the latest run recorded in the repository, falling back to the last entry of the legacy state file.
+     */
+    public Optional<AiRunRecord> readLatest(String repoDir) {
+        try {
+            JSONObject index = readIndex(repoDir);
+            if (index != null) {
+                Path recordFile = stateDir(repoDir).resolve(index.getJSONObject("latest").getString("file"));
+                return Optional.of(fromJson(new JSONObject(Files.readString(recordFile, StandardCharsets.UTF_8))));
+            }
+            return readLegacyLatest(repoDir);
+        } catch (IOException | JSONException e) {
+            log.warn("Could not read .ai-state for {}: {}", repoDir, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Hash of the latest recorded SRS, read from the index alone; null if nothing has been recorded.
+     */
+    public String latestSrsFingerprint(String repoDir) {
+        try {
+            JSONObject index = readIndex(repoDir);
+            if (index != null) {
+                return index.getJSONObject("latest").optString("srsSha256", null);
+            }
+            return readLegacyLatest(repoDir).map(AiRunRecord::getSrsSha256).orElse(null);
+        } catch (IOException | JSONException e) {
+            log.warn("Could not read .ai-state index for {}: {}", repoDir, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Records a new run and makes it the latest one. Returns the assigned run id.
+     */
+    public int appendRun(String repoDir, String issueKey, String branch, String srs, String changeAnalysis, List<String> generatedFiles) throws IOException {
+        JSONObject index = readIndex(repoDir);
+        int runId = index == null ? 1 : index.getInt("latestRun") + 1;
+
+        AiRunRecord record = new AiRunRecord(
+            runId,
+            issueKey,
+            branch,
+            LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+            srsFingerprintService.fingerprint(srs),
+            srs,
+            changeAnalysis,
+            new ArrayList<>(new LinkedHashSet<>(generatedFiles)),
+            OUTCOME_GENERATED
+        );
+        writeRecord(repoDir, record);
+        log.info("✅ Recorded AI run #{} in {}", runId, AI_STATE_DIR);
+        return runId;
+    }
+
+    /**
+     * Sets the outcome of the latest run and adds any files written after generation (e.g. by self-healing).
+     */
+    public void updateLatestOutcome(String repoDir, String outcome, List<String> additionalFiles) {
+        try {
+            Optional<AiRunRecord> latest = readLatest(repoDir);
+            if (latest.isEmpty() || latest.get().getRunId() == 0) {
+                log.warn("No AI run recorded in {}; outcome {} not stored.", repoDir, outcome);
+                return;
+            }
+            AiRunRecord record = latest.get();
+            Set<String> files = new LinkedHashSet<>(record.getGeneratedFiles());
+            files.addAll(additionalFiles);
+            record.setGeneratedFiles(new ArrayList<>(files));
+            record.setOutcome(outcome);
+            writeRecord(repoDir, record);
+        } catch (IOException e) {
+            log.error("❌ Failed to update outcome of the latest AI run: {}", e.getMessage());
+        }
+    }
+
+
+    private void writeRecord(String repoDir, AiRunRecord record) throws IOException {
+        String fileName = RUNS_DIR + "/" + String.format("%06d.json", record.getRunId());
+        writeAtomically(stateDir(repoDir).resolve(fileName), toJson(record).toString(2));
+
+        JSONObject latest = new JSONObject()
+            .put("runId", record.getRunId())
+            .put("file", fileName)
+            .put("issueKey", record.getIssueKey())
+            .put("branch", record.getBranch())
+            .put("timestamp", record.getTimestamp())
+            .put("srsSha256", record.getSrsSha256())
+            .put("outcome", record.getOutcome());
+        JSONObject index = new JSONObject()
+            .put("formatVersion", FORMAT_VERSION)
+            .put("latestRun", record.getRunId())
+            .put("latest", latest);
+        // The index is written last so a crash never leaves it pointing at a missing record.
+        writeAtomically(stateDir(repoDir).resolve(INDEX_FILE_NAME), index.toString(2));
+    }
+
+    private JSONObject readIndex(String repoDir) throws IOException {
+        Path indexFile = stateDir(repoDir).resolve(INDEX_FILE_NAME);
+        if (!Files.exists(indexFile)) {
+            return null;
+        }
+        return new JSONObject(Files.readString(indexFile, StandardCharsets.UTF_8));
+    }
+
+    private Optional<AiRunRecord> readLegacyLatest(String repoDir) throws IOException {
+        Path legacyFile = stateDir(repoDir).resolve(LEGACY_STATE_FILE_NAME);
+        if (!Files.exists(legacyFile)) {
+            return Optional.empty();
+        }
+        String history = Files.readString(legacyFile, StandardCharsets.UTF_8);
+        String srs;
+        int end = history.lastIndexOf("\n--- END ---");
+        if (end < 0) {
+            srs = history.trim();
+        } else {
+            // Each entry is "---\n**Date:** ...\n**Branch:** ...\n---\n\n<srs>\n--- END ---".
+            int branchLine = history.lastIndexOf("**Branch:**", end);
+            int start = branchLine < 0 ? -1 : history.indexOf("\n---\n", branchLine);
+            srs = start < 0 ? history.substring(0, end).trim() : history.substring(start + "\n---\n".length(), end).trim();
+        }
+        if (srs.isEmpty()) {
+            return Optional.empty();
+        }
+        AiRunRecord record = new AiRunRecord();
+        record.setSrs(srs);
+        record.setSrsSha256(srsFingerprintService.fingerprint(srs));
+        return Optional.of(record);
+    }
+
+    private static Path stateDir(String repoDir) {
+        return Paths.get(repoDir, AI_STATE_DIR);
+    }
+
+    private static void writeAtomically(Path target, String content) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.writeString(tmp, content, StandardCharsets.UTF_8);
+        try {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static JSONObject toJson(AiRunRecord record) {
+        return new JSONObject()
+            .put("runId", record.getRunId())
+            .put("issueKey", record.getIssueKey())
+            .put("branch", record.getBranch())
+            .put("timestamp", record.getTimestamp())
+            .put("srsSha256", record.getSrsSha256())
+            .put("outcome", record.getOutcome())
+            .put("generatedFiles", new JSONArray(record.getGeneratedFiles()))
+            .put("changeAnalysis", record.getChangeAnalysis())
+            .put("srs", record.getSrs());
+    }
+
+    private static AiRunRecord fromJson(JSONObject json) {
+        List<String> files = new ArrayList<>();
+        JSONArray array = json.optJSONArray("generatedFiles");
+        if (array != null) {
+            for (int i = 0; i < array.length(); i++) {
+                files.add(array.getString(i));
+            }
+        }
+        return new AiRunRecord(
+            json.getInt("runId"),
+            json.optString("issueKey", null),
+            json.optString("branch", null),
+            json.optString("timestamp", null),
+            json.optString("srsSha256", null),
+            json.optString("srs", ""),
+            json.optString("changeAnalysis", ""),
+            files,
+            json.optString("outcome", null)
+        );
+    }
+
+}
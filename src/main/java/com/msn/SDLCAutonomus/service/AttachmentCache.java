@@ -0,0 +1,313 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.config.AttachmentProperties;
+import com.msn.SDLCAutonomus.model.JiraAttachment;
+import com.msn.SDLCAutonomus.model.JiraConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-disk cache of Jira attachment content.
+ * <p>
+ * Entries are keyed by attachment id, size and content URL as reported by the issue metadata, so a
+ * re-uploaded or edited attachment is a new key and an unchanged one is never downloaded again.
+ * Downloads are streamed straight into the cache directory; least recently used files are evicted
+ * once the directory grows above {@code sdlc.attachments.cache-max-size}.
+ */
+@Service
+@Slf4j
+public class AttachmentCache {
+
+    private static final int MAX_REDIRECTS = 5;
+
+    private final JiraClient jiraClient;
+    private final Path cacheDir;
+    private final long maxSizeBytes;
+    private final long maxDownloadBytes;
+    private final Duration downloadTimeout;
+    // Two stages of one run may ask for the same attachment at once; they share a single download.
+    private final Map<String, Download> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * One download and the callers waiting for it. Each caller gets a future of its own; the download is only
+     * cancelled once every caller has cancelled theirs.
+     */
+    private static final class Download {
+        private final CompletableFuture<Path> result = new CompletableFuture<>();
+        private int waiting;
+
+        /** A future for one more caller, or null if the download was already abandoned by its last caller. */
+        synchronized CompletableFuture<Path> attach() {
+            if (result.isCancelled()) {
+                return null;
+            }
+            CompletableFuture<Path> caller = new CompletableFuture<>();
+            result.whenComplete((path, error) -> complete(caller, path, error));
+            if (!result.isDone()) {
+                waiting++;
+                caller.whenComplete((path, error) -> {
+                    if (caller.isCancelled()) {
+                        release();
+                    }
+                });
+            }
+            return caller;
+        }
+
+        private synchronized void release() {
+            if (--waiting == 0 && !result.isDone()) {
+                result.cancel(true);
+            }
+        }
+
+        private static void complete(CompletableFuture<Path> caller, Path path, Throwable error) {
+            if (error != null) {
+                caller.completeExceptionally(error);
+            } else {
+                caller.complete(path);
+            }
+        }
+    }
+
+    public AttachmentCache(JiraClient jiraClient, AttachmentProperties properties) {
+        this.jiraClient = jiraClient;
+        this.cacheDir = Paths.get(properties.getCacheDir());
+        this.maxSizeBytes = properties.getCacheMaxSize().toBytes();
+        this.maxDownloadBytes = properties.getMaxDownloadSize().toBytes();
+        this.downloadTimeout = properties.getDownloadTimeout();
+    }
+
+
+    /**
+     * Returns a local file with the attachment content, downloading it only if no valid entry exists.
+     */
+    public Path getOrDownload(JiraConfig jiraConfig, JiraAttachment attachment) throws IOException, InterruptedException {
+        try {
+            return getOrDownloadAsync(jiraConfig, attachment).get();
+        } catch (ExecutionException e) {
+            throw asIOException(e.getCause());
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #getOrDownload}. The future fails after {@code sdlc.attachments.download-timeout}.
+     * Cancelling it only affects this caller; once no caller is waiting for the attachment any more, the HTTP
+     * exchange is aborted and the partial file discarded.
+     */
+    public CompletableFuture<Path> getOrDownloadAsync(JiraConfig jiraConfig, JiraAttachment attachment) {
+        String key = cacheKey(attachment);
+        Path cached = cacheDir.resolve(key + ".bin");
+        try {
+            if (isValid(cached, attachment)) {
+                Files.setLastModifiedTime(cached, FileTime.from(Instant.now()));
+                log.info("📦 Attachment cache hit: {} ({} bytes)", attachment.getFilename(), attachment.getSize());
+                return CompletableFuture.completedFuture(cached);
+            }
+        } catch (IOException e) {
+            log.warn("Could not check attachment cache entry {}: {}", cached, e.getMessage());
+        }
+        if (attachment.getSize() != null && attachment.getSize() > maxDownloadBytes) {
+            return CompletableFuture.failedFuture(new IOException("Attachment " + attachment.getFilename() + " (" + attachment.getSize()
+                + " bytes) exceeds the download limit of " + maxDownloadBytes + " bytes"));
+        }
+
+        while (true) {
+            Download download = new Download();
+            Download existing = inFlight.putIfAbsent(key, download);
+            Download shared = existing != null ? existing : download;
+            CompletableFuture<Path> caller = shared.attach();
+            if (caller == null) {
+                // Its last caller just cancelled it; start over with a download of our own.
+                inFlight.remove(key, shared);
+                continue;
+            }
+            if (existing == null) {
+                download.result.whenComplete((path, error) -> inFlight.remove(key, download));
+                startDownload(jiraConfig, attachment, key, cached, download.result);
+            }
+            return caller;
+        }
+    }
+
+    private void startDownload(JiraConfig jiraConfig, JiraAttachment attachment, String key, Path cached, CompletableFuture<Path> result) {
+        Path partial;
+        try {
+            Files.createDirectories(cacheDir);
+            partial = Files.createTempFile(cacheDir, key, ".part");
+        } catch (IOException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        AtomicReference<CompletableFuture<?>> currentRequest = new AtomicReference<>();
+        result.orTimeout(downloadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        result.whenComplete((path, error) -> {
+            if (error != null) {
+                // Timeout, cancellation by the last waiting caller, or a download error: stop the exchange and drop the partial file.
+                CompletableFuture<?> request = currentRequest.get();
+                if (request != null) {
+                    request.cancel(true);
+                }
+                deleteQuietly(partial);
+            }
+        });
+
+        fetch(jiraConfig, URI.create(attachment.getContentUrl()), partial, currentRequest)
+            .thenApply(size -> {
+                if (attachment.getSize() != null && size.longValue() != attachment.getSize().longValue()) {
+                    throw new CompletionException(new IOException("Downloaded " + size + " bytes for " + attachment.getFilename() + " but Jira reports " + attachment.getSize()));
+                }
+                try {
+                    Files.move(partial, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+                log.info("✅ Cached attachment {} ({} bytes)", attachment.getFilename(), size);
+                evictIfNeeded();
+                return cached;
+            })
+            .whenComplete((path, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                } else {
+                    result.complete(path);
+                }
+            });
+    }
+
+    /**
+     * Streams the content at {@code uri} into {@code target}, following up to {@value #MAX_REDIRECTS} 303
+     * redirects as chained requests. Completes with the byte count.
+     */
+    private CompletableFuture<Long> fetch(JiraConfig jiraConfig, URI uri, Path target, AtomicReference<CompletableFuture<?>> currentRequest) {
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        sendStep(jiraConfig, uri, target, 0, currentRequest, result);
+        return result;
+    }
+
+    private void sendStep(JiraConfig jiraConfig, URI uri, Path target, int redirects, AtomicReference<CompletableFuture<?>> currentRequest, CompletableFuture<Long> result) {
+        HttpRequest request = jiraClient.requestBuilder(jiraConfig, uri).timeout(downloadTimeout).build();
+        CompletableFuture<HttpResponse<Path>> exchange = jiraClient.sendAsync(request, SizeLimitedBodyHandler.ofFile(target, maxDownloadBytes), "attachment");
+        currentRequest.set(exchange);
+        exchange.whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                return;
+            }
+            try {
+                if (response.statusCode() == 200) {
+                    result.complete(Files.size(target));
+                } else if (response.statusCode() != 303) {
+                    result.completeExceptionally(new IOException("Failed to download attachment. Status code: " + response.statusCode()));
+                } else if (redirects >= MAX_REDIRECTS) {
+                    result.completeExceptionally(new IOException("Too many redirects while downloading " + uri));
+                } else {
+                    String location = response.headers().firstValue("Location").orElse(null);
+                    if (location == null) {
+                        result.completeExceptionally(new IOException("Received 303 status but no Location header found."));
+                    } else {
+                        log.info("Received 303 redirect. Following to: {}", location);
+                        sendStep(jiraConfig, uri.resolve(location), target, redirects + 1, currentRequest, result);
+                    }
+                }
+            } catch (IOException e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private static IOException asIOException(Throwable error) {
+        if (error instanceof IOException ioException) {
+            return ioException;
+        }
+        if (error instanceof TimeoutException) {
+            return new IOException("Attachment download timed out", error);
+        }
+        return new IOException("Attachment download failed: " + error.getMessage(), error);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private boolean isValid(Path cached, JiraAttachment attachment) throws IOException {
+        return Files.isRegularFile(cached)
+            && (attachment.getSize() == null || Files.size(cached) == attachment.getSize());
+    }
+
+    private void evictIfNeeded() {
+        List<Path> entries = new ArrayList<>();
+        long total = 0;
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".bin"))::iterator) {
+                entries.add(file);
+                total += Files.size(file);
+            }
+        } catch (IOException e) {
+            log.warn("Could not scan attachment cache {}: {}", cacheDir, e.getMessage());
+            return;
+        }
+        if (total <= maxSizeBytes) {
+            return;
+        }
+
+        entries.sort(Comparator.comparing(AttachmentCache::lastUsed));
+        for (Path entry : entries) {
+            if (total <= maxSizeBytes) {
+                break;
+            }
+            try {
+                long size = Files.size(entry);
+                Files.delete(entry);
+                total -= size;
+                log.info("🗑️ Evicted attachment cache entry {} ({} bytes)", entry.getFileName(), size);
+            } catch (IOException e) {
+                log.warn("Could not evict attachment cache entry {}: {}", entry, e.getMessage());
+            }
+        }
+    }
+
+    private static FileTime lastUsed(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String cacheKey(JiraAttachment attachment) {
+        String identity = attachment.getId() + "|" + attachment.getSize() + "|" + attachment.getContentUrl();
+        return UtilityService.sha256Hex(identity).substring(0, 32);
+    }
+
+}
@@ -0,0 +1,293 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.xml.transform.stream.StreamSource;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.SAXException;
+
+import com.msn.SDLCAutonomus.config.XmlProcessingProperties;
+import com.msn.SDLCAutonomus.model.BatchDocumentResult;
+import com.msn.SDLCAutonomus.model.BatchTransformationReport;
+import com.msn.SDLCAutonomus.model.MappingResult;
+import com.msn.SDLCAutonomus.model.MappingViolation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Transforms many source XML documents with one compiled {@link MappingPlan}, one task per document on a pool
+ * sized to the number of cores.
+ *
+ * <p>Every worker shares the plan and the schema compiled once by {@link XmlValidationService}; a document that
+ * fails schema validation or parsing is reported and does not stop the others. Targets are written to an output
+ * directory (by the workers themselves) or to a zip stream, each next to a {@value #REPORT_NAME} with the
+ * per-document results.
+ */
+@Service
+@Slf4j
+public class BatchTransformationService {
+
+    public static final String REPORT_NAME = "transformation-report.json";
+
+    private final MappingEngineService mappingEngineService;
+    private final XmlValidationService xmlValidationService;
+    private final ExecutorService batchPool;
+    private final int parallelism;
+    private final Path directoryRoot;
+
+    private record SourceDocument(String name, InputStreamSource content) {}
+
+    private record Outcome(int index, BatchDocumentResult result, byte[] targetXml) {}
+
+    public BatchTransformationService(MappingEngineService mappingEngineService, XmlValidationService xmlValidationService,
+            XmlProcessingProperties xmlProcessingProperties) {
+        this.mappingEngineService = mappingEngineService;
+        this.xmlValidationService = xmlValidationService;
+        this.parallelism = xmlProcessingProperties.getBatchParallelism() > 0
+            ? xmlProcessingProperties.getBatchParallelism()
+            : Runtime.getRuntime().availableProcessors();
+        this.directoryRoot = Path.of(xmlProcessingProperties.getBatchDirectoryRoot()).toAbsolutePath().normalize();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.batchPool = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "xml-batch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batchPool.shutdownNow();
+    }
+
+    /**
+     * {@link #transformDirectory(MappingPlan, String, Path, Path)} for directories given relative to
+     * {@code sdlc.xml.batch-directory-root}, as a request names them.
+     *
+     * @throws IllegalArgumentException if either directory resolves outside the root
+     */
+    public BatchTransformationReport transformDirectoryUnderRoot(MappingPlan plan, String xsdContent, String inputDir, String outputDir) throws IOException {
+        Path input = underRoot(inputDir);
+        if (!Files.isDirectory(input)) {
+            throw new IllegalArgumentException("Input directory does not exist: " + inputDir);
+        }
+        return transformDirectory(plan, xsdContent, input, underRoot(outputDir));
+    }
+
+    /**
+     * Transforms every {@code .xml} file under {@code inputDir} into the same relative path under {@code outputDir}.
+     *
+     * @param xsdContent schema the sources are validated against first, or null to skip validation
+     * @throws IllegalArgumentException if {@code outputDir} is {@code inputDir} or lies inside it
+     */
+    public BatchTransformationReport transformDirectory(MappingPlan plan, String xsdContent, Path inputDir, Path outputDir) throws IOException {
+        // Targets written into the sources would be mistaken for sources by the next run.
+        if (outputDir.toAbsolutePath().normalize().startsWith(inputDir.toAbsolutePath().normalize())) {
+            throw new IllegalArgumentException("The output directory must not be the input directory or lie inside it");
+        }
+        List<SourceDocument> sources = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(inputDir)) {
+            for (Path file : files.filter(Files::isRegularFile).filter(file -> file.toString().endsWith(".xml")).sorted().toList()) {
+                sources.add(new SourceDocument(inputDir.relativize(file).toString().replace('\\', '/'), new FileSystemResource(file)));
+            }
+        }
+        Files.createDirectories(outputDir);
+        BatchTransformationReport report = run(plan, xsdContent, sources, outputDir, null);
+        Files.writeString(outputDir.resolve(REPORT_NAME), toJson(report).toString(2), StandardCharsets.UTF_8);
+        return report;
+    }
+
+    /**
+     * Resolves a request path against the directory root. Absolute paths, {@code ..} and symbolic links that lead
+     * out of the root are rejected.
+     */
+    private Path underRoot(String relative) throws IOException {
+        if (relative == null || relative.isBlank() || Path.of(relative).isAbsolute()) {
+            throw new IllegalArgumentException("Expected a directory relative to the batch directory root: " + relative);
+        }
+        Path resolved = directoryRoot.resolve(relative).normalize();
+        if (!resolved.startsWith(directoryRoot) || resolved.equals(directoryRoot)) {
+            throw new IllegalArgumentException("Directory is outside the batch directory root: " + relative);
+        }
+        // The part that already exists must not lead elsewhere through a symbolic link either.
+        Path existing = resolved;
+        while (!Files.exists(existing)) {
+            existing = existing.getParent();
+        }
+        if (!existing.startsWith(directoryRoot) || !existing.toRealPath().startsWith(directoryRoot.toRealPath())) {
+            throw new IllegalArgumentException("Directory is outside the batch directory root: " + relative);
+        }
+        return resolved;
+    }
+
+    /**
+     * Transforms uploaded documents and writes the targets, then the report, as entries of a zip stream.
+     * The stream is finished but not closed.
+     */
+    public BatchTransformationReport transformToZip(MappingPlan plan, String xsdContent, List<MultipartFile> uploads, OutputStream zip) throws IOException {
+        List<SourceDocument> sources = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (MultipartFile upload : uploads) {
+            String name = upload.getOriginalFilename() == null || upload.getOriginalFilename().isBlank()
+                ? "document.xml" : Path.of(upload.getOriginalFilename()).getFileName().toString();
+            String unique = name;
+            for (int i = 2; !names.add(unique); i++) {
+                unique = name.replaceFirst("(\\.xml)?$", "-" + i + "$1");
+            }
+            sources.add(new SourceDocument(unique, upload));
+        }
+
+        ZipOutputStream zipStream = new ZipOutputStream(zip);
+        BatchTransformationReport report = run(plan, xsdContent, sources, null, zipStream);
+        zipStream.putNextEntry(new ZipEntry(REPORT_NAME));
+        zipStream.write(toJson(report).toString(2).getBytes(StandardCharsets.UTF_8));
+        zipStream.closeEntry();
+        zipStream.finish();
+        return report;
+    }
+
+    /**
+     * Submits the documents and collects results as they complete. At most twice the pool size are in flight,
+     * so a slow zip consumer holds back the workers instead of piling up finished targets in memory.
+     */
+    private BatchTransformationReport run(MappingPlan plan, String xsdContent, List<SourceDocument> sources, Path outputDir,
+            ZipOutputStream zip) throws IOException {
+        log.info("--- 🤖 Starting batch XML transformation of {} documents on {} threads ---", sources.size(), parallelism);
+        long start = System.nanoTime();
+        if (xsdContent != null) {
+            try {
+                // Compiled here once; the workers then take it from the cache.
+                xmlValidationService.getSchema(xsdContent);
+            } catch (SAXException e) {
+                throw new IOException("The XSD does not compile: " + e.getMessage(), e);
+            }
+        }
+
+        CompletionService<Outcome> completion = new ExecutorCompletionService<>(batchPool);
+        BatchDocumentResult[] results = new BatchDocumentResult[sources.size()];
+        int maxInFlight = parallelism * 2;
+        int submitted = 0;
+        int completed = 0;
+        try {
+            while (completed < sources.size()) {
+                if (submitted < sources.size() && submitted - completed < maxInFlight) {
+                    int index = submitted++;
+                    completion.submit(() -> transformOne(index, plan, xsdContent, sources.get(index), outputDir, zip == null));
+                    continue;
+                }
+                Outcome outcome = completion.take().get();
+                completed++;
+                results[outcome.index()] = outcome.result();
+                if (zip != null && outcome.targetXml() != null) {
+                    zip.putNextEntry(new ZipEntry(outcome.result().getDocument()));
+                    zip.write(outcome.targetXml());
+                    zip.closeEntry();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch transformation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch transformation task failed", e.getCause());
+        }
+
+        BatchTransformationReport report = new BatchTransformationReport();
+        report.setDocumentCount(results.length);
+        report.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        for (BatchDocumentResult result : results) {
+            report.getDocuments().add(result);
+            if (!result.isTransformed()) {
+                report.setFailedCount(report.getFailedCount() + 1);
+            } else {
+                report.setTransformedCount(report.getTransformedCount() + 1);
+                if (!result.getViolations().isEmpty()) {
+                    report.setWithViolationsCount(report.getWithViolationsCount() + 1);
+                }
+            }
+        }
+        log.info("✅ Transformed {} of {} XML documents in {} ms ({} with violations, {} failed).", report.getTransformedCount(),
+            report.getDocumentCount(), report.getElapsedMillis(), report.getWithViolationsCount(), report.getFailedCount());
+        return report;
+    }
+
+    private Outcome transformOne(int index, MappingPlan plan, String xsdContent, SourceDocument source, Path outputDir, boolean writeFile) {
+        long start = System.nanoTime();
+        try {
+            if (xsdContent != null) {
+                try (InputStream in = source.content().getInputStream()) {
+                    xmlValidationService.validate(new StreamSource(in, source.name()), xsdContent);
+                }
+            }
+            MappingResult mapped;
+            try (InputStream in = source.content().getInputStream()) {
+                mapped = mappingEngineService.transform(plan, in);
+            }
+            byte[] targetXml = mapped.getTargetXml().getBytes(StandardCharsets.UTF_8);
+            if (writeFile) {
+                Path target = outputDir.resolve(source.name());
+                Files.createDirectories(target.getParent());
+                Files.write(target, targetXml);
+                targetXml = null;
+            }
+            return new Outcome(index, new BatchDocumentResult(source.name(), true, null, mapped.getViolations(),
+                (System.nanoTime() - start) / 1_000_000), targetXml);
+        } catch (IOException | SAXException | RuntimeException e) {
+            // Any failure stays with its document, so one bad input neither aborts the batch nor truncates the zip.
+            String error = e.getMessage() != null ? e.getMessage() : e.toString();
+            log.warn("⚠️ {} was not transformed: {}", source.name(), error);
+            return new Outcome(index, new BatchDocumentResult(source.name(), false, error, new ArrayList<>(),
+                (System.nanoTime() - start) / 1_000_000), null);
+        }
+    }
+
+    private static JSONObject toJson(BatchTransformationReport report) {
+        JSONArray documents = new JSONArray();
+        for (BatchDocumentResult result : report.getDocuments()) {
+            JSONArray violations = new JSONArray();
+            for (MappingViolation violation : result.getViolations()) {
+                violations.put(new JSONObject()
+                    .put("path", violation.getPath())
+                    .put("rule", violation.getRule())
+                    .put("message", violation.getMessage()));
+            }
+            documents.put(new JSONObject()
+                .put("document", result.getDocument())
+                .put("transformed", result.isTransformed())
+                .put("error", result.getError() == null ? JSONObject.NULL : result.getError())
+                .put("violations", violations)
+                .put("elapsedMillis", result.getElapsedMillis()));
+        }
+        return new JSONObject()
+            .put("documentCount", report.getDocumentCount())
+            .put("transformedCount", report.getTransformedCount())
+            .put("withViolationsCount", report.getWithViolationsCount())
+            .put("failedCount", report.getFailedCount())
+            .put("elapsedMillis", report.getElapsedMillis())
+            .put("documents", documents);
+    }
+}
@@ -0,0 +1,172 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.config.BuildProperties;
+import com.msn.SDLCAutonomus.model.BuildOutcome;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outcomes of generated-project builds by the {@link SourceTreeHasher} hash of the built tree, so a tree that
+ * was already built (a corrector fix identical to an earlier attempt, a re-run ticket) is not built again.
+ *
+ * <p>Each outcome is a small JSON file in {@code sdlc.build.result-cache-dir}, keyed by the tree hash and the
+ * JDK; the least recently used ones are evicted above {@code sdlc.build.result-cache-max-entries}. Failures that
+ * depend on the environment rather than on the tree (artifact resolution, a missing {@code mvn}) are not cached.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BuildResultCache {
+
+    /** Failures caused by the repository or the network rather than by the project. */
+    private static final Pattern ENVIRONMENT_FAILURE = Pattern.compile(
+        "Could not (?:transfer|resolve)|in offline mode|has not been downloaded from it before");
+    /** Maven {@code [INFO]} lines worth keeping in a distilled log. */
+    private static final Pattern KEPT_INFO = Pattern.compile("Tests run:|T E S T S|Results:|BUILD|FAIL|ERROR");
+
+    private final BuildProperties buildProperties;
+
+    public Optional<BuildOutcome> get(String treeHash) {
+        if (!buildProperties.isResultCache() || treeHash == null) {
+            return Optional.empty();
+        }
+        Path file = entry(treeHash);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            JSONObject json = new JSONObject(Files.readString(file, StandardCharsets.UTF_8));
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return Optional.of(new BuildOutcome(json.getString("treeHash"), json.getBoolean("success"),
+                json.optString("log", null), json.optLong("durationMillis"), json.optString("builtAt", null)));
+        } catch (IOException | JSONException e) {
+            log.warn("Could not read build result cache entry {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /** Records a build outcome, unless it is a failure of the environment rather than of the tree. */
+    public void put(BuildOutcome outcome) {
+        if (!buildProperties.isResultCache() || outcome.getTreeHash() == null) {
+            return;
+        }
+        if (!outcome.isSuccess() && (outcome.getLog() == null || ENVIRONMENT_FAILURE.matcher(outcome.getLog()).find())) {
+            log.debug("Not caching a build failure caused by the environment.");
+            return;
+        }
+        Path file = entry(outcome.getTreeHash());
+        JSONObject json = new JSONObject()
+            .put("treeHash", outcome.getTreeHash())
+            .put("success", outcome.isSuccess())
+            .put("durationMillis", outcome.getDurationMillis())
+            .put("builtAt", outcome.getBuiltAt());
+        if (outcome.getLog() != null) {
+            json.put("log", outcome.getLog());
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(tmp, json.toString(2), StandardCharsets.UTF_8);
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Could not write build result cache entry {}: {}", file, e.getMessage());
+            return;
+        }
+        evictIfNeeded();
+    }
+
+    /**
+     * The parts of a Maven log that explain a failure: everything except the {@code [INFO]} chatter (test and
+     * build summaries are kept), with repeated blank lines collapsed. Above {@code maxChars} the middle is cut,
+     * since both the first compiler errors and the final summary matter.
+     */
+    static String distill(String buildLog, int maxChars) {
+        if (buildLog == null) {
+            return null;
+        }
+        StringBuilder distilled = new StringBuilder(Math.min(buildLog.length(), maxChars + 64));
+        boolean previousBlank = false;
+        for (String line : buildLog.split("\\R", -1)) {
+            if (line.startsWith("[INFO]") && !KEPT_INFO.matcher(line).find()) {
+                continue;
+            }
+            boolean blank = line.isBlank();
+            if (blank && previousBlank) {
+                continue;
+            }
+            distilled.append(line).append('\n');
+            previousBlank = blank;
+        }
+        if (distilled.length() <= maxChars) {
+            return distilled.toString();
+        }
+        int half = maxChars / 2;
+        int omitted = distilled.length() - 2 * half;
+        return distilled.substring(0, half) + "\n... (" + omitted + " characters omitted) ...\n" + distilled.substring(distilled.length() - half);
+    }
+
+    public String distill(String buildLog) {
+        return distill(buildLog, buildProperties.getMaxLogChars());
+    }
+
+    private Path entry(String treeHash) {
+        // The JDK building the project is part of the key; everything else the build reads is in the tree.
+        String key = treeHash + "|" + Runtime.version() + "|" + System.getenv("JAVA_HOME");
+        return Path.of(buildProperties.getResultCacheDir(), UtilityService.sha256Hex(key).substring(0, 32) + ".json");
+    }
+
+    private void evictIfNeeded() {
+        Path dir = Path.of(buildProperties.getResultCacheDir());
+        List<Path> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(file -> file.toString().endsWith(".json")).forEach(entries::add);
+        } catch (IOException e) {
+            log.warn("Could not scan build result cache {}: {}", dir, e.getMessage());
+            return;
+        }
+        int excess = entries.size() - buildProperties.getResultCacheMaxEntries();
+        if (excess <= 0) {
+            return;
+        }
+        entries.sort(Comparator.comparing(BuildResultCache::lastUsed));
+        for (Path entry : entries.subList(0, excess)) {
+            try {
+                Files.deleteIfExists(entry);
+            } catch (IOException e) {
+                log.warn("Could not evict build result cache entry {}: {}", entry, e.getMessage());
+            }
+        }
+    }
+
+    private static FileTime lastUsed(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
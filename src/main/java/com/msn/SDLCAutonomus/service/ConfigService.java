@@ -1,32 +1,61 @@
 package com.msn.SDLCAutonomus.service;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
+import com.msn.SDLCAutonomus.config.AttachmentProperties;
+import com.msn.SDLCAutonomus.config.JiraClientProperties;
 import com.msn.SDLCAutonomus.model.JiraConfig;
+import com.msn.SDLCAutonomus.model.JiraIssue;
 import com.msn.SDLCAutonomus.model.JiraAttachment;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.net.URI;
-import java.util.Base64;
-import org.json.JSONObject;
-import org.json.JSONArray;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class ConfigService {
 
+    private final JiraClient jiraClient;
+    private final JiraClientProperties jiraClientProperties;
+    private final AttachmentCache attachmentCache;
+    private final AttachmentProperties attachmentProperties;
+    private final ObjectProvider<JiraStandInServer> jiraStandIn;
+
+    // Attachment metadata from the last issue fetch, so one run never asks Jira for it twice.
+    private final Map<String, CachedAttachments> attachmentMetadata = new ConcurrentHashMap<>();
+
+    private record CachedAttachments(List<JiraAttachment> attachments, Instant fetchedAt) {}
+
 
     public JiraConfig getJiraConfig(String issueTicket) throws IOException {
+        // --- NEW: With the jira-standin profile every Jira call goes to the local fixture server ---
+        JiraStandInServer standIn = jiraStandIn.getIfAvailable();
+        if (standIn != null) {
+            log.info("Using Jira stand-in at {} for issue {}", standIn.getBaseUrl(), issueTicket);
+            return new JiraConfig(standIn.getBaseUrl(), JiraStandInServer.USERNAME, JiraStandInServer.API_TOKEN, issueTicket);
+        }
+
         String url = System.getenv("JIRA_URL");
         String email = System.getenv("JIRA_EMAIL");
         String token = System.getenv("JIRA_API_TOKEN");
@@ -49,31 +78,17 @@ public class ConfigService {
     }
 
 
+    /**
+     * Fetches summary, description and attachment metadata in one request; the attachments are
+     * cached for the rest of the run.
+     */
     public String getJiraIssueContent(JiraConfig jiraConfig) throws Exception {
         log.info("Connecting to Jira to fetch issue: {}", jiraConfig.getIssueKey());
 
-        HttpClient client = HttpClient.newHttpClient();
-        String url = jiraConfig.getJiraUrl() + "/rest/api/2/issue/" + jiraConfig.getIssueKey();
-
-        String auth = jiraConfig.getUsername() + ":" + jiraConfig.getApiToken();
-        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+        JiraIssue issue = loadIssue(jiraConfig);
 
-        HttpRequest request = HttpRequest.newBuilder()
-            .uri(new URI(url))
-            .header("Authorization", "Basic " + encodedAuth)
-            .build();
-
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() != 200) {
-            throw new IOException("Failed to fetch Jira issue. Status code: " + response.statusCode() + " - " + response.body());
-        }
-
-        JSONObject issueJson = new JSONObject(response.body());
-        JSONObject fields = issueJson.getJSONObject("fields");
-
-        String summary = "Feature: " + fields.getString("summary");
-        String description = fields.optString("description", "");
+        String summary = "Feature: " + issue.getSummary();
+        String description = issue.getDescription();
 
         log.info("✅ Successfully fetched Jira issue: {}", jiraConfig.getIssueKey());
         log.debug("  - Summary: {}", summary);
@@ -86,91 +101,94 @@ public class ConfigService {
      * Fetches attachment metadata for a Jira issue
      */
     public List<JiraAttachment> getJiraAttachments(JiraConfig jiraConfig) throws Exception {
-        log.info("Fetching attachments for Jira issue: {}", jiraConfig.getIssueKey());
-
-        HttpClient client = HttpClient.newHttpClient();
-        String url = jiraConfig.getJiraUrl() + "/rest/api/2/issue/" + jiraConfig.getIssueKey() + "?fields=attachment";
-
-        String auth = jiraConfig.getUsername() + ":" + jiraConfig.getApiToken();
-        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+        CachedAttachments cached = attachmentMetadata.get(jiraConfig.getIssueKey());
+        if (cached != null && cached.fetchedAt().plus(jiraClientProperties.getMetadataCacheTtl()).isAfter(Instant.now())) {
+            log.debug("Using cached attachment metadata for issue: {}", jiraConfig.getIssueKey());
+            return cached.attachments();
+        }
 
-        HttpRequest request = HttpRequest.newBuilder()
-            .uri(new URI(url))
-            .header("Authorization", "Basic " + encodedAuth)
-            .build();
+        log.info("Fetching attachments for Jira issue: {}", jiraConfig.getIssueKey());
+        List<JiraAttachment> attachmentList = loadIssue(jiraConfig).getAttachments();
+        log.info("✅ Successfully fetched {} attachments for issue: {}", attachmentList.size(), jiraConfig.getIssueKey());
+        return attachmentList;
+    }
 
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    /**
+     * Downloads all attachments concurrently and returns their local files in the same order.
+     * The first failure cancels the downloads that are still running, except those another caller still waits for.
+     */
+    public List<Path> downloadAttachments(JiraConfig jiraConfig, List<JiraAttachment> attachments) throws Exception {
+        List<CompletableFuture<Path>> downloads = new ArrayList<>();
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        for (JiraAttachment attachment : attachments) {
+            CompletableFuture<Path> download = attachmentCache.getOrDownloadAsync(jiraConfig, attachment);
+            download.whenComplete((path, error) -> {
+                if (error != null) {
+                    firstFailure.completeExceptionally(new IOException("Failed to download attachment " + attachment.getFilename() + ": " + error.getMessage(), error));
+                }
+            });
+            downloads.add(download);
+        }
 
-        if (response.statusCode() != 200) {
-            throw new IOException("Failed to fetch Jira attachments. Status code: " + response.statusCode() + " - " + response.body());
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(downloads.toArray(CompletableFuture[]::new)), firstFailure).get();
+        } catch (ExecutionException e) {
+            downloads.forEach(download -> download.cancel(true));
+            log.error("❌ Attachment download failed, cancelled the remaining downloads nothing else waits for: {}", e.getCause().getMessage());
+            throw e.getCause() instanceof IOException ioException ? ioException : new IOException(e.getCause());
         }
 
-        JSONObject issueJson = new JSONObject(response.body());
-        JSONObject fields = issueJson.getJSONObject("fields");
-        JSONArray attachments = fields.optJSONArray("attachment");
-
-        List<JiraAttachment> attachmentList = new ArrayList<>();
-        if (attachments != null) {
-            for (int i = 0; i < attachments.length(); i++) {
-                JSONObject attachment = attachments.getJSONObject(i);
-                JiraAttachment jiraAttachment = new JiraAttachment(
-                    attachment.getString("filename"),
-                    attachment.getString("content"),
-                    attachment.getLong("size"),
-                    attachment.getString("mimeType")
-                );
-                attachmentList.add(jiraAttachment);
-            }
+        List<Path> files = new ArrayList<>();
+        for (CompletableFuture<Path> download : downloads) {
+            files.add(download.join());
         }
+        return files;
+    }
 
-        log.info("✅ Successfully fetched {} attachments for issue: {}", attachmentList.size(), jiraConfig.getIssueKey());
-        return attachmentList;
+    private JiraIssue loadIssue(JiraConfig jiraConfig) throws Exception {
+        JiraIssue issue = jiraClient.fetchIssue(jiraConfig);
+        attachmentMetadata.put(jiraConfig.getIssueKey(), new CachedAttachments(List.copyOf(issue.getAttachments()), Instant.now()));
+        return issue;
     }
 
     /**
-     * Downloads a specific attachment from Jira
+     * Returns the attachment content as a local file, served from the attachment cache when unchanged.
      */
-    public byte[] downloadJiraAttachment(JiraConfig jiraConfig, String attachmentUrl) throws Exception {
-        log.info("Downloading attachment from: {}", attachmentUrl);
-
-        HttpClient client = HttpClient.newHttpClient();
-        String auth = jiraConfig.getUsername() + ":" + jiraConfig.getApiToken();
-        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
-
-        HttpRequest request = HttpRequest.newBuilder()
-            .uri(new URI(attachmentUrl))
-            .header("Authorization", "Basic " + encodedAuth)
-            .build();
-
-        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
-
-        if (response.statusCode() != 200) {
-            if (response.statusCode() == 303) {
-                // Handle 303 See Other redirect
-                Optional<String> locationHeader = response.headers().firstValue("Location");
-                if (locationHeader.isPresent()) {
-                    String newAttachmentUrl = locationHeader.get();
-                    log.info("Received 303 redirect. Following to: {}", newAttachmentUrl);
-                    // Recursively call with the new URL
-                    return downloadJiraAttachment(jiraConfig, newAttachmentUrl);
-                } else {
-                    throw new IOException("Received 303 status but no Location header found.");
-                }
-            } else {
-                throw new IOException("Failed to download attachment. Status code: " + response.statusCode());
-            }
-        }
+    public Path getAttachmentFile(JiraConfig jiraConfig, JiraAttachment attachment) throws Exception {
+        return attachmentCache.getOrDownload(jiraConfig, attachment);
+    }
 
-        log.info("✅ Successfully downloaded attachment: {} bytes", response.body().length);
-        return response.body();
+    /**
+     * Reads a cached attachment as string (for XML/Excel files), bounded by {@code sdlc.attachments.llm-sample-size}.
+     * Stages that need the whole document should stream it from {@link #getAttachmentFile}.
+     */
+    public String downloadAttachmentAsString(JiraConfig jiraConfig, JiraAttachment attachment, String encoding) throws Exception {
+        Path file = getAttachmentFile(jiraConfig, attachment);
+        return readAttachmentSample(file, encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8);
     }
 
     /**
-     * Downloads and converts attachment content to string (for XML/Excel files)
+     * Decodes at most {@code llm-sample-size} bytes of the file through a read-only memory mapping,
+     * cut back to the last complete tag when the file is larger than the sample.
      */
-    public String downloadAttachmentAsString(JiraConfig jiraConfig, String attachmentUrl, String encoding) throws Exception {
-        byte[] attachmentBytes = downloadJiraAttachment(jiraConfig, attachmentUrl);
-        return new String(attachmentBytes, encoding != null ? encoding : StandardCharsets.UTF_8.name());
+    public String readAttachmentSample(Path file, Charset charset) throws IOException {
+        long limit = attachmentProperties.getLlmSampleSize().toBytes();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long length = Math.min(size, limit);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            CharBuffer chars = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(mapped);
+            String text = chars.toString();
+            if (size <= limit) {
+                return text;
+            }
+            log.warn("⚠️ Attachment {} is {} bytes; only the first {} bytes are passed to the agents.", file.getFileName(), size, length);
+            int lastTag = text.lastIndexOf('>');
+            return lastTag > 0 ? text.substring(0, lastTag + 1) : text;
+        }
     }
 
 }
@@ -0,0 +1,311 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.config.DependencyProperties;
+import com.msn.SDLCAutonomus.model.DependencyVerificationResult;
+import com.msn.SDLCAutonomus.model.PomDependency;
+import com.msn.SDLCAutonomus.model.PomModel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checks dependency coordinates before a build runs, so a hallucinated artifact or version costs a quick
+ * correction instead of a failed {@code mvn verify} and a self-healing iteration.
+ *
+ * <p>Each coordinate is checked against the Spring Boot BOM of the project's Boot version (read from the
+ * local repository, imported BOMs included) and against the versions present in the local repository.
+ * Versions are corrected where the answer is clear: a version pinned on a Boot-managed artifact is dropped,
+ * and a missing or non-concrete version of an artifact found locally is replaced by the newest local release.
+ * A coordinate without a version is left alone when the project POM manages it (its own
+ * {@code <dependencyManagement>} or a BOM it imports), and so is every Spring Boot artifact when the Boot BOM is
+ * not available locally, since the parent may well manage it.
+ * Coordinates that would break the build are reported back instead. Both the BOMs and the per-artifact version
+ * listings are cached. Since the merged list is the full dependency set of the POM, a dropped version and a
+ * coordinate left out disappear from {@code pom.xml} as well.
+ *
+ * <p>When the project will be built offline against the warm repository of its Boot version
+ * ({@link MavenRepositoryCache}), that repository is the one checked, and missing coordinates count as
+ * unresolvable just as with {@code sdlc.dependencies.require-local}. Only then is a version missing locally
+ * replaced by the newest local release of the same major version; online builds keep the requested version.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DependencyVerificationService {
+
+    private static final String BOOT_BOM_GROUP = "org.springframework.boot";
+    private static final String BOOT_BOM_ARTIFACT = "spring-boot-dependencies";
+    private static final int MAX_BOM_DEPTH = 4;
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_.-]+");
+    private static final Pattern CONCRETE_VERSION = Pattern.compile("\\d[A-Za-z0-9_.+-]*");
+    private static final Pattern PRE_RELEASE = Pattern.compile("(?i).*(snapshot|alpha|beta|-m\\d+|\\.m\\d+|-rc\\d*|\\.rc\\d*|-cr\\d*).*");
+
+    private final PomService pomService;
+    private final DependencyProperties dependencyProperties;
+    private final MavenRepositoryCache mavenRepositoryCache;
+
+    /** Managed versions by {@code groupId:artifactId}, per repository and BOM coordinate; empty if the BOM is not available locally. */
+    private final Map<String, Map<String, String>> boms = new ConcurrentHashMap<>();
+    /** Versions present in a local repository by repository and {@code groupId:artifactId}, oldest first. */
+    private final Map<String, List<String>> localVersions = new ConcurrentHashMap<>();
+
+    /**
+     * @param projectPom the POM the dependencies are merged into, or null for a new project
+     */
+    public DependencyVerificationResult verify(List<String> coordinates, String springBootVersion, PomModel projectPom) {
+        log.info("--- 🤖 Starting dependency verification of {} coordinates (Spring Boot {}) ---", coordinates.size(), springBootVersion);
+        Path repository = localRepository(springBootVersion);
+        boolean requireLocal = dependencyProperties.isRequireLocal() || mavenRepositoryCache.isOffline(springBootVersion);
+        Map<String, String> managed = bootBom(repository, springBootVersion);
+        Set<String> projectManaged = projectManaged(repository, projectPom);
+        DependencyVerificationResult result = new DependencyVerificationResult();
+        for (String coordinate : coordinates) {
+            if (coordinate == null || coordinate.isBlank()) {
+                continue;
+            }
+            String problem = check(coordinate.strip(), repository, requireLocal, managed, projectManaged, result);
+            if (problem != null) {
+                result.getUnresolved().add(coordinate.strip());
+                result.getProblems().add(coordinate.strip() + ": " + problem);
+            }
+        }
+        result.getCorrections().forEach(correction -> log.info("🔧 {}", correction));
+        result.getProblems().forEach(problem -> log.warn("⚠️ Unresolvable dependency {}", problem));
+        log.info("✅ Dependency verification: {} usable, {} corrected, {} unresolvable.", result.getDependencies().size(),
+            result.getCorrections().size(), result.getUnresolved().size());
+        return result;
+    }
+
+    /**
+     * Adds the (possibly corrected) coordinate to the result, or returns why it cannot be resolved.
+     */
+    private String check(String coordinate, Path repository, boolean requireLocal, Map<String, String> managed, Set<String> projectManaged,
+            DependencyVerificationResult result) {
+        PomDependency dependency = PomService.parseCoordinate(coordinate);
+        if (dependency == null || !NAME.matcher(dependency.getGroupId()).matches() || !NAME.matcher(dependency.getArtifactId()).matches()) {
+            return "not a groupId:artifactId[:version][:scope] coordinate";
+        }
+        String version = dependency.getVersion();
+        String managedVersion = managed.get(dependency.getKey());
+        if (managedVersion != null) {
+            if (version != null && !version.equals(managedVersion)) {
+                dependency.setVersion(null);
+                return accept(dependency, result, coordinate, "version " + version + " dropped, Spring Boot manages " + managedVersion);
+            }
+            return accept(dependency, result, coordinate, null);
+        }
+        if (version == null && projectManaged.contains(dependency.getKey())) {
+            return accept(dependency, result, coordinate, null);
+        }
+        if (managed.isEmpty() && (version == null || BOOT_BOM_GROUP.equals(dependency.getGroupId()))) {
+            // Without the BOM there is no telling which version the parent manages, so nothing is pinned.
+            if (version != null && !CONCRETE_VERSION.matcher(version).matches()) {
+                dependency.setVersion(null);
+                return accept(dependency, result, coordinate, "'" + version + "' is not a concrete version, left to the Spring Boot parent");
+            }
+            return accept(dependency, result, coordinate, null);
+        }
+
+        List<String> available = localVersions(repository, dependency.getGroupId(), dependency.getArtifactId());
+        if (version != null && !CONCRETE_VERSION.matcher(version).matches()) {
+            if (available.isEmpty()) {
+                return "'" + version + "' is not a concrete version";
+            }
+            dependency.setVersion(latestRelease(available, null));
+            return accept(dependency, result, coordinate, "version " + version + " replaced by " + dependency.getVersion());
+        }
+        if (version == null) {
+            if (!available.isEmpty()) {
+                dependency.setVersion(latestRelease(available, null));
+                return accept(dependency, result, coordinate, "no version given, using " + dependency.getVersion());
+            }
+            return "no version given and not managed by Spring Boot or the project POM";
+        }
+        if (available.contains(version) || !requireLocal) {
+            // Online builds can download a version the local repository has not seen yet.
+            return accept(dependency, result, coordinate, null);
+        }
+        String sameMajor = latestRelease(available, major(version));
+        if (sameMajor != null) {
+            dependency.setVersion(sameMajor);
+            return accept(dependency, result, coordinate, "version " + version + " not found locally, using " + sameMajor);
+        }
+        return available.isEmpty() ? "not in the local repository" : "version " + version + " not in the local repository (available: " + available + ")";
+    }
+
+    private static String accept(PomDependency dependency, DependencyVerificationResult result, String coordinate, String correction) {
+        String accepted = PomService.coordinates(List.of(dependency)).get(0);
+        result.getDependencies().add(accepted);
+        if (correction != null) {
+            result.getCorrections().add(coordinate + " -> " + accepted + " (" + correction + ")");
+        }
+        return null;
+    }
+
+    // --- Spring Boot BOM ---
+
+    Map<String, String> bootBom(Path repository, String springBootVersion) {
+        if (springBootVersion == null || springBootVersion.isBlank()) {
+            return Map.of();
+        }
+        return bom(repository, BOOT_BOM_GROUP, BOOT_BOM_ARTIFACT, springBootVersion);
+    }
+
+    /** Keys the project POM manages itself: its own {@code <dependencyManagement>} and the BOMs it imports there. */
+    private Set<String> projectManaged(Path repository, PomModel projectPom) {
+        if (projectPom == null) {
+            return Set.of();
+        }
+        Set<String> keys = new HashSet<>();
+        for (PomDependency dependency : projectPom.getManagedDependencies()) {
+            if ("import".equals(dependency.getScope()) && "pom".equals(dependency.getType())) {
+                if (dependency.getVersion() != null && !dependency.getVersion().contains("${")) {
+                    keys.addAll(bom(repository, dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion()).keySet());
+                }
+            } else {
+                keys.add(dependency.getKey());
+            }
+        }
+        return keys;
+    }
+
+    private Map<String, String> bom(Path repository, String groupId, String artifactId, String version) {
+        return boms.computeIfAbsent(repository + "|" + groupId + ":" + artifactId + ":" + version, key -> {
+            Map<String, String> managed = new HashMap<>();
+            readBom(repository, groupId, artifactId, version, managed, 0);
+            if (managed.isEmpty()) {
+                log.warn("⚠️ {}:{}:{} is not in the local repository; the versions it manages are not checked.", groupId, artifactId, version);
+            } else {
+                log.info("Loaded {} managed versions from {}:{}:{}.", managed.size(), groupId, artifactId, version);
+            }
+            return Map.copyOf(managed);
+        });
+    }
+
+    /** Collects the managed versions of a BOM and the BOMs it imports; the first declaration wins, as in Maven. */
+    private void readBom(Path repository, String groupId, String artifactId, String version, Map<String, String> managed, int depth) {
+        Path pom = artifactDirectory(repository, groupId, artifactId).resolve(version).resolve(artifactId + "-" + version + ".pom");
+        if (depth > MAX_BOM_DEPTH || !Files.isRegularFile(pom)) {
+            return;
+        }
+        PomModel model;
+        try {
+            model = pomService.read(pom);
+        } catch (IOException e) {
+            log.warn("⚠️ Could not read BOM {}: {}", pom, e.getMessage());
+            return;
+        }
+        List<PomDependency> imports = new ArrayList<>();
+        for (PomDependency dependency : model.getManagedDependencies()) {
+            if ("import".equals(dependency.getScope()) && "pom".equals(dependency.getType())) {
+                imports.add(dependency);
+            } else if (dependency.getVersion() != null && !dependency.getVersion().contains("${")) {
+                managed.putIfAbsent(dependency.getKey(), dependency.getVersion());
+            }
+        }
+        for (PomDependency bom : imports) {
+            if (bom.getVersion() != null) {
+                readBom(repository, bom.getGroupId(), bom.getArtifactId(), bom.getVersion(), managed, depth + 1);
+            }
+        }
+    }
+
+    // --- Local repository ---
+
+    List<String> localVersions(Path repository, String groupId, String artifactId) {
+        return localVersions.computeIfAbsent(repository + "|" + groupId + ":" + artifactId, key -> {
+            Path directory = artifactDirectory(repository, groupId, artifactId);
+            if (!Files.isDirectory(directory)) {
+                return List.of();
+            }
+            try (Stream<Path> versions = Files.list(directory)) {
+                return versions
+                    .filter(dir -> Files.isRegularFile(dir.resolve(artifactId + "-" + dir.getFileName() + ".pom")))
+                    .map(dir -> dir.getFileName().toString())
+                    .sorted(DependencyVerificationService::compareVersions)
+                    .toList();
+            } catch (IOException e) {
+                log.warn("⚠️ Could not list {}: {}", directory, e.getMessage());
+                return List.of();
+            }
+        });
+    }
+
+    private static Path artifactDirectory(Path repository, String groupId, String artifactId) {
+        return repository.resolve(groupId.replace('.', '/')).resolve(artifactId);
+    }
+
+    /** The configured repository, else the warm repository offline builds of this Boot version use, else {@code ~/.m2/repository}. */
+    Path localRepository(String springBootVersion) {
+        String configured = dependencyProperties.getLocalRepository();
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        return mavenRepositoryCache.isOffline(springBootVersion)
+            ? mavenRepositoryCache.repositoryFor(springBootVersion)
+            : Path.of(System.getProperty("user.home"), ".m2", "repository");
+    }
+
+    /** The newest release, of the given major version if not null; pre-releases only if there is nothing else. */
+    private static String latestRelease(List<String> versions, String major) {
+        List<String> candidates = versions.stream().filter(version -> major == null || major.equals(major(version))).toList();
+        return candidates.stream().filter(version -> !PRE_RELEASE.matcher(version).matches())
+            .max(DependencyVerificationService::compareVersions)
+            .orElse(candidates.stream().max(DependencyVerificationService::compareVersions).orElse(null));
+    }
+
+    private static String major(String version) {
+        int end = 0;
+        while (end < version.length() && Character.isDigit(version.charAt(end))) {
+            end++;
+        }
+        return version.substring(0, end);
+    }
+
+    /** Numeric segments compare as numbers; a version with a qualifier sorts before the same plain version. */
+    static int compareVersions(String left, String right) {
+        String[] a = left.split("[.-]");
+        String[] b = right.split("[.-]");
+        for (int i = 0; i < Math.max(a.length, b.length); i++) {
+            if (i >= a.length) {
+                return isNumber(b[i]) ? -1 : 1;
+            }
+            if (i >= b.length) {
+                return isNumber(a[i]) ? 1 : -1;
+            }
+            int compared;
+            if (isNumber(a[i]) && isNumber(b[i])) {
+                compared = Comparator.<String>comparingInt(String::length).thenComparing(Comparator.naturalOrder())
+                    .compare(a[i].replaceFirst("^0+(?=.)", ""), b[i].replaceFirst("^0+(?=.)", ""));
+            } else if (isNumber(a[i]) != isNumber(b[i])) {
+                compared = isNumber(a[i]) ? 1 : -1;
+            } else {
+                compared = a[i].compareToIgnoreCase(b[i]);
+            }
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isNumber(String segment) {
+        return !segment.isEmpty() && segment.chars().allMatch(Character::isDigit);
+    }
+}
@@ -0,0 +1,128 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.config.JiraClientProperties;
+import com.msn.SDLCAutonomus.model.JiraAttachment;
+import com.msn.SDLCAutonomus.model.JiraConfig;
+import com.msn.SDLCAutonomus.model.JiraIssue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Thin Jira REST client on top of the shared, HTTP/2 {@code jiraHttpClient} bean.
+ * <p>
+ * Every call is timed as {@code sdlc.jira.request} tagged with the operation and the HTTP status.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class JiraClient {
+
+    // Everything a run needs from the issue, in a single round trip.
+    private static final String ISSUE_FIELDS = "summary,description,attachment";
+
+    private final HttpClient jiraHttpClient;
+    private final JiraClientProperties properties;
+    private final MeterRegistry meterRegistry;
+
+
+    /**
+     * Loads summary, description and attachment metadata of the issue with one {@code fields=} request.
+     */
+    public JiraIssue fetchIssue(JiraConfig jiraConfig) throws IOException, InterruptedException {
+        String url = jiraConfig.getJiraUrl() + "/rest/api/2/issue/" + jiraConfig.getIssueKey() + "?fields=" + ISSUE_FIELDS;
+        HttpRequest request = requestBuilder(jiraConfig, URI.create(url))
+            .timeout(properties.getRequestTimeout())
+            .header("Accept", "application/json")
+            .build();
+
+        HttpResponse<String> response = send(request, HttpResponse.BodyHandlers.ofString(), "issue");
+        if (response.statusCode() != 200) {
+            throw new IOException("Failed to fetch Jira issue. Status code: " + response.statusCode() + " - " + response.body());
+        }
+
+        JSONObject fields = new JSONObject(response.body()).getJSONObject("fields");
+        List<JiraAttachment> attachments = new ArrayList<>();
+        JSONArray attachmentArray = fields.optJSONArray("attachment");
+        if (attachmentArray != null) {
+            for (int i = 0; i < attachmentArray.length(); i++) {
+                JSONObject attachment = attachmentArray.getJSONObject(i);
+                attachments.add(new JiraAttachment(
+                    attachment.optString("id", ""),
+                    attachment.getString("filename"),
+                    attachment.getString("content"),
+                    attachment.getLong("size"),
+                    attachment.optString("mimeType", "application/octet-stream"),
+                    attachment.optString("created", null)
+                ));
+            }
+        }
+        return new JiraIssue(jiraConfig.getIssueKey(), fields.optString("summary", ""), fields.optString("description", ""), attachments);
+    }
+
+    /**
+     * Request builder with the Basic authorization header of the configured Jira user.
+     */
+    public HttpRequest.Builder requestBuilder(JiraConfig jiraConfig, URI uri) {
+        String auth = jiraConfig.getUsername() + ":" + jiraConfig.getApiToken();
+        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+        return HttpRequest.newBuilder()
+            .uri(uri)
+            .header("Authorization", "Basic " + encodedAuth);
+    }
+
+    /**
+     * Asynchronous variant of {@link #send}; cancelling the returned future aborts the exchange.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, String operation) {
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> future = jiraHttpClient.sendAsync(request, bodyHandler);
+        future.whenComplete((response, error) -> {
+            String status = response != null ? String.valueOf(response.statusCode()) : future.isCancelled() ? "cancelled" : "error";
+            Timer.builder("sdlc.jira.request")
+                .tags("operation", operation, "status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        });
+        return future;
+    }
+
+    /**
+     * Sends the request on the shared client and records its latency.
+     */
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, String operation) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        String status = "error";
+        try {
+            HttpResponse<T> response = jiraHttpClient.send(request, bodyHandler);
+            status = String.valueOf(response.statusCode());
+            return response;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder("sdlc.jira.request")
+                .tags("operation", operation, "status", status)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+            log.debug("Jira {} request to {} finished in {} ms ({})", operation, request.uri().getPath(), TimeUnit.NANOSECONDS.toMillis(elapsed), status);
+        }
+    }
+
+}
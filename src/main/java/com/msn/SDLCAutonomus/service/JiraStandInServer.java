@@ -0,0 +1,347 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.config.JiraStandInProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedded stand-in for the parts of the Jira REST API the pipeline uses, served from a fixture directory.
+ * The fixtures bundled under {@code classpath:jira-standin/} are copied to a temporary directory at startup, so
+ * they are found whatever the working directory and also from the packaged jar; a filesystem directory in
+ * {@code sdlc.jira-standin.fixture-dir} replaces them.
+ * <p>
+ * Active with the {@code jira-standin} profile; {@link ConfigService} then points every Jira call at it,
+ * so the pipeline can be run and load tested without network access. Supports fixed and random latency
+ * and a configurable error rate.
+ * <pre>
+ * GET /rest/api/2/issue/{key}[?fields=...]     issue JSON with summary, description and attachment metadata
+ * GET /secure/attachment/{id}/{filename}       attachment content (303 to /attachment-content/... if enabled)
+ * </pre>
+ */
+@Service
+@Slf4j
+@Profile("jira-standin")
+@RequiredArgsConstructor
+public class JiraStandInServer {
+
+    public static final String USERNAME = "standin";
+    public static final String API_TOKEN = "standin";
+
+    private static final String ISSUE_PATH = "/rest/api/2/issue/";
+    private static final String ATTACHMENT_PATH = "/secure/attachment/";
+    private static final String CONTENT_PATH = "/attachment-content/";
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
+    private final JiraStandInProperties properties;
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+    private HttpServer server;
+    private ExecutorService executor;
+    private Path fixtureRoot;
+    /** Where {@code classpath:} fixtures and attachments are copied to; null until the first one is. */
+    private Path classpathCopy;
+
+
+    @PostConstruct
+    public void start() throws IOException {
+        fixtureRoot = fixtureRoot(properties.getFixtureDir());
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", properties.getPort()), 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(ISSUE_PATH, exchange -> handle(exchange, this::serveIssue));
+        server.createContext(ATTACHMENT_PATH, exchange -> handle(exchange, this::serveAttachment));
+        server.createContext(CONTENT_PATH, exchange -> handle(exchange, this::serveContent));
+        server.start();
+        log.info("🧪 Jira stand-in listening on {} (fixtures: {})", getBaseUrl(), fixtureRoot);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+        if (classpathCopy != null) {
+            try (Stream<Path> paths = Files.walk(classpathCopy)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            } catch (IOException e) {
+                log.warn("Could not delete the Jira stand-in fixture copy {}: {}", classpathCopy, e.getMessage());
+            }
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        try (exchange) {
+            simulateLatency();
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "text/plain", "Method not allowed".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            if (properties.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < properties.getErrorRate()) {
+                send(exchange, properties.getErrorStatus(), "application/json",
+                    new JSONObject().put("errorMessages", new JSONArray().put("Injected failure")).toString().getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            handler.handle(exchange);
+        } catch (RuntimeException e) {
+            log.warn("Jira stand-in failed on {}: {}", exchange.getRequestURI(), e.getMessage());
+        }
+    }
+
+    private void serveIssue(HttpExchange exchange) throws IOException {
+        String issueKey = exchange.getRequestURI().getPath().substring(ISSUE_PATH.length());
+        Path issueDir = issueDir(issueKey);
+        if (issueDir == null) {
+            sendNotFound(exchange, "Issue does not exist or you do not have permission to see it.");
+            return;
+        }
+
+        JSONObject fixture = readIssueFixture(issueDir);
+        JSONArray attachments = new JSONArray();
+        for (Path file : attachmentFiles(issueDir, fixture)) {
+            String filename = file.getFileName().toString();
+            String id = attachmentId(issueKey, filename);
+            String mimeType = Files.probeContentType(file);
+            attachments.put(new JSONObject()
+                .put("id", id)
+                .put("filename", filename)
+                .put("size", Files.size(file))
+                .put("created", Files.getLastModifiedTime(file).toInstant().toString())
+                .put("mimeType", mimeType != null ? mimeType : "application/octet-stream")
+                .put("content", getBaseUrl() + ATTACHMENT_PATH + id + "/" + URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20")));
+        }
+
+        JSONObject fields = new JSONObject()
+            .put("summary", fixture.optString("summary", issueKey))
+            .put("description", fixture.optString("description", ""))
+            .put("attachment", attachments);
+        JSONObject issue = new JSONObject()
+            .put("key", issueKey)
+            .put("self", getBaseUrl() + ISSUE_PATH + issueKey)
+            .put("fields", fields);
+        send(exchange, 200, "application/json", issue.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void serveAttachment(HttpExchange exchange) throws IOException {
+        String rest = exchange.getRequestURI().getPath().substring(ATTACHMENT_PATH.length());
+        if (properties.isRedirectAttachments()) {
+            exchange.getResponseHeaders().add("Location", CONTENT_PATH + rest);
+            exchange.sendResponseHeaders(303, -1);
+            return;
+        }
+        serveFile(exchange, rest);
+    }
+
+    private void serveContent(HttpExchange exchange) throws IOException {
+        serveFile(exchange, exchange.getRequestURI().getPath().substring(CONTENT_PATH.length()));
+    }
+
+    private void serveFile(HttpExchange exchange, String idAndName) throws IOException {
+        int slash = idAndName.indexOf('/');
+        Path file = slash < 0 ? null : findAttachment(idAndName.substring(0, slash), idAndName.substring(slash + 1));
+        if (file == null) {
+            sendNotFound(exchange, "The attachment does not exist.");
+            return;
+        }
+        String mimeType = Files.probeContentType(file);
+        exchange.getResponseHeaders().add("Content-Type", mimeType != null ? mimeType : "application/octet-stream");
+        exchange.sendResponseHeaders(200, Files.size(file));
+        try (OutputStream body = exchange.getResponseBody()) {
+            Files.copy(file, body);
+        }
+    }
+
+    private Path findAttachment(String id, String filename) throws IOException {
+        if (!Files.isDirectory(fixtureRoot)) {
+            return null;
+        }
+        try (Stream<Path> issues = Files.list(fixtureRoot)) {
+            for (Path issueDir : (Iterable<Path>) issues.filter(Files::isDirectory)::iterator) {
+                String issueKey = issueDir.getFileName().toString();
+                if (!attachmentId(issueKey, filename).equals(id)) {
+                    continue;
+                }
+                for (Path file : attachmentFiles(issueDir, readIssueFixture(issueDir))) {
+                    if (file.getFileName().toString().equals(filename)) {
+                        return file;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private Path issueDir(String issueKey) {
+        if (!issueKey.matches("[A-Za-z0-9_-]+")) {
+            return null;
+        }
+        Path dir = fixtureRoot.resolve(issueKey);
+        return Files.isDirectory(dir) ? dir : null;
+    }
+
+    private static JSONObject readIssueFixture(Path issueDir) throws IOException {
+        Path issueFile = issueDir.resolve("issue.json");
+        return Files.exists(issueFile) ? new JSONObject(Files.readString(issueFile, StandardCharsets.UTF_8)) : new JSONObject();
+    }
+
+    private List<Path> attachmentFiles(Path issueDir, JSONObject fixture) throws IOException {
+        List<Path> files = new ArrayList<>();
+        JSONArray listed = fixture.optJSONArray("attachments");
+        if (listed != null) {
+            for (int i = 0; i < listed.length(); i++) {
+                String entry = listed.getString(i);
+                Path file = entry.startsWith(CLASSPATH_PREFIX) ? classpathFile(entry) : issueDir.resolve(entry).normalize();
+                if (file != null && Files.isRegularFile(file)) {
+                    files.add(file);
+                } else {
+                    log.warn("Jira stand-in fixture {} lists a missing attachment: {}", issueDir.getFileName(), entry);
+                }
+            }
+        }
+        Path attachmentDir = issueDir.resolve("attachments");
+        if (Files.isDirectory(attachmentDir)) {
+            try (Stream<Path> dirFiles = Files.list(attachmentDir)) {
+                dirFiles.filter(Files::isRegularFile).sorted().forEach(files::add);
+            }
+        }
+        return files;
+    }
+
+    /** The fixture directory: a filesystem path as is, a {@code classpath:} location copied out of the classpath. */
+    private Path fixtureRoot(String location) throws IOException {
+        if (!location.startsWith(CLASSPATH_PREFIX)) {
+            return Paths.get(location).toAbsolutePath();
+        }
+        String base = classpathPath(location);
+        Path target = classpathCopy().resolve(base);
+        Files.createDirectories(target);
+        for (Resource resource : resourceResolver.getResources("classpath*:" + base + "/**")) {
+            if (!resource.isReadable()) {
+                continue;
+            }
+            // Works for a directory on disk and for a jar entry alike: both URIs end in <base>/<relative path>.
+            String uri = resource.getURI().getSchemeSpecificPart();
+            int at = uri.lastIndexOf("/" + base + "/");
+            if (at < 0) {
+                continue;
+            }
+            Path file = target.resolve(uri.substring(at + base.length() + 2)).normalize();
+            if (file.startsWith(target)) {
+                copy(resource, file);
+            }
+        }
+        return target;
+    }
+
+    /** A {@code classpath:} attachment, copied out of the classpath the first time it is listed. */
+    private synchronized Path classpathFile(String location) throws IOException {
+        String path = classpathPath(location);
+        Path file = classpathCopy().resolve(path).normalize();
+        if (!Files.isRegularFile(file)) {
+            Resource resource = resourceResolver.getResource(CLASSPATH_PREFIX + path);
+            if (!resource.isReadable()) {
+                return null;
+            }
+            copy(resource, file);
+        }
+        return file;
+    }
+
+    private synchronized Path classpathCopy() throws IOException {
+        if (classpathCopy == null) {
+            classpathCopy = Files.createTempDirectory("jira-standin-");
+        }
+        return classpathCopy;
+    }
+
+    private static String classpathPath(String location) {
+        String path = location.substring(CLASSPATH_PREFIX.length());
+        while (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    private static void copy(Resource resource, Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String attachmentId(String issueKey, String filename) {
+        // Stable across restarts so the attachment cache keeps working against the stand-in.
+        return String.valueOf(Integer.toUnsignedLong((issueKey + "/" + filename).hashCode()));
+    }
+
+    private void simulateLatency() {
+        long delay = properties.getLatency().toMillis();
+        long jitter = properties.getLatencyJitter().toMillis();
+        if (jitter > 0) {
+            delay += ThreadLocalRandom.current().nextLong(jitter + 1);
+        }
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void sendNotFound(HttpExchange exchange, String message) throws IOException {
+        send(exchange, 404, "application/json",
+            new JSONObject().put("errorMessages", new JSONArray().put(message)).toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+}
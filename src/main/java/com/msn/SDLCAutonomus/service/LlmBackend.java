@@ -0,0 +1,205 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.springframework.stereotype.Service;
+
+import com.google.adk.models.BaseLlm;
+import com.google.adk.models.BaseLlmConnection;
+import com.google.adk.models.LlmRegistry;
+import com.google.adk.models.LlmRequest;
+import com.google.adk.models.LlmResponse;
+import com.google.genai.types.Content;
+import com.google.genai.types.Part;
+import com.msn.SDLCAutonomus.config.LlmBackendProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.reactivex.rxjava3.core.Flowable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Supplies the {@link BaseLlm} an agent runs on: the live provider model, a recording wrapper around it,
+ * or a replaying stand-in that answers from fixtures without network access ({@code sdlc.llm.mode}).
+ * <p>
+ * Fixtures are keyed by agent name and a hash of the system instruction and request contents, so the
+ * same prompt replays the same answer regardless of which model tier produced it. Replay falls back to
+ * the agent's scripted stub when no fixture matches; {@code sdlc.llm.replay} counts hits and stubs.
+ */
+@Service
+@Slf4j
+public class LlmBackend {
+
+    private static final String STUB_FILE_NAME = "stub.txt";
+
+    private final LlmBackendProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Path fixtureDir;
+
+    public LlmBackend(LlmBackendProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.fixtureDir = Paths.get(properties.getFixtureDir());
+        if (properties.getMode() != LlmBackendProperties.Mode.LIVE) {
+            log.info("🎞️ LLM backend in {} mode (fixtures: {})", properties.getMode(), fixtureDir.toAbsolutePath());
+        }
+    }
+
+
+    /**
+     * Returns the model to run {@code agentName} on for the given provider model id.
+     */
+    public BaseLlm modelFor(String agentName, String modelId) {
+        return switch (properties.getMode()) {
+            case LIVE -> LlmRegistry.getLlm(modelId);
+            case RECORD -> new RecordingLlm(agentName, LlmRegistry.getLlm(modelId));
+            case REPLAY -> new ReplayLlm(agentName, modelId);
+        };
+    }
+
+
+    private final class RecordingLlm extends BaseLlm {
+
+        private final String agentName;
+        private final BaseLlm delegate;
+
+        private RecordingLlm(String agentName, BaseLlm delegate) {
+            super(delegate.model());
+            this.agentName = agentName;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Flowable<LlmResponse> generateContent(LlmRequest llmRequest, boolean stream) {
+            StringBuilder response = new StringBuilder();
+            long start = System.nanoTime();
+            return delegate.generateContent(llmRequest, stream)
+                .doOnNext(chunk -> {
+                    // With streaming, partial chunks are followed by the aggregated response; keep only the latter.
+                    if (!chunk.partial().orElse(false)) {
+                        response.append(textOf(chunk.content().orElse(null)));
+                    }
+                })
+                .doOnComplete(() -> writeFixture(agentName, model(), llmRequest, response.toString(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        }
+
+        @Override
+        public BaseLlmConnection connect(LlmRequest llmRequest) {
+            return delegate.connect(llmRequest);
+        }
+    }
+
+    private final class ReplayLlm extends BaseLlm {
+
+        private final String agentName;
+
+        private ReplayLlm(String agentName, String modelId) {
+            super(modelId);
+            this.agentName = agentName;
+        }
+
+        @Override
+        public Flowable<LlmResponse> generateContent(LlmRequest llmRequest, boolean stream) {
+            Path fixture = fixtureFile(agentName, llmRequest);
+            String text;
+            long recordedLatency = 0;
+            String result;
+            try {
+                if (Files.exists(fixture)) {
+                    JSONObject json = new JSONObject(Files.readString(fixture, StandardCharsets.UTF_8));
+                    text = json.optString("response", "");
+                    recordedLatency = json.optLong("latencyMs", 0);
+                    result = "hit";
+                } else {
+                    text = stubFor(agentName);
+                    result = "stub";
+                    log.info("No LLM fixture for {} ({}); replaying scripted stub.", agentName, fixture.getFileName());
+                }
+            } catch (IOException e) {
+                return Flowable.error(e);
+            }
+            meterRegistry.counter("sdlc.llm.replay", "agent", agentName, "result", result).increment();
+
+            LlmResponse response = LlmResponse.builder()
+                .content(Content.builder().role("model").parts(List.of(Part.fromText(text))).build())
+                .build();
+            long delay = properties.getReplayLatency().toMillis() + Math.round(recordedLatency * properties.getReplayLatencyScale());
+            return delay > 0 ? Flowable.just(response).delay(delay, TimeUnit.MILLISECONDS) : Flowable.just(response);
+        }
+
+        @Override
+        public BaseLlmConnection connect(LlmRequest llmRequest) {
+            throw new UnsupportedOperationException("Live connections are not available in replay mode");
+        }
+    }
+
+
+    private void writeFixture(String agentName, String model, LlmRequest llmRequest, String response, long latencyMs) {
+        Path fixture = fixtureFile(agentName, llmRequest);
+        JSONArray contents = new JSONArray();
+        for (Content content : llmRequest.contents()) {
+            contents.put(new JSONObject()
+                .put("role", content.role().orElse("user"))
+                .put("text", textOf(content)));
+        }
+        JSONObject json = new JSONObject()
+            .put("agent", agentName)
+            .put("model", model)
+            .put("recordedAt", Instant.now().toString())
+            .put("latencyMs", latencyMs)
+            .put("systemInstruction", String.join("\n", llmRequest.getSystemInstructions()))
+            .put("contents", contents)
+            .put("response", response);
+        try {
+            Files.createDirectories(fixture.getParent());
+            Path tmp = fixture.resolveSibling(fixture.getFileName() + ".tmp");
+            Files.writeString(tmp, json.toString(2), StandardCharsets.UTF_8);
+            Files.move(tmp, fixture, StandardCopyOption.REPLACE_EXISTING);
+            log.info("🎞️ Recorded LLM fixture for {}: {}", agentName, fixture.getFileName());
+        } catch (IOException e) {
+            log.warn("Could not record LLM fixture for {}: {}", agentName, e.getMessage());
+        }
+    }
+
+    private String stubFor(String agentName) throws IOException {
+        Path stubFile = agentDir(agentName).resolve(STUB_FILE_NAME);
+        if (Files.exists(stubFile)) {
+            return Files.readString(stubFile, StandardCharsets.UTF_8);
+        }
+        return properties.getStubs().getOrDefault(agentName, properties.getDefaultStub());
+    }
+
+    private Path fixtureFile(String agentName, LlmRequest llmRequest) {
+        StringBuilder key = new StringBuilder(String.join("\n", llmRequest.getSystemInstructions()));
+        for (Content content : llmRequest.contents()) {
+            key.append('\u0000').append(content.role().orElse("user")).append(':').append(textOf(content));
+        }
+        return agentDir(agentName).resolve(UtilityService.sha256Hex(key.toString()) + ".json");
+    }
+
+    private Path agentDir(String agentName) {
+        return fixtureDir.resolve(agentName.replaceAll("[^A-Za-z0-9_.-]", "_"));
+    }
+
+    private static String textOf(Content content) {
+        if (content == null) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        for (Part part : content.parts().orElse(List.of())) {
+            part.text().ifPresent(text::append);
+        }
+        return text.toString();
+    }
+
+}
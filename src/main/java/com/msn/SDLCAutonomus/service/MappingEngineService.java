@@ -0,0 +1,374 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.model.MappingResult;
+import com.msn.SDLCAutonomus.model.MappingViolation;
+import com.msn.SDLCAutonomus.service.MappingPlan.ArrayRule;
+import com.msn.SDLCAutonomus.service.MappingPlan.FieldRule;
+import com.msn.SDLCAutonomus.service.MappingPlan.Rule;
+import com.msn.SDLCAutonomus.service.MappingPlan.SourceNode;
+import com.msn.SDLCAutonomus.service.MappingPlan.TargetNode;
+import com.msn.SDLCAutonomus.service.MappingPlan.Transform;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes mapping JSON files (see {@code sample/mapping_with_validation.json}) directly, without generating code.
+ *
+ * <p>Each mapping has a {@code sourceField} and {@code targetField} (dotted paths from the document roots,
+ * {@code []} for repeating elements, {@code @name} for attributes), and optionally {@code children} relative to a
+ * repeating element, {@code occurrence} bounds, {@code validation} rules, a {@code transform} and a {@code default}.
+ * Transforms are {@code booleanToPaidStatus}, {@code TO_INT}, {@code TO_DECIMAL}, {@code UPPER}, {@code LOWER},
+ * {@code TRIM} and {@code CONCAT(path or 'literal', ...)}; a mapping with only a transform may omit the source field.
+ * Validation applies to the value that is written to the target and is compiled by {@link ValidationRule}.
+ *
+ * <p>Mappings are compiled into a {@link MappingPlan} once and cached by content.
+ */
+@Service
+@Slf4j
+public class MappingEngineService {
+
+    private static final int MAX_CACHED_PLANS = 32;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final String INDENT = "    ";
+
+    private static final XMLInputFactory STAX = XmlValidationService.secureInputFactory();
+
+    private final Map<String, MappingPlan> plans = new ConcurrentHashMap<>();
+
+    /** Transform factories by normalized name (upper case, no underscores); each gets the parsed arguments. */
+    private static final Map<String, Function<List<String>, Transform>> TRANSFORMS = Map.of(
+        "BOOLEANTOPAIDSTATUS", args -> (value, scope) -> ValidationRule.isTrue(value) ? "Paid" : "Unpaid",
+        "TOINT", args -> (value, scope) -> isPlainInteger(value) ? value
+            : new BigDecimal(value.strip()).setScale(0, RoundingMode.HALF_UP).toBigInteger().toString(),
+        "TODECIMAL", args -> (value, scope) -> new BigDecimal(value.strip()).toPlainString(),
+        "UPPER", args -> (value, scope) -> value.toUpperCase(Locale.ROOT),
+        "LOWER", args -> (value, scope) -> value.toLowerCase(Locale.ROOT),
+        "TRIM", args -> (value, scope) -> value.strip(),
+        "CONCAT", MappingEngineService::concat);
+
+    /**
+     * Compiles a mapping JSON into an executable plan, or returns the cached plan for the same content.
+     *
+     * @throws IOException if the JSON is not a mapping file or uses an unknown transform or rule
+     */
+    public MappingPlan compile(String mappingJson) throws IOException {
+        String key = UtilityService.sha256Hex(mappingJson);
+        MappingPlan cached = plans.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        MappingPlan plan;
+        try {
+            JSONArray mappings = new JSONObject(mappingJson).getJSONArray("mappings");
+            plan = new MappingPlan(compileRules(mappings));
+        } catch (JSONException | IllegalArgumentException e) {
+            throw new IOException("Invalid mapping file: " + e.getMessage(), e);
+        }
+        log.info("✅ Compiled mapping plan with {} rules.", plan.getRuleCount());
+        if (plans.size() >= MAX_CACHED_PLANS) {
+            plans.clear();
+        }
+        MappingPlan existing = plans.putIfAbsent(key, plan);
+        return existing != null ? existing : plan;
+    }
+
+    public MappingResult transform(MappingPlan plan, Path sourceXml) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(sourceXml), STREAM_BUFFER_SIZE)) {
+            return transform(plan, in);
+        }
+    }
+
+    public MappingResult transform(MappingPlan plan, String sourceXml) throws IOException {
+        try {
+            return execute(plan, STAX.createXMLStreamReader(new StringReader(sourceXml)));
+        } catch (XMLStreamException e) {
+            throw new IOException("Could not read the source XML: " + e.getMessage(), e);
+        }
+    }
+
+    public MappingResult transform(MappingPlan plan, InputStream sourceXml) throws IOException {
+        try {
+            return execute(plan, STAX.createXMLStreamReader(sourceXml));
+        } catch (XMLStreamException e) {
+            throw new IOException("Could not read the source XML: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs the mapping's transforms and validation rules on the source without producing a target document.
+     */
+    public List<MappingViolation> validate(MappingPlan plan, Path sourceXml) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(sourceXml), STREAM_BUFFER_SIZE)) {
+            return validate(plan, in);
+        }
+    }
+
+    public List<MappingViolation> validate(MappingPlan plan, InputStream sourceXml) throws IOException {
+        try {
+            List<MappingViolation> violations = new ArrayList<>();
+            plan.validate(read(STAX.createXMLStreamReader(sourceXml)), violations);
+            return violations;
+        } catch (XMLStreamException e) {
+            throw new IOException("Could not read the source XML: " + e.getMessage(), e);
+        }
+    }
+
+    private MappingResult execute(MappingPlan plan, XMLStreamReader reader) throws XMLStreamException {
+        SourceNode document = read(reader);
+        List<MappingViolation> violations = new ArrayList<>();
+        TargetNode target = plan.execute(document, violations);
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        for (TargetNode root : target.children) {
+            write(xml, root, 0);
+        }
+        return new MappingResult(xml.toString(), violations);
+    }
+
+    // --- Compilation ---
+
+    private List<Rule> compileRules(JSONArray mappings) throws IOException {
+        List<Rule> rules = new ArrayList<>();
+        for (int i = 0; i < mappings.length(); i++) {
+            JSONObject mapping = mappings.getJSONObject(i);
+            String sourceField = mapping.optString("sourceField", null);
+            String targetField = mapping.getString("targetField");
+            MappingPlan.Path sourcePath = sourceField == null || sourceField.isBlank() ? null : new MappingPlan.Path(sourceField);
+            MappingPlan.Path targetPath = new MappingPlan.Path(targetField);
+
+            if (mapping.has("children")) {
+                if (sourcePath == null) {
+                    throw new IOException("Mapping to " + targetField + " has children but no sourceField");
+                }
+                JSONObject occurrence = mapping.optJSONObject("occurrence");
+                rules.add(new ArrayRule(sourcePath, targetPath,
+                    occurrence != null && occurrence.has("min") ? occurrence.getInt("min") : null,
+                    occurrence != null && occurrence.has("max") ? occurrence.getInt("max") : null,
+                    compileRules(mapping.getJSONArray("children"))));
+                continue;
+            }
+
+            JSONObject validation = mapping.optJSONObject("validation");
+            Transform transform = mapping.has("transform") ? compileTransform(mapping.getString("transform"), targetField) : null;
+            if (sourcePath == null && transform == null && !mapping.has("default")) {
+                throw new IOException("Mapping to " + targetField + " has no sourceField, transform or default");
+            }
+            rules.add(new FieldRule(sourcePath, targetPath, transform, mapping.optString("default", null), ValidationRule.compile(validation)));
+        }
+        return rules;
+    }
+
+    private static Transform compileTransform(String expression, String targetField) throws IOException {
+        String trimmed = expression.strip();
+        int open = trimmed.indexOf('(');
+        if (open >= 0 && !isArgumentList(trimmed.substring(open))) {
+            throw new IOException("Transform '" + trimmed + "' of the mapping to " + targetField + " has unbalanced parentheses");
+        }
+        String name = (open < 0 ? trimmed : trimmed.substring(0, open)).strip();
+        List<String> arguments = open < 0 ? List.of() : splitArguments(trimmed.substring(open + 1, trimmed.length() - 1));
+        Function<List<String>, Transform> factory = TRANSFORMS.get(name.replace("_", "").toUpperCase(Locale.ROOT));
+        if (factory == null) {
+            throw new IOException("Unknown transform: " + name);
+        }
+        return factory.apply(arguments);
+    }
+
+    /** CONCAT joins its arguments; quoted ones are literals, the others paths relative to the mapping scope. */
+    private static Transform concat(List<String> arguments) {
+        if (arguments.isEmpty()) {
+            throw new IllegalArgumentException("CONCAT needs at least one argument");
+        }
+        List<Function<SourceNode, String>> parts = new ArrayList<>();
+        List<MappingPlan.Path> paths = new ArrayList<>();
+        for (String argument : arguments) {
+            if (argument.length() >= 2 && argument.startsWith("'") && argument.endsWith("'")) {
+                String literal = argument.substring(1, argument.length() - 1);
+                parts.add(scope -> literal);
+            } else {
+                MappingPlan.Path path = new MappingPlan.Path(argument);
+                paths.add(path);
+                parts.add(scope -> {
+                    String value = path.value(scope);
+                    return value == null ? "" : value;
+                });
+            }
+        }
+        return new Transform() {
+            @Override
+            public String apply(String value, SourceNode scope) {
+                StringBuilder joined = new StringBuilder();
+                for (Function<SourceNode, String> part : parts) {
+                    joined.append(part.apply(scope));
+                }
+                return joined.toString();
+            }
+
+            @Override
+            public List<MappingPlan.Path> sourcePaths() {
+                return paths;
+            }
+        };
+    }
+
+    /** Already what TO_INT would produce: no sign but a minus, no leading zeros, no whitespace. */
+    private static boolean isPlainInteger(String value) {
+        int start = value.startsWith("-") ? 1 : 0;
+        if (value.length() == start || (value.charAt(start) == '0' && (value.length() > start + 1 || start == 1))) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** True for {@code (...)} whose parentheses outside quotes are balanced and close only at the end. */
+    private static boolean isArgumentList(String text) {
+        int depth = 0;
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                depth++;
+            } else if (!quoted && c == ')' && --depth == 0 && i < text.length() - 1) {
+                return false;
+            }
+        }
+        return depth == 0 && !quoted;
+    }
+
+    private static List<String> splitArguments(String arguments) {
+        List<String> result = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (char c : arguments.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == ',' && !quoted) {
+                result.add(current.toString().strip());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            result.add(current.toString().strip());
+        }
+        return result;
+    }
+
+
+    // --- Documents ---
+
+    private static SourceNode read(XMLStreamReader reader) throws XMLStreamException {
+        SourceNode document = new SourceNode("#document", Map.of());
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    document.children.add(readElement(reader));
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return document;
+    }
+
+    /**
+     * Reads the element the reader is positioned on, up to and including its end tag.
+     */
+    static SourceNode readElement(XMLStreamReader reader) throws XMLStreamException {
+        SourceNode element = startNode(reader);
+        Deque<SourceNode> open = new ArrayDeque<>();
+        Deque<StringBuilder> texts = new ArrayDeque<>();
+        open.push(element);
+        texts.push(new StringBuilder());
+        while (!open.isEmpty()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    SourceNode node = startNode(reader);
+                    open.peek().children.add(node);
+                    open.push(node);
+                    texts.push(new StringBuilder());
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA ->
+                    texts.peek().append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                case XMLStreamConstants.END_ELEMENT -> {
+                    SourceNode node = open.pop();
+                    String text = texts.pop().toString().strip();
+                    node.text = text.isEmpty() ? null : text;
+                }
+                default -> { }
+            }
+        }
+        return element;
+    }
+
+    /** A node for the start tag the reader is positioned on, with its attributes. */
+    static SourceNode startNode(XMLStreamReader reader) {
+        Map<String, String> attributes = reader.getAttributeCount() == 0 ? Map.of() : new HashMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            attributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        }
+        return new SourceNode(reader.getLocalName(), attributes);
+    }
+
+    private static void write(StringBuilder xml, TargetNode node, int depth) {
+        String indent = INDENT.repeat(depth);
+        xml.append(indent).append('<').append(node.name);
+        node.attributes.forEach((name, value) -> xml.append(' ').append(name).append("=\"").append(escape(value).replace("\"", "&quot;")).append('"'));
+        if (node.children.isEmpty() && node.text == null) {
+            xml.append("/>\n");
+            return;
+        }
+        xml.append('>');
+        if (node.text != null) {
+            xml.append(escape(node.text));
+        }
+        if (!node.children.isEmpty()) {
+            xml.append('\n');
+            for (TargetNode child : node.children) {
+                write(xml, child, depth + 1);
+            }
+            xml.append(indent);
+        }
+        xml.append("</").append(node.name).append(">\n");
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,332 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.msn.SDLCAutonomus.model.MappingViolation;
+
+/**
+ * A mapping JSON compiled by {@link MappingEngineService}: paths split into segments, validation rules and
+ * transforms resolved once. A plan is immutable and can be executed on any number of documents, also
+ * concurrently.
+ */
+public final class MappingPlan {
+
+    private final List<Rule> rules;
+    private final int ruleCount;
+
+    MappingPlan(List<Rule> rules) {
+        this.rules = List.copyOf(rules);
+        this.ruleCount = countRules(rules);
+    }
+
+    List<Rule> rules() {
+        return rules;
+    }
+
+    /** Number of field and array rules, nested ones included. */
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * Maps the source document onto a new target document and collects the violations.
+     */
+    TargetNode execute(SourceNode sourceDocument, List<MappingViolation> violations) {
+        TargetNode targetDocument = new TargetNode("#document");
+        apply(rules, sourceDocument, targetDocument, new StringBuilder(), violations);
+        return targetDocument;
+    }
+
+    /**
+     * Runs the transforms and validation rules without building a target document.
+     */
+    void validate(SourceNode sourceDocument, List<MappingViolation> violations) {
+        apply(rules, sourceDocument, null, new StringBuilder(), violations);
+    }
+
+    private static void apply(List<Rule> rules, SourceNode source, TargetNode target, StringBuilder targetPrefix, List<MappingViolation> violations) {
+        for (int i = 0; i < rules.size(); i++) {
+            rules.get(i).apply(source, target, targetPrefix, violations);
+        }
+    }
+
+    private static int countRules(List<Rule> rules) {
+        int count = 0;
+        for (Rule rule : rules) {
+            count += 1 + (rule instanceof ArrayRule array ? countRules(array.children) : 0);
+        }
+        return count;
+    }
+
+    // --- Compiled rules ---
+
+    /**
+     * One compiled mapping. {@code targetPrefix} holds the path of the enclosing array items (e.g.
+     * {@code PurchaseOrder.Products.Product[3].}); it is only turned into a string for a violation. A null
+     * {@code target} validates without writing.
+     */
+    interface Rule {
+        void apply(SourceNode source, TargetNode target, StringBuilder targetPrefix, List<MappingViolation> violations);
+    }
+
+    /** Copies one value, optionally transformed, and validates what is written. */
+    static final class FieldRule implements Rule {
+        private final Path sourcePath;
+        private final Path targetPath;
+        private final Transform transform;
+        private final String defaultValue;
+        private final ValidationRule validation;
+
+        FieldRule(Path sourcePath, Path targetPath, Transform transform, String defaultValue, ValidationRule validation) {
+            this.sourcePath = sourcePath;
+            this.targetPath = targetPath;
+            this.transform = transform;
+            this.defaultValue = defaultValue;
+            this.validation = validation;
+        }
+
+        Path sourcePath() {
+            return sourcePath;
+        }
+
+        Transform transform() {
+            return transform;
+        }
+
+        @Override
+        public void apply(SourceNode source, TargetNode target, StringBuilder targetPrefix, List<MappingViolation> violations) {
+            String value = sourcePath == null ? null : sourcePath.value(source);
+            if (transform != null && (value != null || sourcePath == null)) {
+                try {
+                    value = transform.apply(value, source);
+                } catch (RuntimeException e) {
+                    violations.add(new MappingViolation(targetPrefix + targetPath.text(), "transform", e.getMessage()));
+                    return;
+                }
+            }
+            if (value == null || value.isEmpty()) {
+                value = defaultValue;
+            }
+            if (value == null) {
+                if (validation.isRequired()) {
+                    violations.add(new MappingViolation(targetPrefix + targetPath.text(), "required",
+                        "No value at " + (sourcePath == null ? "source" : sourcePath.text())));
+                }
+                return;
+            }
+            validation.check(value, targetPrefix, targetPath.text(), violations);
+            if (target != null) {
+                targetPath.write(target, value);
+            }
+        }
+    }
+
+    /** Maps every matching source element to a new target element and applies the child rules to each pair. */
+    static final class ArrayRule implements Rule {
+        private final Path sourcePath;
+        private final Path targetPath;
+        private final Integer minOccurs;
+        private final Integer maxOccurs;
+        private final List<Rule> children;
+
+        ArrayRule(Path sourcePath, Path targetPath, Integer minOccurs, Integer maxOccurs, List<Rule> children) {
+            this.sourcePath = sourcePath;
+            this.targetPath = targetPath;
+            this.minOccurs = minOccurs;
+            this.maxOccurs = maxOccurs;
+            this.children = List.copyOf(children);
+        }
+
+        @Override
+        public void apply(SourceNode source, TargetNode target, StringBuilder targetPrefix, List<MappingViolation> violations) {
+            List<SourceNode> items = sourcePath.all(source);
+            checkOccurrence(items.size(), targetPrefix, violations);
+            for (int i = 0; i < items.size(); i++) {
+                applyItem(items.get(i), target == null ? null : targetPath.append(target), targetPrefix, i, violations);
+            }
+        }
+
+        /** Maps one source item onto its target element, or only validates it if {@code targetItem} is null; {@code index} is zero-based. */
+        void applyItem(SourceNode item, TargetNode targetItem, StringBuilder targetPrefix, int index, List<MappingViolation> violations) {
+            int length = targetPrefix.length();
+            targetPrefix.append(targetPath.text()).append('[').append(index + 1).append("].");
+            MappingPlan.apply(children, item, targetItem, targetPrefix, violations);
+            targetPrefix.setLength(length);
+        }
+
+        void checkOccurrence(int count, CharSequence targetPrefix, List<MappingViolation> violations) {
+            if (minOccurs != null && count < minOccurs) {
+                violations.add(new MappingViolation(targetPrefix + targetPath.text(), "occurrence", count + " item(s), at least " + minOccurs + " required"));
+            }
+            if (maxOccurs != null && count > maxOccurs) {
+                violations.add(new MappingViolation(targetPrefix + targetPath.text(), "occurrence", count + " item(s), at most " + maxOccurs + " allowed"));
+            }
+        }
+
+        Path sourcePath() {
+            return sourcePath;
+        }
+
+        Path targetPath() {
+            return targetPath;
+        }
+    }
+
+    /** A dotted path such as {@code Order.Items.Item[]} or {@code Customer.@id}, split once. */
+    static final class Path {
+        private final String text;
+        private final String[] segments;
+
+        Path(String text) {
+            this.text = text.replace("[]", "");
+            String[] parts = text.split("\\.");
+            this.segments = new String[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                segments[i] = parts[i].endsWith("[]") ? parts[i].substring(0, parts[i].length() - 2) : parts[i];
+            }
+        }
+
+        /** The path without {@code []} markers. */
+        String text() {
+            return text;
+        }
+
+        int length() {
+            return segments.length;
+        }
+
+        /** Element name or {@code @attribute} at this position. */
+        String segment(int index) {
+            return segments[index];
+        }
+
+        /** Text of the first match, or null. */
+        String value(SourceNode scope) {
+            SourceNode node = scope;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.startsWith("@")) {
+                    return i == segments.length - 1 ? node.attribute(segment.substring(1)) : null;
+                }
+                node = node.child(segment);
+                if (node == null) {
+                    return null;
+                }
+            }
+            return node.text();
+        }
+
+        /** Every element at the end of the path, in document order. */
+        List<SourceNode> all(SourceNode scope) {
+            List<SourceNode> level = List.of(scope);
+            for (String segment : segments) {
+                List<SourceNode> next = new ArrayList<>();
+                for (SourceNode node : level) {
+                    node.children(segment, next);
+                }
+                level = next;
+            }
+            return level;
+        }
+
+        void write(TargetNode scope, String value) {
+            TargetNode node = scope;
+            for (int i = 0; i < segments.length - 1; i++) {
+                node = node.child(segments[i]);
+            }
+            String last = segments[segments.length - 1];
+            if (last.startsWith("@")) {
+                node.attributes.put(last.substring(1), value);
+            } else {
+                node.child(last).text = value;
+            }
+        }
+
+        TargetNode append(TargetNode scope) {
+            TargetNode node = scope;
+            for (int i = 0; i < segments.length - 1; i++) {
+                node = node.child(segments[i]);
+            }
+            TargetNode item = new TargetNode(segments[segments.length - 1]);
+            node.children.add(item);
+            return item;
+        }
+    }
+
+    interface Transform {
+        /** @param value the source value, null when the rule has no source field */
+        String apply(String value, SourceNode scope);
+
+        /** Source paths the transform reads besides the mapped value. */
+        default List<Path> sourcePaths() {
+            return List.of();
+        }
+    }
+
+    // --- Documents ---
+
+    /** Minimal read-only element tree of a source document. */
+    static final class SourceNode {
+        final String name;
+        final Map<String, String> attributes;
+        final List<SourceNode> children = new ArrayList<>();
+        String text;
+
+        SourceNode(String name, Map<String, String> attributes) {
+            this.name = name;
+            this.attributes = attributes;
+        }
+
+        SourceNode child(String childName) {
+            for (SourceNode child : children) {
+                if (child.name.equals(childName)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        void children(String childName, List<SourceNode> into) {
+            for (SourceNode child : children) {
+                if (child.name.equals(childName)) {
+                    into.add(child);
+                }
+            }
+        }
+
+        String attribute(String attributeName) {
+            return attributes.get(attributeName);
+        }
+
+        String text() {
+            return text == null ? "" : text;
+        }
+    }
+
+    /** Element tree of the target document, in creation order. */
+    static final class TargetNode {
+        final String name;
+        final Map<String, String> attributes = new LinkedHashMap<>();
+        final List<TargetNode> children = new ArrayList<>();
+        String text;
+
+        TargetNode(String name) {
+            this.name = name;
+        }
+
+        /** The first child with this name, created if missing. */
+        TargetNode child(String childName) {
+            for (TargetNode child : children) {
+                if (child.name.equals(childName)) {
+                    return child;
+                }
+            }
+            TargetNode child = new TargetNode(childName);
+            children.add(child);
+            return child;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.config.BuildProperties;
+import com.msn.SDLCAutonomus.model.ProjectConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One local Maven repository per Spring Boot version, so generated projects build offline instead of
+ * downloading the Boot parent, starters and plugins into a fresh workspace every time.
+ *
+ * <p>A repository is warmed by building a seed project: the POM every generated project starts from, with the
+ * default dependencies and everything the pipeline always adds, run through {@code clean verify}. That resolves
+ * the same parent, BOMs, starters and lifecycle plugins the real builds need. The repository counts as warm once
+ * that build has succeeded, which is recorded in a marker file; a repository copied in from elsewhere can be
+ * marked warm the same way.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MavenRepositoryCache {
+
+    static final String WARM_MARKER = ".sdlc-warm";
+    private static final String SEED_PACKAGE = "com.generated.seed";
+    private static final Pattern VERSION = Pattern.compile("[A-Za-z0-9_.-]+");
+    /** What Maven reports when an offline build needs an artifact that is not in the local repository. */
+    private static final Pattern OFFLINE_MISS = Pattern.compile("in offline mode|has not been downloaded from it before");
+
+    private final BuildProperties buildProperties;
+    private final PomService pomService;
+    private final UtilityService utilityService;
+
+    /** Maven does not lock its local repository, so the online builds that write one (warm-up, fills) take turns. */
+    private final Map<String, ReentrantLock> repositoryLocks = new ConcurrentHashMap<>();
+
+    /** A Maven build run with the given repository arguments. */
+    @FunctionalInterface
+    public interface RepositoryBuild {
+        void run(List<String> repositoryArguments) throws IOException, InterruptedException;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!buildProperties.isWarmUpOnStartup() || buildProperties.getWarmUpVersions().isEmpty()) {
+            return;
+        }
+        Thread.ofPlatform().daemon().name("maven-warm-up").start(() -> {
+            for (String version : buildProperties.getWarmUpVersions()) {
+                try {
+                    warmUp(version);
+                } catch (IOException e) {
+                    log.warn("⚠️ Could not warm the Maven repository for Spring Boot {}: {}", version, e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        });
+    }
+
+    public Path repositoryFor(String springBootVersion) {
+        if (springBootVersion == null || !VERSION.matcher(springBootVersion).matches()) {
+            throw new IllegalArgumentException("Not a Spring Boot version: " + springBootVersion);
+        }
+        return Path.of(buildProperties.getRepositoryCacheDir(), "spring-boot-" + springBootVersion).toAbsolutePath().normalize();
+    }
+
+    public boolean isWarm(String springBootVersion) {
+        return springBootVersion != null && VERSION.matcher(springBootVersion).matches()
+            && Files.isRegularFile(repositoryFor(springBootVersion).resolve(WARM_MARKER));
+    }
+
+    /**
+     * Whether builds on this Spring Boot version run offline against its warm repository.
+     */
+    public boolean isOffline(String springBootVersion) {
+        return buildProperties.isOffline() && isWarm(springBootVersion);
+    }
+
+    /**
+     * Maven arguments for a build on this Spring Boot version: offline against its repository when that is warm,
+     * nothing (the user's own repository, online) otherwise.
+     */
+    public List<String> buildArguments(String springBootVersion) {
+        return isOffline(springBootVersion)
+            ? List.of("-o", "-Dmaven.repo.local=" + repositoryFor(springBootVersion))
+            : List.of();
+    }
+
+    /**
+     * Runs an online build that fills the repository of this Spring Boot version. Fills and the warm-up of one
+     * repository run one at a time; concurrent calls wait for the running one.
+     */
+    public void fill(String springBootVersion, RepositoryBuild build) throws IOException, InterruptedException {
+        ReentrantLock lock = lockFor(springBootVersion);
+        lock.lockInterruptibly();
+        try {
+            build.run(List.of("-Dmaven.repo.local=" + repositoryFor(springBootVersion)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether a failed offline build failed only because an artifact was not in the repository yet.
+     */
+    public static boolean isMissingArtifact(String buildLog) {
+        return buildLog != null && OFFLINE_MISS.matcher(buildLog).find();
+    }
+
+    /**
+     * Builds the seed project for this Spring Boot version online into its repository and marks it warm; does
+     * nothing if it already is. Concurrent calls for the same version, and fills of its repository, wait for the first one.
+     */
+    public Path warmUp(String springBootVersion) throws IOException, InterruptedException {
+        Path repository = repositoryFor(springBootVersion);
+        ReentrantLock lock = lockFor(springBootVersion);
+        lock.lockInterruptibly();
+        try {
+            if (isWarm(springBootVersion)) {
+                log.info("Maven repository for Spring Boot {} is already warm: {}", springBootVersion, repository);
+                return repository;
+            }
+            log.info("--- 🤖 Starting Maven repository warm-up for Spring Boot {} ---", springBootVersion);
+            long start = System.nanoTime();
+            Files.createDirectories(repository);
+            Path seed = Files.createTempDirectory(repository.getParent(), "seed-" + springBootVersion + "-");
+            try {
+                List<String> dependencies = writeSeedProject(seed, springBootVersion);
+                utilityService.runCommand(seed.toFile(), UtilityService.getMavenExecutable(), "-B",
+                    "-Dmaven.repo.local=" + repository, "clean", "verify");
+                Files.writeString(repository.resolve(WARM_MARKER), "warmed=" + Instant.now() + "\n"
+                    + "dependencies=" + String.join(",", dependencies) + "\n", StandardCharsets.UTF_8);
+            } finally {
+                deleteRecursively(seed);
+            }
+            log.info("✅ Maven repository for Spring Boot {} warmed in {} s: {}", springBootVersion,
+                (System.nanoTime() - start) / 1_000_000_000, repository);
+            return repository;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(String springBootVersion) {
+        return repositoryLocks.computeIfAbsent(springBootVersion, version -> new ReentrantLock());
+    }
+
+    /** Writes the seed project and returns the dependencies its POM declares. */
+    private List<String> writeSeedProject(Path seed, String springBootVersion) throws IOException {
+        ProjectConfig projectConfig = new ProjectConfig(buildProperties.getSeedJavaVersion(), springBootVersion, SEED_PACKAGE);
+        List<String> dependencies = new ArrayList<>(WriteClassesToFileSystemService.DEFAULT_DEPENDENCIES);
+        dependencies.addAll(buildProperties.getSeedDependencies());
+        dependencies = WriteClassesToFileSystemService.managedDependencies(dependencies, true);
+        String pom = pomService.mergeDependencies(WriteClassesToFileSystemService.newPom(projectConfig), dependencies);
+        Files.writeString(seed.resolve("pom.xml"), pom, StandardCharsets.UTF_8);
+
+        // A main class and a plain unit test, so compilation, Surefire and the Boot repackaging all run.
+        Path mainDir = Files.createDirectories(seed.resolve("src/main/java").resolve(SEED_PACKAGE.replace('.', '/')));
+        Files.writeString(mainDir.resolve("SeedApplication.java"), """
+            package %s;
+
+            import org.springframework.boot.SpringApplication;
+            import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+            @SpringBootApplication
+            public class SeedApplication {
+                public static void main(String[] args) {
+                    SpringApplication.run(SeedApplication.class, args);
+                }
+            }
+            """.formatted(SEED_PACKAGE), StandardCharsets.UTF_8);
+        Path testDir = Files.createDirectories(seed.resolve("src/test/java").resolve(SEED_PACKAGE.replace('.', '/')));
+        Files.writeString(testDir.resolve("SeedApplicationTests.java"), """
+            package %s;
+
+            import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+            import org.junit.jupiter.api.Test;
+
+            class SeedApplicationTests {
+                @Test
+                void seedClassLoads() {
+                    assertNotNull(new SeedApplication());
+                }
+            }
+            """.formatted(SEED_PACKAGE), StandardCharsets.UTF_8);
+        return dependencies;
+    }
+
+    private static void deleteRecursively(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            log.warn("Could not delete seed project {}: {}", directory, e.getMessage());
+        }
+    }
+}
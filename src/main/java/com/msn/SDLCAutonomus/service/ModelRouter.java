@@ -0,0 +1,139 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Service;
+
+import com.google.adk.models.BaseLlm;
+import com.msn.SDLCAutonomus.config.ModelRoutingProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves which model an agent runs on and escalates to a stronger tier when the
+ * output of a cheaper one is rejected.
+ * <p>
+ * Metrics per agent: {@code sdlc.agent.latency} (tagged with model and outcome),
+ * {@code sdlc.agent.requests} and {@code sdlc.agent.escalations}; the escalation rate
+ * of a route is escalations / requests.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ModelRouter {
+
+    private static final String DEFAULT_MODEL = "gemini-2.0-flash";
+
+    private final ModelRoutingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LlmBackend llmBackend;
+
+
+    /**
+     * Returns the ordered list of model ids for an agent, cheapest first.
+     */
+    public List<String> routeFor(String agentName) {
+        List<String> tiers = findRoute(agentName);
+        List<String> models = new ArrayList<>();
+        for (String tier : tiers) {
+            // A route entry is either a tier name or, if no such tier exists, a literal model id.
+            String model = properties.getTiers().getOrDefault(tier.trim(), tier.trim());
+            if (!model.isBlank() && !models.contains(model)) {
+                models.add(model);
+            }
+        }
+        if (models.isEmpty()) {
+            models.add(DEFAULT_MODEL);
+        }
+        return models;
+    }
+
+    /**
+     * Returns the model for the given escalation level, clamped to the strongest tier of the route.
+     */
+    public String selectModel(String agentName, int level) {
+        List<String> models = routeFor(agentName);
+        return models.get(Math.min(Math.max(level, 0), models.size() - 1));
+    }
+
+    /**
+     * Like {@link #selectModel}, but resolved through the configured backend (live, record or replay).
+     */
+    public BaseLlm selectLlm(String agentName, int level) {
+        return llmBackend.modelFor(agentName, selectModel(agentName, level));
+    }
+
+    public <T> T route(String agentName, Function<BaseLlm, T> invocation, Predicate<T> accept) {
+        return route(agentName, 0, invocation, accept);
+    }
+
+    /**
+     * Runs the invocation on the route's models starting at {@code startLevel}, moving to the next
+     * tier whenever the result is rejected by {@code accept} or the invocation throws.
+     * If every tier is rejected, the last result is returned so the caller can apply its own fallback;
+     * if the last tier threw, that exception is rethrown.
+     */
+    public <T> T route(String agentName, int startLevel, Function<BaseLlm, T> invocation, Predicate<T> accept) {
+        List<String> models = routeFor(agentName);
+        int level = Math.min(Math.max(startLevel, 0), models.size() - 1);
+        meterRegistry.counter("sdlc.agent.requests", "agent", agentName).increment();
+
+        T result = null;
+        RuntimeException lastError = null;
+        for (; level < models.size(); level++) {
+            String model = models.get(level);
+            if (level > 0) {
+                meterRegistry.counter("sdlc.agent.escalations", "agent", agentName).increment();
+                log.info("⬆️ Routing {} to escalation tier {}/{} ({})", agentName, level + 1, models.size(), model);
+            }
+
+            String outcome;
+            long start = System.nanoTime();
+            try {
+                result = invocation.apply(llmBackend.modelFor(agentName, model));
+                lastError = null;
+                outcome = result != null && accept.test(result) ? "accepted" : "rejected";
+            } catch (RuntimeException e) {
+                result = null;
+                lastError = e;
+                outcome = "error";
+                log.warn("{} failed on model {}: {}", agentName, model, e.getMessage());
+            }
+            long elapsed = System.nanoTime() - start;
+            Timer.builder("sdlc.agent.latency")
+                .tags("agent", agentName, "model", model, "outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("{} on {} finished in {} ms ({})", agentName, model, TimeUnit.NANOSECONDS.toMillis(elapsed), outcome);
+
+            if ("accepted".equals(outcome)) {
+                return result;
+            }
+        }
+
+        if (lastError != null) {
+            throw lastError;
+        }
+        log.warn("⚠️ {} output was rejected on every tier of its route. Returning the last response.", agentName);
+        return result;
+    }
+
+    private List<String> findRoute(String agentName) {
+        // Map keys may come back from relaxed binding in a different case, so match case-insensitively.
+        for (Map.Entry<String, List<String>> entry : properties.getRoutes().entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(agentName) && !entry.getValue().isEmpty()) {
+                return entry.getValue();
+            }
+        }
+        return properties.getDefaultRoute();
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.model.PipelineProfile;
+import com.msn.SDLCAutonomus.model.StageMetrics;
+import com.sun.management.ThreadMXBean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures wall time, CPU time and allocated bytes per pipeline stage.
+ *
+ * <p>A run is bracketed by {@link #begin} and {@link #end} on the thread that executes it; stages are
+ * opened with try-with-resources and may nest, in which case the outer stage only keeps its own share.
+ * Work a stage hands to other threads (parallel downloads, child processes) shows up in its wall time only.
+ * Every stage is also recorded as the {@code sdlc.pipeline.stage} timer, with or without an active run.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PipelineProfiler {
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadLocal<ActiveRun> activeRun = new ThreadLocal<>();
+    private volatile PipelineProfile lastProfile;
+
+    private static final class ActiveRun {
+        private final PipelineProfile profile;
+        private final Deque<Stage> openStages = new ArrayDeque<>();
+        private final Snapshot start = Snapshot.now();
+
+        private ActiveRun(PipelineProfile profile) {
+            this.profile = profile;
+        }
+    }
+
+    private record Snapshot(long wallNanos, long cpuNanos, long allocatedBytes) {
+        static Snapshot now() {
+            long cpu = THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+            long allocated = THREADS.isThreadAllocatedMemorySupported() ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+            return new Snapshot(System.nanoTime(), Math.max(cpu, 0), Math.max(allocated, 0));
+        }
+    }
+
+    /**
+     * One open stage; closing it adds its exclusive share to the run and its full cost to the enclosing stage.
+     */
+    public final class Stage implements AutoCloseable {
+        private final String name;
+        private final ActiveRun run;
+        private final Snapshot start = Snapshot.now();
+        private long childWallNanos;
+        private long childCpuNanos;
+        private long childAllocatedBytes;
+        private boolean closed;
+
+        private Stage(String name, ActiveRun run) {
+            this.name = name;
+            this.run = run;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            Snapshot end = Snapshot.now();
+            long wall = end.wallNanos() - start.wallNanos();
+            long cpu = end.cpuNanos() - start.cpuNanos();
+            long allocated = end.allocatedBytes() - start.allocatedBytes();
+            long ownWall = wall - childWallNanos;
+
+            Timer.builder("sdlc.pipeline.stage")
+                .tag("stage", name)
+                .register(meterRegistry)
+                .record(ownWall, TimeUnit.NANOSECONDS);
+
+            if (run == null) {
+                return;
+            }
+            run.openStages.remove(this);
+            StageMetrics metrics = run.profile.getStages().computeIfAbsent(name, key -> new StageMetrics());
+            metrics.setCount(metrics.getCount() + 1);
+            metrics.setWallNanos(metrics.getWallNanos() + ownWall);
+            metrics.setCpuNanos(metrics.getCpuNanos() + cpu - childCpuNanos);
+            metrics.setAllocatedBytes(metrics.getAllocatedBytes() + allocated - childAllocatedBytes);
+
+            Stage parent = run.openStages.peek();
+            if (parent != null) {
+                parent.childWallNanos += wall;
+                parent.childCpuNanos += cpu;
+                parent.childAllocatedBytes += allocated;
+            }
+        }
+    }
+
+    public void begin(String issueKey) {
+        PipelineProfile profile = new PipelineProfile();
+        profile.setIssueKey(issueKey);
+        profile.setStartedAt(Instant.now().toString());
+        activeRun.set(new ActiveRun(profile));
+    }
+
+    public Stage stage(String name) {
+        ActiveRun run = activeRun.get();
+        Stage stage = new Stage(name, run);
+        if (run != null) {
+            run.openStages.push(stage);
+        }
+        return stage;
+    }
+
+    /**
+     * Closes the run started on this thread, logs the breakdown and keeps it as {@link #getLastProfile()}.
+     */
+    public PipelineProfile end() {
+        ActiveRun run = activeRun.get();
+        if (run == null) {
+            return null;
+        }
+        activeRun.remove();
+        while (!run.openStages.isEmpty()) {
+            run.openStages.peek().close();
+        }
+        Snapshot end = Snapshot.now();
+        PipelineProfile profile = run.profile;
+        profile.setTotalWallNanos(end.wallNanos() - run.start.wallNanos());
+        profile.setTotalCpuNanos(end.cpuNanos() - run.start.cpuNanos());
+        profile.setTotalAllocatedBytes(end.allocatedBytes() - run.start.allocatedBytes());
+        lastProfile = profile;
+
+        log.info("⏱️ Pipeline stages for {} ({} ms total):", profile.getIssueKey(), TimeUnit.NANOSECONDS.toMillis(profile.getTotalWallNanos()));
+        profile.getStages().forEach((name, metrics) -> log.info("  - {}: {} ms wall, {} ms cpu, {} KB allocated ({}x)", name,
+            TimeUnit.NANOSECONDS.toMillis(metrics.getWallNanos()), TimeUnit.NANOSECONDS.toMillis(metrics.getCpuNanos()),
+            metrics.getAllocatedBytes() / 1024, metrics.getCount()));
+        return profile;
+    }
+
+    public Optional<PipelineProfile> getLastProfile() {
+        return Optional.ofNullable(lastProfile);
+    }
+}
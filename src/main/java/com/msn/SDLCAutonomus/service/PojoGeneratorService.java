@@ -0,0 +1,286 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.model.InferredXmlElement;
+import com.msn.SDLCAutonomus.model.InferredXmlElement.ValueType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generates Lombok/Jackson XML POJOs from an element model, deterministically and without an LLM.
+ *
+ * <p>Every complex element becomes one class in {@link #GENERATED_PACKAGE}; leaves and attributes become typed
+ * fields, repeating children become lists. Elements with the same name and the same fields share a class,
+ * different ones with the same name are prefixed with their parent class. The output uses the
+ * {@code // Create File:} format of {@link WriteClassesToFileSystemService}.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PojoGeneratorService {
+
+    public static final String GENERATED_PACKAGE = "com.msn.SDLCAutonomus.model.generated";
+    /** Coordinates the generated classes compile against; added to the generated project's POM. */
+    public static final List<String> REQUIRED_DEPENDENCIES = List.of(
+        "com.fasterxml.jackson.dataformat:jackson-dataformat-xml",
+        "org.projectlombok:lombok:optional");
+
+    private static final Set<String> JAVA_KEYWORDS = Set.of(
+        "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const", "continue",
+        "default", "do", "double", "else", "enum", "extends", "final", "finally", "float", "for", "goto", "if",
+        "implements", "import", "instanceof", "int", "interface", "long", "native", "new", "package", "private",
+        "protected", "public", "return", "short", "static", "strictfp", "super", "switch", "synchronized", "this",
+        "throw", "throws", "transient", "try", "void", "volatile", "while", "true", "false", "null", "record",
+        "var", "yield");
+
+    private final XsdInferenceService xsdInferenceService;
+
+    private record Field(String name, String javaType, String xmlName, String namespace, Kind kind, boolean list) {}
+
+    private enum Kind { ATTRIBUTE, ELEMENT, TEXT }
+
+    /** Class names and sources of one generation run. */
+    private static final class Generation {
+        private final Map<String, String> classBySignature = new HashMap<>();
+        private final Set<String> usedNames = new HashSet<>();
+        private final Map<String, String> sources = new LinkedHashMap<>();
+    }
+
+    public String generateFromXml(List<Path> xmlFiles) throws IOException {
+        return generate(xsdInferenceService.infer(xmlFiles));
+    }
+
+    public String generateFromXml(String xmlContent) throws IOException {
+        return generate(xsdInferenceService.infer(xmlContent));
+    }
+
+    public String generateFromXsd(String xsdContent) throws IOException {
+        return generate(xsdInferenceService.fromXsd(xsdContent));
+    }
+
+    /**
+     * Renders one source file per class, as {@code // Create File:} blocks with fenced Java code.
+     */
+    public String generate(List<InferredXmlElement> roots) {
+        long start = System.nanoTime();
+        Generation generation = new Generation();
+        for (InferredXmlElement root : roots) {
+            if (root.isComplex()) {
+                classFor(root, "", true, generation);
+            } else {
+                // A document that is a single text element still gets a root class holding the value.
+                InferredXmlElement wrapper = new InferredXmlElement();
+                wrapper.setName(root.getName());
+                wrapper.setNamespace(root.getNamespace());
+                wrapper.setType(root.getType());
+                classFor(wrapper, "", true, generation);
+            }
+        }
+
+        String packagePath = "src/main/java/" + GENERATED_PACKAGE.replace('.', '/');
+        StringBuilder output = new StringBuilder();
+        generation.sources.forEach((className, source) -> output.append("// Create File: ").append(packagePath).append('/')
+            .append(className).append(".java\n```java\n").append(source).append("```\n\n"));
+        log.info("✅ Generated {} POJO classes in {} ms.", generation.sources.size(), (System.nanoTime() - start) / 1_000_000);
+        return output.toString();
+    }
+
+    private String classFor(InferredXmlElement element, String parentClass, boolean root, Generation generation) {
+        String baseName = className(element.getName());
+        List<Field> fields = new ArrayList<>();
+        Set<String> fieldNames = new HashSet<>();
+
+        for (InferredXmlElement.Attribute attribute : element.getAttributes().values()) {
+            fields.add(new Field(uniqueFieldName(fieldName(attribute.getName()), fieldNames), javaType(attribute.getType()),
+                attribute.getName(), null, Kind.ATTRIBUTE, false));
+        }
+        for (InferredXmlElement child : element.getChildren()) {
+            String type = child.isComplex()
+                ? classFor(child, baseName, false, generation)
+                : javaType(child.getType());
+            boolean list = child.getMaxOccurs() < 0 || element.isUnordered();
+            fields.add(new Field(uniqueFieldName(fieldName(child.getName()), fieldNames), type, child.getName(),
+                child.getNamespace(), Kind.ELEMENT, list));
+        }
+        if (element.getChildren().isEmpty() || element.isMixed()) {
+            ValueType textType = element.getChildren().isEmpty() && element.getType() != null ? element.getType() : ValueType.STRING;
+            fields.add(new Field(uniqueFieldName("value", fieldNames), javaType(textType), null, null, Kind.TEXT, false));
+        }
+
+        String signature = element.getName() + "|" + element.getNamespace() + "|" + root + "|" + fields;
+        String existing = generation.classBySignature.get(signature);
+        if (existing != null) {
+            return existing;
+        }
+        String className = baseName;
+        if (generation.usedNames.contains(className)) {
+            className = parentClass + baseName;
+            for (int i = 2; generation.usedNames.contains(className); i++) {
+                className = parentClass + baseName + i;
+            }
+        }
+        generation.usedNames.add(className);
+        generation.classBySignature.put(signature, className);
+        generation.sources.put(className, source(className, element, root, fields));
+        return className;
+    }
+
+    private String source(String className, InferredXmlElement element, boolean root, List<Field> fields) {
+        Set<String> imports = new TreeSet<>();
+        imports.add("lombok.Data");
+        imports.add("lombok.NoArgsConstructor");
+        imports.add("lombok.AllArgsConstructor");
+        if (root) {
+            imports.add("com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement");
+        }
+
+        StringBuilder body = new StringBuilder();
+        List<String> order = new ArrayList<>();
+        for (Field field : fields) {
+            body.append('\n');
+            switch (field.kind()) {
+                case ATTRIBUTE -> {
+                    imports.add("com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty");
+                    body.append("    @JacksonXmlProperty(isAttribute = true, localName = \"").append(field.xmlName()).append("\")\n");
+                }
+                case ELEMENT -> {
+                    order.add(field.name());
+                    imports.add("com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty");
+                    if (field.list()) {
+                        imports.add("com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper");
+                        body.append("    @JacksonXmlElementWrapper(useWrapping = false)\n");
+                    }
+                    body.append("    @JacksonXmlProperty(localName = \"").append(field.xmlName()).append('"');
+                    if (field.namespace() != null && !field.namespace().isEmpty()) {
+                        body.append(", namespace = \"").append(field.namespace()).append('"');
+                    }
+                    body.append(")\n");
+                }
+                case TEXT -> {
+                    imports.add("com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlText");
+                    body.append("    @JacksonXmlText\n");
+                }
+            }
+            String type = field.javaType();
+            switch (type) {
+                case "BigDecimal" -> imports.add("java.math.BigDecimal");
+                case "LocalDate" -> imports.add("java.time.LocalDate");
+                default -> { }
+            }
+            if (field.list()) {
+                imports.add("java.util.List");
+                type = "List<" + type + ">";
+            }
+            body.append("    private ").append(type).append(' ').append(field.name()).append(";\n");
+        }
+        if (order.size() > 1) {
+            imports.add("com.fasterxml.jackson.annotation.JsonPropertyOrder");
+        }
+
+        StringBuilder source = new StringBuilder("package ").append(GENERATED_PACKAGE).append(";\n\n");
+        appendImports(source, imports, "java.");
+        appendImports(source, imports, "com.");
+        appendImports(source, imports, "lombok.");
+        source.append("/**\n * Generated from the XML element {@code <").append(element.getName()).append(">}.\n */\n");
+        source.append("@Data\n@NoArgsConstructor\n@AllArgsConstructor\n");
+        if (root) {
+            source.append("@JacksonXmlRootElement(localName = \"").append(element.getName()).append('"');
+            if (element.getNamespace() != null && !element.getNamespace().isEmpty()) {
+                source.append(", namespace = \"").append(element.getNamespace()).append('"');
+            }
+            source.append(")\n");
+        }
+        if (order.size() > 1) {
+            source.append("@JsonPropertyOrder({\"").append(String.join("\", \"", order)).append("\"})\n");
+        }
+        return source.append("public class ").append(className).append(" {\n").append(body).append("}\n").toString();
+    }
+
+    private static void appendImports(StringBuilder source, Set<String> imports, String prefix) {
+        boolean any = false;
+        for (String name : imports) {
+            if (name.startsWith(prefix)) {
+                source.append("import ").append(name).append(";\n");
+                any = true;
+            }
+        }
+        if (any) {
+            source.append('\n');
+        }
+    }
+
+    /** Wrapper types throughout, since optional elements may be absent. Timestamps stay text: they may or may not carry an offset. */
+    private static String javaType(ValueType type) {
+        if (type == null) {
+            return "String";
+        }
+        return switch (type) {
+            case BOOLEAN -> "Boolean";
+            case INT -> "Integer";
+            case LONG -> "Long";
+            case DECIMAL -> "BigDecimal";
+            case DATE -> "LocalDate";
+            case DATE_TIME, STRING -> "String";
+        };
+    }
+
+    static String className(String xmlName) {
+        StringBuilder name = new StringBuilder();
+        for (String word : words(xmlName)) {
+            name.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+        }
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            name.insert(0, "Element");
+        }
+        return name.toString();
+    }
+
+    static String fieldName(String xmlName) {
+        String className = className(xmlName);
+        String name = className.length() > 1 && Character.isUpperCase(className.charAt(1))
+            ? leadingAcronymToLowerCase(className)
+            : Character.toLowerCase(className.charAt(0)) + className.substring(1);
+        return JAVA_KEYWORDS.contains(name) ? name + "Value" : name;
+    }
+
+    /** "IBAN" becomes "iban" and "URLPath" becomes "urlPath", as Lombok's accessors expect. */
+    private static String leadingAcronymToLowerCase(String name) {
+        int upper = 0;
+        while (upper < name.length() && Character.isUpperCase(name.charAt(upper))) {
+            upper++;
+        }
+        int cut = upper == name.length() ? upper : upper - 1;
+        return name.substring(0, cut).toLowerCase() + name.substring(cut);
+    }
+
+    private static List<String> words(String xmlName) {
+        List<String> words = new ArrayList<>();
+        for (String word : xmlName.split("[^A-Za-z0-9]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static String uniqueFieldName(String name, Set<String> used) {
+        String unique = name;
+        for (int i = 2; !used.add(unique); i++) {
+            unique = name + i;
+        }
+        return unique;
+    }
+}
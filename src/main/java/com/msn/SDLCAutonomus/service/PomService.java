@@ -0,0 +1,668 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.model.PomDependency;
+import com.msn.SDLCAutonomus.model.PomModel;
+import com.msn.SDLCAutonomus.model.ProjectConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads and edits {@code pom.xml} files structurally.
+ *
+ * <p>A POM is read in a single StAX pass into a {@link PomModel}: project dependencies are kept apart from
+ * {@code dependencyManagement} and plugin dependencies, and {@code ${property}} versions are resolved. The same
+ * pass records where each project dependency sits in the text, so {@link #mergeDependencies} can add, update and
+ * remove dependencies in place and leave everything else (plugins, other properties, comments, formatting) as it was.
+ * Results are cached by the SHA-256 of the POM text.
+ */
+@Service
+@Slf4j
+public class PomService {
+
+    private static final int MAX_CACHED_POMS = 32;
+    private static final int MAX_PROPERTY_DEPTH = 10;
+    private static final Set<String> SCOPES = Set.of("compile", "provided", "runtime", "test", "system", "import");
+
+    /**
+     * The JDK's own StAX implementation, whatever else is on the classpath: the tag offsets below rely on how
+     * it reports locations.
+     */
+    private static final XMLInputFactory STAX = defaultInputFactory();
+
+    private final Map<String, PomDocument> documents = new ConcurrentHashMap<>();
+
+    /** A parsed POM together with the text positions the merge writer edits at. */
+    static final class PomDocument {
+        private final String content;
+        private final PomModel model = new PomModel();
+        private final Map<String, DependencyAnchor> anchors = new HashMap<>();
+        /** Every plain-jar project dependency in document order, repeated keys included. */
+        private final List<DependencyAnchor> dependencyAnchors = new ArrayList<>();
+        private final Map<String, int[]> propertySpans = new HashMap<>();
+        /** Start of {@code </dependencies>} of the project dependencies, or -1. */
+        private int dependenciesEnd = -1;
+        /** Start of {@code </properties>}, or -1. */
+        private int propertiesEnd = -1;
+        /** Text span of the parent {@code <version>}, or null. */
+        private int[] parentVersionSpan;
+        /** Start of {@code <build>}, or -1. */
+        private int buildStart = -1;
+        private int projectEnd = -1;
+        /** Indentation of the first child element of {@code <project>}. */
+        private String indent;
+        private String dependencyIndent;
+
+        PomDocument(String content) {
+            this.content = content;
+        }
+
+        PomModel model() {
+            return model;
+        }
+    }
+
+    /**
+     * Positions inside one project {@code <dependency>}; text spans are {start, end} of the element text, element
+     * spans cover the whole element and its line when it stands on a line of its own.
+     */
+    private static final class DependencyAnchor {
+        private String key;
+        private int[] elementSpan;
+        private int[] versionSpan;
+        private int[] versionElementSpan;
+        private int[] scopeSpan;
+        private int artifactIdEnd = -1;
+        private int versionEnd = -1;
+        private int scopeEnd = -1;
+        private boolean optional;
+        private String childIndent;
+    }
+
+    /** One text replacement; inserts have {@code start == end} and keep their order at the same offset. */
+    private record Edit(int start, int end, String text) {}
+
+    /**
+     * Parses the POM, or returns the cached model for the same text.
+     *
+     * @throws IOException if the POM is not well-formed XML
+     */
+    public PomModel parse(String pomContent) throws IOException {
+        return document(pomContent).model();
+    }
+
+    public PomModel read(Path pomFile) throws IOException {
+        return parse(Files.readString(pomFile, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The project dependencies as {@code groupId:artifactId[:version][:scope][:optional]}, the form the
+     * dependency agent reads and writes. Compile scope is left out, and so are dependencies with a classifier or a
+     * type other than jar, which that form cannot tell from the plain jar.
+     */
+    public static List<String> coordinates(List<PomDependency> dependencies) {
+        List<String> coordinates = new ArrayList<>(dependencies.size());
+        for (PomDependency dependency : dependencies) {
+            if (!dependency.isPlainJar()) {
+                continue;
+            }
+            StringBuilder coordinate = new StringBuilder(dependency.getKey());
+            if (dependency.getVersion() != null) {
+                coordinate.append(':').append(dependency.getVersion());
+            }
+            if (dependency.getScope() != null && !dependency.getScope().equalsIgnoreCase("compile")) {
+                coordinate.append(':').append(dependency.getScope());
+            }
+            if (dependency.isOptional()) {
+                coordinate.append(":optional");
+            }
+            coordinates.add(coordinate.toString());
+        }
+        return coordinates;
+    }
+
+    /**
+     * Parses {@code groupId:artifactId[:version][:scope][:optional]}; the parts after the artifactId may come in
+     * any order. Returns null for anything without a groupId and an artifactId.
+     */
+    public static PomDependency parseCoordinate(String coordinate) {
+        String[] parts = coordinate.strip().split(":");
+        if (parts.length < 2 || parts[0].isBlank() || parts[1].isBlank()) {
+            return null;
+        }
+        PomDependency dependency = new PomDependency();
+        dependency.setGroupId(parts[0].strip());
+        dependency.setArtifactId(parts[1].strip());
+        for (int i = 2; i < parts.length; i++) {
+            String part = parts[i].strip();
+            if (part.equalsIgnoreCase("optional")) {
+                dependency.setOptional(true);
+            } else if (SCOPES.contains(part.toLowerCase())) {
+                dependency.setScope(part.toLowerCase());
+            } else if (!part.isEmpty() && dependency.getVersion() == null) {
+                dependency.setVersion(part);
+                dependency.setDeclaredVersion(part);
+            }
+        }
+        return dependency;
+    }
+
+    /**
+     * Makes the project dependencies exactly the given coordinates: missing ones are added, those already there get
+     * the coordinate's version, scope and optional flag, and dependencies the list no longer names are removed. A
+     * coordinate without a version removes the {@code <version>} of an existing dependency, which then takes the
+     * managed one. A version written as {@code ${property}} is updated in {@code <properties>}. Everything else in
+     * the POM is kept byte for byte; {@code dependencyManagement}, plugin dependencies and dependencies with a
+     * classifier or a non-jar type are not touched.
+     *
+     * @return the merged POM text, or the same text if nothing changed
+     */
+    public String mergeDependencies(String pomContent, List<String> coordinates) throws IOException {
+        return mergeDependencies(pomContent, coordinates, null);
+    }
+
+    /**
+     * {@link #mergeDependencies(String, List)} that also sets the Spring Boot parent version and {@code java.version}
+     * from the project config; a null config leaves both alone.
+     */
+    public String mergeDependencies(String pomContent, List<String> coordinates, ProjectConfig projectConfig) throws IOException {
+        PomDocument document = document(pomContent);
+        String content = document.content;
+        String newline = content.contains("\r\n") ? "\r\n" : "\n";
+        String indent = document.indent != null ? document.indent : "    ";
+        String dependencyIndent = document.dependencyIndent != null ? document.dependencyIndent : indent + indent;
+
+        // A coordinate listed twice counts once, the last one wins.
+        Map<String, PomDependency> wantedByKey = new LinkedHashMap<>();
+        for (String coordinate : coordinates) {
+            PomDependency wanted = parseCoordinate(coordinate);
+            if (wanted == null) {
+                log.warn("⚠️ Skipping invalid dependency coordinate: {}", coordinate);
+            } else {
+                wantedByKey.put(wanted.getKey(), wanted);
+            }
+        }
+
+        Map<String, PomDependency> additions = new LinkedHashMap<>();
+        Map<String, PomDependency> existing = new HashMap<>();
+        document.model.getDependencies().stream().filter(PomDependency::isPlainJar)
+            .forEach(dependency -> existing.putIfAbsent(dependency.getKey(), dependency));
+        List<Edit> edits = new ArrayList<>();
+        int updated = 0;
+        int removed = 0;
+        for (PomDependency wanted : wantedByKey.values()) {
+            DependencyAnchor anchor = document.anchors.get(wanted.getKey());
+            if (anchor == null) {
+                additions.put(wanted.getKey(), wanted);
+                continue;
+            }
+            if (updateDependency(document, anchor, existing.get(wanted.getKey()), wanted, edits)) {
+                updated++;
+            }
+        }
+        // The list is the full set: whatever it no longer names goes, and so does a repeated declaration.
+        for (DependencyAnchor anchor : document.dependencyAnchors) {
+            if (!wantedByKey.containsKey(anchor.key) || document.anchors.get(anchor.key) != anchor) {
+                edits.add(new Edit(anchor.elementSpan[0], anchor.elementSpan[1], ""));
+                removed++;
+            }
+        }
+        if (projectConfig != null) {
+            updateProject(document, projectConfig, indent, newline, edits);
+        }
+
+        if (!additions.isEmpty()) {
+            StringBuilder added = new StringBuilder();
+            boolean newSection = document.dependenciesEnd < 0;
+            String itemIndent = newSection ? indent + indent : dependencyIndent;
+            if (newSection) {
+                added.append(indent).append("<dependencies>").append(newline);
+            }
+            for (PomDependency dependency : additions.values()) {
+                appendDependency(added, dependency, itemIndent, itemIndent + indent, newline);
+            }
+            if (newSection) {
+                added.append(indent).append("</dependencies>").append(newline);
+            }
+            int at = newSection ? (document.buildStart >= 0 ? document.buildStart : document.projectEnd) : document.dependenciesEnd;
+            edits.add(new Edit(lineStart(content, at), lineStart(content, at), added.toString()));
+        }
+        if (edits.isEmpty()) {
+            return content;
+        }
+
+        edits.sort((left, right) -> Integer.compare(left.start(), right.start()));
+        StringBuilder merged = new StringBuilder(content.length() + 256 * additions.size());
+        int position = 0;
+        for (Edit edit : edits) {
+            if (edit.start() < position) {
+                // Two dependencies sharing one version property asked for different versions; the first wins.
+                continue;
+            }
+            merged.append(content, position, edit.start()).append(edit.text());
+            position = edit.end();
+        }
+        merged.append(content, position, content.length());
+        log.info("✅ Merged dependencies into pom.xml: {} added, {} updated, {} removed.", additions.size(), updated, removed);
+        return merged.toString();
+    }
+
+    /** @return whether the dependency needed an edit */
+    private static boolean updateDependency(PomDocument document, DependencyAnchor anchor, PomDependency current,
+            PomDependency wanted, List<Edit> edits) {
+        String content = document.content;
+        String childIndent = anchor.childIndent;
+        int editsBefore = edits.size();
+        int insertAt = anchor.artifactIdEnd;
+        boolean versionRemoved = wanted.getVersion() == null && anchor.versionElementSpan != null;
+        if (versionRemoved) {
+            edits.add(new Edit(anchor.versionElementSpan[0], anchor.versionElementSpan[1], ""));
+        } else if (wanted.getVersion() != null && !wanted.getVersion().equals(current.getVersion())) {
+            String declared = current.getDeclaredVersion();
+            String property = declared != null && declared.startsWith("${") && declared.endsWith("}")
+                ? declared.substring(2, declared.length() - 1) : null;
+            int[] propertySpan = property != null ? document.propertySpans.get(property) : null;
+            if (propertySpan != null) {
+                edits.add(new Edit(propertySpan[0], propertySpan[1], escape(wanted.getVersion())));
+            } else if (anchor.versionSpan != null) {
+                edits.add(new Edit(anchor.versionSpan[0], anchor.versionSpan[1], escape(wanted.getVersion())));
+            } else {
+                edits.add(new Edit(insertAt, insertAt, childElement(content, childIndent, "version", wanted.getVersion())));
+            }
+        }
+        if (anchor.versionEnd >= 0 && !versionRemoved) {
+            insertAt = anchor.versionEnd;
+        }
+        String currentScope = current.getScope() == null ? "compile" : current.getScope();
+        if (wanted.getScope() != null && !wanted.getScope().equals(currentScope)) {
+            if (anchor.scopeSpan != null) {
+                edits.add(new Edit(anchor.scopeSpan[0], anchor.scopeSpan[1], wanted.getScope()));
+            } else {
+                edits.add(new Edit(insertAt, insertAt, childElement(content, childIndent, "scope", wanted.getScope())));
+            }
+        }
+        if (anchor.scopeEnd >= 0) {
+            insertAt = anchor.scopeEnd;
+        }
+        if (wanted.isOptional() && !anchor.optional) {
+            edits.add(new Edit(insertAt, insertAt, childElement(content, childIndent, "optional", "true")));
+        }
+        return edits.size() > editsBefore;
+    }
+
+    /** Sets the Spring Boot parent version and {@code java.version}, adding the property if it is missing. */
+    private static void updateProject(PomDocument document, ProjectConfig projectConfig, String indent, String newline, List<Edit> edits) {
+        PomModel model = document.model;
+        String bootVersion = projectConfig.getSpringBootVersion();
+        if (bootVersion != null && document.parentVersionSpan != null && "spring-boot-starter-parent".equals(model.getParentArtifactId())
+                && !bootVersion.equals(model.getParentVersion())) {
+            edits.add(new Edit(document.parentVersionSpan[0], document.parentVersionSpan[1], escape(bootVersion)));
+        }
+        String javaVersion = projectConfig.getJavaVersion();
+        if (javaVersion == null || javaVersion.equals(model.getProperties().get("java.version"))) {
+            return;
+        }
+        int[] span = document.propertySpans.get("java.version");
+        if (span != null) {
+            edits.add(new Edit(span[0], span[1], escape(javaVersion)));
+        } else if (document.propertiesEnd >= 0) {
+            int at = lineStart(document.content, document.propertiesEnd);
+            String property = indent + indent + "<java.version>" + escape(javaVersion) + "</java.version>" + newline;
+            edits.add(new Edit(at, at, at == document.propertiesEnd ? property.strip() : property));
+        }
+    }
+
+    private static String childElement(String content, String childIndent, String name, String value) {
+        String newline = content.contains("\r\n") ? "\r\n" : "\n";
+        return newline + childIndent + "<" + name + ">" + escape(value) + "</" + name + ">";
+    }
+
+    private static void appendDependency(StringBuilder xml, PomDependency dependency, String indent, String childIndent, String newline) {
+        xml.append(indent).append("<dependency>").append(newline);
+        xml.append(childIndent).append("<groupId>").append(escape(dependency.getGroupId())).append("</groupId>").append(newline);
+        xml.append(childIndent).append("<artifactId>").append(escape(dependency.getArtifactId())).append("</artifactId>").append(newline);
+        if (dependency.getVersion() != null) {
+            xml.append(childIndent).append("<version>").append(escape(dependency.getVersion())).append("</version>").append(newline);
+        }
+        if (dependency.getScope() != null && !dependency.getScope().equals("compile")) {
+            xml.append(childIndent).append("<scope>").append(dependency.getScope()).append("</scope>").append(newline);
+        }
+        if (dependency.isOptional()) {
+            xml.append(childIndent).append("<optional>true</optional>").append(newline);
+        }
+        xml.append(indent).append("</dependency>").append(newline);
+    }
+
+    private PomDocument document(String pomContent) throws IOException {
+        String key = UtilityService.sha256Hex(pomContent);
+        PomDocument cached = documents.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        PomDocument document = scan(pomContent);
+        if (documents.size() >= MAX_CACHED_POMS) {
+            documents.clear();
+        }
+        PomDocument existing = documents.putIfAbsent(key, document);
+        return existing != null ? existing : document;
+    }
+
+    // --- Single-pass parse ---
+
+    /**
+     * Reads the model and the edit positions in one pass. Tag positions are found from the reader's location,
+     * which the JDK parser reports just past the event (plus a little look-ahead), by searching back for the tag.
+     */
+    static PomDocument scan(String content) throws IOException {
+        PomDocument document = new PomDocument(content);
+        PomModel model = document.model;
+        List<String> path = new ArrayList<>();
+        // Per open element: {tag start, tag end, self-closing}.
+        Deque<int[]> openTags = new ArrayDeque<>();
+        StringBuilder text = new StringBuilder();
+        List<PomDependency> section = null;
+        PomDependency dependency = null;
+        DependencyAnchor anchor = null;
+        int dependencyDepth = -1;
+        try {
+            XMLStreamReader reader = STAX.createXMLStreamReader(new StringReader(content));
+            try {
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        int start = tagStart(content, "<" + qualifiedName(reader), reader.getLocation().getCharacterOffset());
+                        int end = content.indexOf('>', start) + 1;
+                        openTags.push(new int[] {start, end, content.charAt(end - 2) == '/' ? 1 : 0});
+                        if (name.equals("dependency") && dependency == null) {
+                            section = sectionOf(model, path);
+                            if (section != null) {
+                                dependency = new PomDependency();
+                                dependencyDepth = path.size() + 1;
+                                anchor = section == model.getDependencies() ? new DependencyAnchor() : null;
+                                if (anchor != null && document.dependencyIndent == null) {
+                                    document.dependencyIndent = indentOf(content, start);
+                                }
+                            }
+                        } else if (anchor != null && path.size() == dependencyDepth && anchor.childIndent == null) {
+                            anchor.childIndent = indentOf(content, start);
+                        }
+                        if (path.size() == 1 && document.indent == null) {
+                            document.indent = indentOf(content, start);
+                        }
+                        if (path.size() == 1 && name.equals("build")) {
+                            document.buildStart = start;
+                        }
+                        path.add(name);
+                        text.setLength(0);
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        String name = reader.getLocalName();
+                        int[] open = openTags.pop();
+                        int endStart;
+                        int endEnd;
+                        if (open[2] == 1) {
+                            endStart = open[1];
+                            endEnd = open[1];
+                        } else {
+                            endStart = tagStart(content, "</" + qualifiedName(reader), reader.getLocation().getCharacterOffset());
+                            endEnd = content.indexOf('>', endStart) + 1;
+                        }
+                        int depth = path.size();
+                        String value = text.toString().strip();
+                        if (dependency != null && depth == dependencyDepth + 1) {
+                            readDependencyChild(dependency, anchor, name, value, content, open, endStart, endEnd);
+                        } else if (dependency != null && depth == dependencyDepth) {
+                            section.add(dependency);
+                            // The merge only edits what a coordinate can name; a test-jar or classified artifact stays as written.
+                            if (anchor != null && dependency.isPlainJar()) {
+                                anchor.key = dependency.getKey();
+                                anchor.elementSpan = lineSpan(content, open[0], endEnd);
+                                document.anchors.putIfAbsent(dependency.getKey(), anchor);
+                                document.dependencyAnchors.add(anchor);
+                            }
+                            dependency = null;
+                            anchor = null;
+                        } else if (depth == 2 && path.get(0).equals("project")) {
+                            switch (name) {
+                                case "groupId" -> model.setGroupId(value);
+                                case "artifactId" -> model.setArtifactId(value);
+                                case "version" -> model.setVersion(value);
+                                case "packaging" -> model.setPackaging(value);
+                                case "dependencies" -> document.dependenciesEnd = endStart;
+                                case "properties" -> document.propertiesEnd = endStart;
+                                default -> { }
+                            }
+                        } else if (depth == 3 && path.get(1).equals("parent")) {
+                            switch (name) {
+                                case "groupId" -> model.setParentGroupId(value);
+                                case "artifactId" -> model.setParentArtifactId(value);
+                                case "version" -> {
+                                    model.setParentVersion(value);
+                                    document.parentVersionSpan = new int[] {open[1], endStart};
+                                }
+                                default -> { }
+                            }
+                        } else if (depth == 3 && path.get(1).equals("properties")) {
+                            model.getProperties().put(name, value);
+                            document.propertySpans.put(name, new int[] {open[1], endStart});
+                        } else if (depth == 1) {
+                            document.projectEnd = endStart;
+                        }
+                        path.remove(path.size() - 1);
+                        text.setLength(0);
+                    } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IllegalStateException e) {
+            throw new IOException("pom.xml is not well-formed: " + e.getMessage(), e);
+        }
+        if (document.projectEnd < 0) {
+            throw new IOException("pom.xml has no <project> element");
+        }
+        resolveVersions(model);
+        return document;
+    }
+
+    /** The list a {@code <dependency>} under this path belongs to, or null for sections that are not read (profiles). */
+    private static List<PomDependency> sectionOf(PomModel model, List<String> path) {
+        int size = path.size();
+        if (size == 2 && path.get(1).equals("dependencies")) {
+            return model.getDependencies();
+        }
+        if (size == 3 && path.get(1).equals("dependencyManagement") && path.get(2).equals("dependencies")) {
+            return model.getManagedDependencies();
+        }
+        if (size >= 4 && path.get(1).equals("build") && path.get(size - 2).equals("plugin") && path.get(size - 1).equals("dependencies")) {
+            return model.getPluginDependencies();
+        }
+        return null;
+    }
+
+    /** {@code open} is {tag start, tag end, self-closing} of the child; {@code textEnd} is where its end tag starts. */
+    private static void readDependencyChild(PomDependency dependency, DependencyAnchor anchor, String name, String value,
+            String content, int[] open, int textEnd, int elementEnd) {
+        int textStart = open[1];
+        switch (name) {
+            case "groupId" -> dependency.setGroupId(value);
+            case "artifactId" -> {
+                dependency.setArtifactId(value);
+                if (anchor != null) {
+                    anchor.artifactIdEnd = elementEnd;
+                }
+            }
+            case "version" -> {
+                dependency.setDeclaredVersion(value);
+                if (anchor != null) {
+                    anchor.versionSpan = new int[] {textStart, textEnd};
+                    anchor.versionElementSpan = lineSpan(content, open[0], elementEnd);
+                    anchor.versionEnd = elementEnd;
+                }
+            }
+            case "scope" -> {
+                dependency.setScope(value);
+                if (anchor != null) {
+                    anchor.scopeSpan = new int[] {textStart, textEnd};
+                    anchor.scopeEnd = elementEnd;
+                }
+            }
+            case "type" -> dependency.setType(value);
+            case "classifier" -> dependency.setClassifier(value);
+            case "optional" -> {
+                dependency.setOptional(value.equalsIgnoreCase("true"));
+                if (anchor != null) {
+                    anchor.optional = dependency.isOptional();
+                }
+            }
+            default -> { }
+        }
+    }
+
+    /** Resolves {@code ${...}} in every version; unknown properties are left as written. */
+    private static void resolveVersions(PomModel model) {
+        Map<String, String> properties = new HashMap<>(model.getProperties());
+        String projectVersion = model.getVersion() != null ? model.getVersion() : model.getParentVersion();
+        String projectGroupId = model.getGroupId() != null ? model.getGroupId() : model.getParentGroupId();
+        putIfPresent(properties, "project.version", projectVersion);
+        putIfPresent(properties, "pom.version", projectVersion);
+        putIfPresent(properties, "version", projectVersion);
+        putIfPresent(properties, "project.groupId", projectGroupId);
+        putIfPresent(properties, "project.artifactId", model.getArtifactId());
+        putIfPresent(properties, "project.parent.version", model.getParentVersion());
+        for (List<PomDependency> section : List.of(model.getDependencies(), model.getManagedDependencies(), model.getPluginDependencies())) {
+            for (PomDependency dependency : section) {
+                dependency.setVersion(resolve(dependency.getDeclaredVersion(), properties));
+            }
+        }
+        model.setProperties(Collections.unmodifiableMap(model.getProperties()));
+        model.setDependencies(List.copyOf(model.getDependencies()));
+        model.setManagedDependencies(List.copyOf(model.getManagedDependencies()));
+        model.setPluginDependencies(List.copyOf(model.getPluginDependencies()));
+    }
+
+    private static void putIfPresent(Map<String, String> properties, String name, String value) {
+        if (value != null) {
+            properties.putIfAbsent(name, value);
+        }
+    }
+
+    static String resolve(String value, Map<String, String> properties) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        String resolved = value;
+        for (int depth = 0; depth < MAX_PROPERTY_DEPTH && resolved.contains("${"); depth++) {
+            StringBuilder next = new StringBuilder(resolved.length());
+            int position = 0;
+            for (int start = resolved.indexOf("${"); start >= 0; start = resolved.indexOf("${", position)) {
+                int end = resolved.indexOf('}', start);
+                if (end < 0) {
+                    break;
+                }
+                String replacement = properties.get(resolved.substring(start + 2, end));
+                next.append(resolved, position, start).append(replacement != null ? replacement : resolved.substring(start, end + 1));
+                position = end + 1;
+            }
+            next.append(resolved, position, resolved.length());
+            if (next.toString().equals(resolved)) {
+                break;
+            }
+            resolved = next.toString();
+        }
+        return resolved;
+    }
+
+    // --- Text positions ---
+
+    private static String qualifiedName(XMLStreamReader reader) {
+        String prefix = reader.getPrefix();
+        return prefix == null || prefix.isEmpty() ? reader.getLocalName() : prefix + ":" + reader.getLocalName();
+    }
+
+    /** The last occurrence of {@code <name} or {@code </name} that ends before {@code offset}. */
+    private static int tagStart(String content, String tag, int offset) throws XMLStreamException {
+        int from = Math.min(offset < 0 ? content.length() : offset, content.length()) - tag.length();
+        for (int start = content.lastIndexOf(tag, from); start >= 0; start = content.lastIndexOf(tag, start - 1)) {
+            int after = start + tag.length();
+            if (after < content.length() && isNameEnd(content.charAt(after))) {
+                return start;
+            }
+        }
+        throw new XMLStreamException("Could not locate " + tag + "> near offset " + offset);
+    }
+
+    private static boolean isNameEnd(char c) {
+        return c == '>' || c == '/' || Character.isWhitespace(c);
+    }
+
+    private static int lineStart(String content, int offset) {
+        int start = offset;
+        while (start > 0 && (content.charAt(start - 1) == ' ' || content.charAt(start - 1) == '\t')) {
+            start--;
+        }
+        return start == 0 || content.charAt(start - 1) == '\n' ? start : offset;
+    }
+
+    /**
+     * The span of an element from its start tag to the end of its end tag, widened to its whole line (line break
+     * included) when nothing else is on that line, so removing it leaves no blank line behind.
+     */
+    private static int[] lineSpan(String content, int start, int end) {
+        int lineStart = lineStart(content, start);
+        if (lineStart == start && start > 0 && content.charAt(start - 1) != '\n') {
+            return new int[] {start, end};
+        }
+        int after = end;
+        while (after < content.length() && (content.charAt(after) == ' ' || content.charAt(after) == '\t')) {
+            after++;
+        }
+        if (after < content.length() && content.charAt(after) == '\r') {
+            after++;
+        }
+        if (after < content.length() && content.charAt(after) == '\n') {
+            return new int[] {lineStart, after + 1};
+        }
+        return new int[] {start, end};
+    }
+
+    /** The whitespace before the tag on its line, or empty if the tag does not start the line. */
+    private static String indentOf(String content, int tagStart) {
+        return content.substring(lineStart(content, tagStart), tagStart);
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static XMLInputFactory defaultInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,258 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.agents.BuildCorrectorAgent;
+import com.msn.SDLCAutonomus.config.BuildProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Best-of-N self-healing: one round asks the BuildCorrectorAgent for several fixes at once, applies each to its own
+ * copy of the project and builds the copies in parallel, with at most {@code sdlc.build.max-concurrent-builds}
+ * builds at a time.
+ *
+ * <p>The first candidate that builds green is copied back into the project and the others are cancelled (a running
+ * build is killed). If none is green, the one with the fewest {@code [ERROR]} lines is promoted instead, so the
+ * next round starts from the most promising fix, just as the serial loop keeps its last fix. Candidate {@code i}
+ * starts {@code i} tiers further up the corrector's model route, which spreads the candidates over the models;
+ * a fix identical to another one of the same round is not built twice.
+ */
+@Service
+@Slf4j
+public class SelfHealingService {
+
+    /** Not copied into candidate workspaces: history, build output and run state play no part in a build. */
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of(".git", "target", ".ai-state");
+
+    private final BuildCorrectorAgent buildCorrectorAgent;
+    private final WriteClassesToFileSystemService writeClassesToFileSystemService;
+    private final SourceTreeHasher sourceTreeHasher;
+    private final BuildProperties buildProperties;
+    private final ExecutorService candidatePool;
+    private final Semaphore buildSlots;
+
+    /**
+     * Builds a project directory; returns null when it built green, the build log otherwise.
+     */
+    @FunctionalInterface
+    public interface ProjectBuilder {
+        String build(Path projectDir);
+    }
+
+    /** A fix that was applied and built; {@code buildLog} is null if it built green. */
+    public record Candidate(int index, List<String> files, String buildLog, Path workspace) {
+        public boolean isGreen() {
+            return buildLog == null;
+        }
+    }
+
+    public SelfHealingService(BuildCorrectorAgent buildCorrectorAgent, WriteClassesToFileSystemService writeClassesToFileSystemService,
+            SourceTreeHasher sourceTreeHasher, BuildProperties buildProperties) {
+        this.buildCorrectorAgent = buildCorrectorAgent;
+        this.writeClassesToFileSystemService = writeClassesToFileSystemService;
+        this.sourceTreeHasher = sourceTreeHasher;
+        this.buildProperties = buildProperties;
+        int maxBuilds = buildProperties.getMaxConcurrentBuilds() > 0
+            ? buildProperties.getMaxConcurrentBuilds()
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.buildSlots = new Semaphore(maxBuilds, true);
+        AtomicInteger threadCount = new AtomicInteger();
+        // Candidates mostly wait on the LLM and on Maven; the build slots bound the actual work.
+        this.candidatePool = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "self-heal-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs one best-of-N round against the project in {@code repoDir} and copies the chosen candidate's files into
+     * it. Returns the promoted candidate, or empty if the agent produced no usable fix at all.
+     */
+    public Optional<Candidate> runRound(Path repoDir, String buildLog, String reviewAnalysis, String allSourceCode, int round,
+            ProjectBuilder builder) throws InterruptedException {
+        int candidates = Math.max(1, buildProperties.getSelfHealCandidates());
+        log.info("--- 🤖 Starting self-healing round {} with {} candidate fixes ---", round + 1, candidates);
+        Set<String> seenFixes = ConcurrentHashMap.newKeySet();
+        List<Path> workspaces = new CopyOnWriteArrayList<>();
+        CountDownLatch finished = new CountDownLatch(candidates);
+        CompletionService<Candidate> completion = new ExecutorCompletionService<>(candidatePool);
+        List<Future<Candidate>> futures = new ArrayList<>();
+        for (int i = 0; i < candidates; i++) {
+            int index = i;
+            futures.add(completion.submit(() -> {
+                try {
+                    return attempt(index, repoDir, buildLog, reviewAnalysis, allSourceCode, round, builder, seenFixes, workspaces);
+                } finally {
+                    finished.countDown();
+                }
+            }));
+        }
+
+        Candidate green = null;
+        Candidate best = null;
+        try {
+            for (int done = 0; done < candidates && green == null; done++) {
+                Candidate candidate;
+                try {
+                    candidate = completion.take().get();
+                } catch (ExecutionException e) {
+                    log.warn("⚠️ A self-healing candidate failed: {}", e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+                    continue;
+                }
+                if (candidate == null) {
+                    continue;
+                }
+                if (candidate.isGreen()) {
+                    green = candidate;
+                } else if (best == null || errorCount(candidate.buildLog()) < errorCount(best.buildLog())) {
+                    best = candidate;
+                }
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        Candidate chosen = green != null ? green : best;
+        try {
+            if (chosen == null) {
+                log.error("❌ None of the {} candidates produced a usable fix.", candidates);
+                return Optional.empty();
+            }
+            promote(chosen, repoDir);
+            if (chosen.isGreen()) {
+                log.info("✅ Candidate {} built green; promoted it and cancelled the others.", chosen.index() + 1);
+            } else {
+                log.warn("⚠️ No candidate built green; promoted candidate {} ({} errors) for the next round.",
+                    chosen.index() + 1, errorCount(chosen.buildLog()));
+            }
+            return Optional.of(chosen);
+        } finally {
+            // Cancelled candidates may still be unwinding; their workspaces go once every one of them has stopped.
+            candidatePool.execute(() -> {
+                try {
+                    finished.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                workspaces.forEach(this::deleteWorkspace);
+            });
+        }
+    }
+
+    private Candidate attempt(int index, Path repoDir, String buildLog, String reviewAnalysis, String allSourceCode, int round,
+            ProjectBuilder builder, Set<String> seenFixes, List<Path> workspaces) throws IOException, InterruptedException {
+        String fix = buildCorrectorAgent.runBuildCorrectorAgent(buildLog, reviewAnalysis, allSourceCode, round + index);
+        if (fix == null || fix.isBlank()) {
+            log.warn("⚠️ Candidate {}: the BuildCorrectorAgent provided no fix.", index + 1);
+            return null;
+        }
+        if (!seenFixes.add(fix.strip())) {
+            log.info("Candidate {}: same fix as another candidate, not built again.", index + 1);
+            return null;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+        }
+        Path workspace = Files.createTempDirectory("sdlc-candidate-");
+        workspaces.add(workspace);
+        copyProject(repoDir, workspace);
+        List<String> files = writeClassesToFileSystemService.writeClassesToFileSystem(fix, workspace.toString());
+        if (files.isEmpty()) {
+            log.warn("⚠️ Candidate {}: the fix did not contain any file to write.", index + 1);
+            return null;
+        }
+
+        buildSlots.acquire();
+        try {
+            log.info("🛠️ Building candidate {} in {}", index + 1, workspace);
+            String candidateLog = builder.build(workspace);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+            log.info("{} Candidate {} {}", candidateLog == null ? "✅" : "❌", index + 1, candidateLog == null ? "built green." : "failed to build.");
+            return new Candidate(index, files, candidateLog, workspace);
+        } finally {
+            buildSlots.release();
+        }
+    }
+
+    /** Copies the candidate's written files over the project, which then has the tree the candidate built. */
+    private static void promote(Candidate candidate, Path repoDir) {
+        for (String file : candidate.files()) {
+            // Resolved the way WriteClassesToFileSystemService resolved them when the fix was written.
+            Path source = Paths.get(candidate.workspace().toString(), file);
+            Path target = Paths.get(repoDir.toString(), file);
+            try {
+                Files.createDirectories(target.getParent());
+                Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.error("❌ Failed to promote {} from candidate {}: {}", file, candidate.index() + 1, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The project without its git history and build output. A git worktree would not do: the generated code is not
+     * committed until it builds.
+     */
+    private static void copyProject(Path repoDir, Path workspace) throws IOException {
+        Files.walkFileTree(repoDir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException {
+                if (!dir.equals(repoDir) && repoDir.equals(dir.getParent()) && SKIPPED_DIRECTORIES.contains(dir.getFileName().toString())) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                Files.createDirectories(workspace.resolve(repoDir.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                Files.copy(file, workspace.resolve(repoDir.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void deleteWorkspace(Path workspace) {
+        sourceTreeHasher.forget(workspace);
+        try (Stream<Path> paths = Files.walk(workspace)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            log.warn("Could not delete candidate workspace {}: {}", workspace, e.getMessage());
+        }
+    }
+
+    private static long errorCount(String buildLog) {
+        return buildLog == null ? 0 : buildLog.lines().filter(line -> line.startsWith("[ERROR]")).count();
+    }
+}
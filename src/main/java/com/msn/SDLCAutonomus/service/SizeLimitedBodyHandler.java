@@ -0,0 +1,98 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Streams a response body into a file and aborts the transfer as soon as it exceeds {@code maxBytes},
+ * so an oversized attachment never fills the disk or gets buffered on the heap.
+ */
+public final class SizeLimitedBodyHandler implements HttpResponse.BodyHandler<Path> {
+
+    private final Path target;
+    private final long maxBytes;
+
+    private SizeLimitedBodyHandler(Path target, long maxBytes) {
+        this.target = target;
+        this.maxBytes = maxBytes;
+    }
+
+    public static SizeLimitedBodyHandler ofFile(Path target, long maxBytes) {
+        return new SizeLimitedBodyHandler(target, maxBytes);
+    }
+
+    @Override
+    public HttpResponse.BodySubscriber<Path> apply(HttpResponse.ResponseInfo responseInfo) {
+        long declaredLength = responseInfo.headers().firstValueAsLong("Content-Length").orElse(-1L);
+        return new LimitingSubscriber(HttpResponse.BodySubscribers.ofFile(target), declaredLength);
+    }
+
+    private final class LimitingSubscriber implements HttpResponse.BodySubscriber<Path> {
+
+        private final HttpResponse.BodySubscriber<Path> delegate;
+        private final long declaredLength;
+        private Flow.Subscription subscription;
+        private long received;
+        private boolean aborted;
+
+        private LimitingSubscriber(HttpResponse.BodySubscriber<Path> delegate, long declaredLength) {
+            this.delegate = delegate;
+            this.declaredLength = declaredLength;
+        }
+
+        @Override
+        public CompletionStage<Path> getBody() {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            delegate.onSubscribe(subscription);
+            if (declaredLength > maxBytes) {
+                abort(declaredLength);
+            }
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            if (aborted) {
+                return;
+            }
+            for (ByteBuffer buffer : buffers) {
+                received += buffer.remaining();
+            }
+            if (received > maxBytes) {
+                abort(received);
+                return;
+            }
+            delegate.onNext(buffers);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!aborted) {
+                delegate.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!aborted) {
+                delegate.onComplete();
+            }
+        }
+
+        private void abort(long size) {
+            aborted = true;
+            subscription.cancel();
+            delegate.onError(new IOException("Attachment exceeds the download limit of " + maxBytes + " bytes (" + size + " bytes)"));
+        }
+    }
+
+}
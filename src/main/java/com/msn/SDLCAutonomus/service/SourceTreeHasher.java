@@ -0,0 +1,106 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Content hash of what a Maven build of a generated project reads: {@code pom.xml} and every file under
+ * {@code src}.
+ *
+ * <p>The size, modification time and digest of each file are remembered per project directory, so the next
+ * hash of the same directory only reads the files that were added or changed since. A file modified within
+ * {@link #RACY_MILLIS} of the scan that recorded it is always read again, since it could still change without
+ * its modification time moving.
+ */
+@Service
+@Slf4j
+public class SourceTreeHasher {
+
+    private static final int MAX_TRACKED_DIRECTORIES = 64;
+    static final long RACY_MILLIS = 2_000;
+
+    private record FileState(long size, long modified, boolean trusted, byte[] digest) { }
+
+    private final Map<Path, Map<String, FileState>> snapshots = new ConcurrentHashMap<>();
+
+    public String hash(Path projectDir) throws IOException {
+        Path root = projectDir.toAbsolutePath().normalize();
+        Map<String, FileState> previous = snapshots.getOrDefault(root, Map.of());
+        Map<String, FileState> current = new HashMap<>();
+        long scanStart = System.currentTimeMillis();
+        int read = 0;
+
+        Path pom = root.resolve("pom.xml");
+        if (Files.isRegularFile(pom)) {
+            read += state(root, pom, previous, current, scanStart);
+        }
+        Path src = root.resolve("src");
+        if (Files.isDirectory(src)) {
+            try (Stream<Path> files = Files.walk(src)) {
+                for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                    read += state(root, file, previous, current, scanStart);
+                }
+            }
+        }
+
+        // Sorted by path, so the hash does not depend on the walk order.
+        MessageDigest tree = UtilityService.sha256();
+        for (Map.Entry<String, FileState> entry : new TreeMap<>(current).entrySet()) {
+            tree.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            tree.update((byte) 0);
+            tree.update(entry.getValue().digest());
+        }
+        if (snapshots.size() >= MAX_TRACKED_DIRECTORIES && !snapshots.containsKey(root)) {
+            snapshots.clear();
+        }
+        snapshots.put(root, current);
+        String hash = HexFormat.of().formatHex(tree.digest());
+        log.debug("Hashed {} files of {} ({} read): {}", current.size(), root, read, hash);
+        return hash;
+    }
+
+    /** Drops what is remembered about a directory, e.g. once a temporary workspace is deleted. */
+    public void forget(Path projectDir) {
+        snapshots.remove(projectDir.toAbsolutePath().normalize());
+    }
+
+    /** Records the state of one file and returns 1 if it had to be read, 0 if the remembered digest was reused. */
+    private static int state(Path root, Path file, Map<String, FileState> previous, Map<String, FileState> current, long scanStart) throws IOException {
+        String relative = root.relativize(file).toString().replace('\\', '/');
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long modified = attributes.lastModifiedTime().toMillis();
+        FileState known = previous.get(relative);
+        if (known != null && known.trusted() && known.size() == attributes.size() && known.modified() == modified) {
+            current.put(relative, known);
+            return 0;
+        }
+        current.put(relative, new FileState(attributes.size(), modified, modified < scanStart - RACY_MILLIS, digest(file)));
+        return 1;
+    }
+
+    private static byte[] digest(Path file) throws IOException {
+        MessageDigest digest = UtilityService.sha256();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int n; (n = in.read(buffer)) > 0; ) {
+                digest.update(buffer, 0, n);
+            }
+        }
+        return digest.digest();
+    }
+}
@@ -0,0 +1,405 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.springframework.stereotype.Service;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.msn.SDLCAutonomus.config.AttachmentProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads the mapping sheet of an {@code .xlsx} workbook as the CSV the mapping agents expect
+ * ({@value #CSV_HEADER}).
+ *
+ * <p>The workbook is a zip of SpreadsheetML parts. The first sheet is parsed with SAX straight from its zip
+ * entry and written out one row at a time; only the shared-string table (the distinct cell texts) and the
+ * current row are held in memory, so sheets with tens of thousands of rows stream in constant space.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SpreadsheetMappingReader {
+
+    public static final String CSV_HEADER = "SourcePath,TargetPath,TransformationRule,ValidationRule";
+
+    private static final String[] MAPPING_COLUMNS = CSV_HEADER.split(",");
+    private static final String RELATIONSHIPS_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String FIRST_SHEET_FALLBACK = "xl/worksheets/sheet1.xml";
+    private static final SAXParserFactory SAX = secureParserFactory();
+
+    private final AttachmentProperties attachmentProperties;
+
+    /** Receives the cells of each non-empty row; returns false to stop reading. */
+    private interface RowHandler {
+        boolean row(String[] cells, int width) throws IOException;
+    }
+
+    /** Thrown out of the SAX handler when the row handler has read enough. */
+    private static final class StopReading extends SAXException {
+        StopReading() {
+            super("stop");
+        }
+    }
+
+    /**
+     * True for a zip container such as an {@code .xlsx}, whatever the attachment is called.
+     */
+    public static boolean isSpreadsheet(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] magic = in.readNBytes(4);
+            return magic.length == 4 && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3 && magic[3] == 4;
+        }
+    }
+
+    /**
+     * Streams the mapping rows of the first sheet as CSV, header first.
+     *
+     * @return the number of mapping rows written, header excluded
+     */
+    public long writeCsv(Path workbook, Appendable csv) throws IOException {
+        long[] rows = {0};
+        read(workbook, new MappingRows((row, width) -> {
+            appendCsvRow(csv, row, width);
+            rows[0]++;
+            return true;
+        }));
+        return Math.max(0, rows[0] - 1);
+    }
+
+    /**
+     * The CSV for the LLM stages, cut after the last complete row within {@code sdlc.attachments.llm-sample-size}
+     * characters.
+     */
+    public String readCsvSample(Path workbook) throws IOException {
+        log.info("--- 🤖 Starting spreadsheet mapping read: {} ---", workbook.getFileName());
+        long limit = attachmentProperties.getLlmSampleSize().toBytes();
+        StringBuilder csv = new StringBuilder();
+        StringBuilder line = new StringBuilder();
+        long[] rows = {0};
+        read(workbook, new MappingRows((row, width) -> {
+            line.setLength(0);
+            appendCsvRow(line, row, width);
+            if (csv.length() + line.length() > limit) {
+                log.warn("⚠️ Mapping sheet {} exceeds {} characters; only the first {} rows are passed to the agents.",
+                    workbook.getFileName(), limit, Math.max(0, rows[0] - 1));
+                return false;
+            }
+            csv.append(line);
+            rows[0]++;
+            return true;
+        }));
+        log.info("✅ Read {} mapping rows from {}.", Math.max(0, rows[0] - 1), workbook.getFileName());
+        return csv.toString();
+    }
+
+    private static void read(Path workbook, RowHandler handler) throws IOException {
+        try (ZipFile zip = new ZipFile(workbook.toFile())) {
+            List<String> sharedStrings = readSharedStrings(zip);
+            ZipEntry sheet = zip.getEntry(firstSheetEntry(zip));
+            if (sheet == null) {
+                throw new IOException("No worksheet found in " + workbook.getFileName());
+            }
+            try (InputStream in = zip.getInputStream(sheet)) {
+                SAX.newSAXParser().parse(in, new SheetHandler(sharedStrings, handler));
+            } catch (StopReading e) {
+                // The handler has what it needs.
+            }
+        } catch (SAXException | ParserConfigurationException e) {
+            throw new IOException("Could not read the spreadsheet " + workbook.getFileName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The zip entry of the first sheet in workbook order, resolved through the workbook relationships.
+     */
+    private static String firstSheetEntry(ZipFile zip) throws IOException, SAXException, ParserConfigurationException {
+        ZipEntry workbook = zip.getEntry("xl/workbook.xml");
+        ZipEntry relationships = zip.getEntry("xl/_rels/workbook.xml.rels");
+        if (workbook == null || relationships == null) {
+            return FIRST_SHEET_FALLBACK;
+        }
+        String[] sheetId = {null};
+        try (InputStream in = zip.getInputStream(workbook)) {
+            SAX.newSAXParser().parse(in, new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+                    if ("sheet".equals(localName)) {
+                        sheetId[0] = attributes.getValue(RELATIONSHIPS_NS, "id");
+                        throw new StopReading();
+                    }
+                }
+            });
+        } catch (StopReading e) {
+            // First sheet found.
+        }
+        if (sheetId[0] == null) {
+            return FIRST_SHEET_FALLBACK;
+        }
+        Map<String, String> targets = new HashMap<>();
+        try (InputStream in = zip.getInputStream(relationships)) {
+            SAX.newSAXParser().parse(in, new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                    if ("Relationship".equals(localName)) {
+                        targets.put(attributes.getValue("Id"), attributes.getValue("Target"));
+                    }
+                }
+            });
+        }
+        String target = targets.get(sheetId[0]);
+        if (target == null) {
+            return FIRST_SHEET_FALLBACK;
+        }
+        return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+    }
+
+    /** The workbook's shared-string table, in index order; rich-text runs are joined, phonetic hints dropped. */
+    private static List<String> readSharedStrings(ZipFile zip) throws IOException, SAXException, ParserConfigurationException {
+        ZipEntry entry = zip.getEntry("xl/sharedStrings.xml");
+        List<String> strings = new ArrayList<>();
+        if (entry == null) {
+            return strings;
+        }
+        try (InputStream in = zip.getInputStream(entry)) {
+            SAX.newSAXParser().parse(in, new DefaultHandler() {
+                private final StringBuilder text = new StringBuilder();
+                private boolean inText;
+                private int phonetic;
+
+                @Override
+                public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                    switch (localName) {
+                        case "si" -> text.setLength(0);
+                        case "rPh" -> phonetic++;
+                        case "t" -> inText = phonetic == 0;
+                        default -> { }
+                    }
+                }
+
+                @Override
+                public void characters(char[] ch, int start, int length) {
+                    if (inText) {
+                        text.append(ch, start, length);
+                    }
+                }
+
+                @Override
+                public void endElement(String uri, String localName, String qName) {
+                    switch (localName) {
+                        case "si" -> strings.add(text.toString());
+                        case "rPh" -> phonetic--;
+                        case "t" -> inText = false;
+                        default -> { }
+                    }
+                }
+            });
+        }
+        return strings;
+    }
+
+    /**
+     * Resolves the cell values of each {@code <row>}, placing every cell at the column of its reference since
+     * empty cells are left out of the sheet.
+     */
+    private static final class SheetHandler extends DefaultHandler {
+        private final List<String> sharedStrings;
+        private final RowHandler rows;
+        private final StringBuilder value = new StringBuilder();
+        private String[] cells = new String[8];
+        private int width;
+        private int column;
+        private String type;
+        private boolean inValue;
+
+        SheetHandler(List<String> sharedStrings, RowHandler rows) {
+            this.sharedStrings = sharedStrings;
+            this.rows = rows;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row" -> {
+                    Arrays.fill(cells, 0, width, null);
+                    width = 0;
+                    column = 0;
+                }
+                case "c" -> {
+                    String reference = attributes.getValue("r");
+                    column = reference == null ? column + 1 : columnIndex(reference);
+                    type = attributes.getValue("t");
+                    value.setLength(0);
+                }
+                case "v", "t" -> inValue = true;
+                default -> { }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue) {
+                value.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            switch (localName) {
+                case "v", "t" -> inValue = false;
+                case "c" -> setCell(column - 1, cellValue());
+                case "row" -> {
+                    if (width > 0) {
+                        try {
+                            if (!rows.row(cells, width)) {
+                                throw new StopReading();
+                            }
+                        } catch (IOException e) {
+                            throw new SAXException(e);
+                        }
+                    }
+                }
+                default -> { }
+            }
+        }
+
+        private String cellValue() throws SAXException {
+            String raw = value.toString();
+            if ("s".equals(type)) {
+                try {
+                    return sharedStrings.get(Integer.parseInt(raw.strip()));
+                } catch (RuntimeException e) {
+                    throw new SAXException("Invalid shared string index: " + raw);
+                }
+            }
+            if ("b".equals(type)) {
+                return "1".equals(raw.strip()) ? "TRUE" : "FALSE";
+            }
+            return raw;
+        }
+
+        private void setCell(int index, String cell) {
+            if (index < 0 || cell.isEmpty()) {
+                return;
+            }
+            if (index >= cells.length) {
+                cells = Arrays.copyOf(cells, Math.max(index + 1, cells.length * 2));
+            }
+            cells[index] = cell;
+            width = Math.max(width, index + 1);
+        }
+
+        /** One-based column of a cell reference such as {@code AB12}. */
+        private static int columnIndex(String reference) {
+            int index = 0;
+            for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+                index = index * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Takes the first non-empty row as the header and passes on the four mapping columns, in CSV order, of
+     * every row that has a value in one of them. A sheet whose header names neither SourcePath nor TargetPath
+     * is passed on as it is.
+     */
+    private static final class MappingRows implements RowHandler {
+        private final RowHandler out;
+        private int[] columns;
+        private String[] projected;
+
+        MappingRows(RowHandler out) {
+            this.out = out;
+        }
+
+        @Override
+        public boolean row(String[] cells, int width) throws IOException {
+            if (columns == null) {
+                columns = headerColumns(cells, width);
+                if (columns == null) {
+                    log.warn("⚠️ The mapping sheet has no SourcePath/TargetPath header; its columns are passed on as they are.");
+                    columns = new int[0];
+                    return out.row(cells, width);
+                }
+                projected = new String[MAPPING_COLUMNS.length];
+                return out.row(MAPPING_COLUMNS, MAPPING_COLUMNS.length);
+            }
+            if (columns.length == 0) {
+                return out.row(cells, width);
+            }
+            boolean empty = true;
+            for (int i = 0; i < columns.length; i++) {
+                projected[i] = columns[i] >= 0 && columns[i] < width ? cells[columns[i]] : null;
+                empty &= projected[i] == null || projected[i].isBlank();
+            }
+            return empty || out.row(projected, projected.length);
+        }
+
+        /** Zero-based column of each mapping column (-1 if missing), or null if the row is not a mapping header. */
+        private static int[] headerColumns(String[] cells, int width) {
+            int[] columns = new int[MAPPING_COLUMNS.length];
+            Arrays.fill(columns, -1);
+            for (int i = 0; i < width; i++) {
+                String name = normalize(cells[i]);
+                for (int j = 0; j < MAPPING_COLUMNS.length; j++) {
+                    if (columns[j] < 0 && normalize(MAPPING_COLUMNS[j]).equals(name)) {
+                        columns[j] = i;
+                    }
+                }
+            }
+            return columns[0] >= 0 || columns[1] >= 0 ? columns : null;
+        }
+
+        private static String normalize(String name) {
+            return name == null ? "" : name.replaceAll("[^A-Za-z]", "").toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /** Appends one RFC 4180 line; fields with commas, quotes or line breaks are quoted. */
+    private static void appendCsvRow(Appendable csv, String[] cells, int width) throws IOException {
+        for (int i = 0; i < width; i++) {
+            if (i > 0) {
+                csv.append(',');
+            }
+            String cell = cells[i] == null ? "" : cells[i];
+            if (cell.indexOf(',') >= 0 || cell.indexOf('"') >= 0 || cell.indexOf('\n') >= 0 || cell.indexOf('\r') >= 0) {
+                csv.append('"').append(cell.replace("\"", "\"\"")).append('"');
+            } else {
+                csv.append(cell);
+            }
+        }
+        csv.append('\n');
+    }
+
+    private static SAXParserFactory secureParserFactory() {
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+        factory.setNamespaceAware(true);
+        try {
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IllegalStateException("SAX parser does not support secure processing", e);
+        }
+        return factory;
+    }
+}
@@ -0,0 +1,108 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.model.JiraAttachment;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Normalized content hashes of Jira issues, used to skip the whole pipeline when a ticket is
+ * re-triggered without any change to its summary, description or attachments.
+ * <p>
+ * The last processed hash of every issue is kept in a small local file so the check needs
+ * nothing but the Jira fetch: no LLM call, no clone and no attachment download.
+ */
+@Service
+@Slf4j
+public class SrsFingerprintService {
+
+    private final Path stateDir;
+
+    public SrsFingerprintService(@Value("${sdlc.state.dir:../temp/.sdlc-state}") String stateDir) {
+        this.stateDir = Paths.get(stateDir, "fingerprints");
+    }
+
+
+    /**
+     * Normalizes line endings and whitespace so that cosmetic edits in Jira do not count as changes.
+     */
+    public String normalize(String srsContent) {
+        if (srsContent == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(srsContent.length());
+        boolean previousBlank = true;
+        for (String line : srsContent.replace("\r\n", "\n").replace('\r', '\n').split("\n")) {
+            String trimmed = line.strip().replaceAll("[ \\t]+", " ");
+            boolean blank = trimmed.isEmpty();
+            if (blank && previousBlank) {
+                continue; // Collapse runs of blank lines (and drop leading ones).
+            }
+            normalized.append(trimmed).append('\n');
+            previousBlank = blank;
+        }
+        return normalized.toString().strip();
+    }
+
+    /**
+     * Appends one line per attachment (id, size and creation time, ordered by id) so that a replaced or added
+     * attachment changes the fingerprint even when the summary and description do not.
+     */
+    public String withAttachments(String srsContent, List<JiraAttachment> attachments) {
+        StringBuilder content = new StringBuilder(srsContent == null ? "" : srsContent);
+        attachments.stream()
+            .sorted(Comparator.comparing(JiraAttachment::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+            .forEach(attachment -> content.append("\nAttachment ").append(attachment.getId())
+                .append(' ').append(attachment.getSize())
+                .append(' ').append(attachment.getCreated()));
+        return content.toString();
+    }
+
+    public String fingerprint(String srsContent) {
+        return UtilityService.sha256Hex(normalize(srsContent));
+    }
+
+    /**
+     * Returns true if the issue content hashes to the value recorded by the last run that built successfully (or
+     * found nothing to change).
+     */
+    public boolean matchesLastRecorded(String issueKey, String srsContent) {
+        Path hashFile = hashFile(issueKey);
+        if (!Files.exists(hashFile)) {
+            return false;
+        }
+        try {
+            return Files.readString(hashFile, StandardCharsets.UTF_8).trim().equals(fingerprint(srsContent));
+        } catch (IOException e) {
+            log.warn("Could not read recorded fingerprint for {}: {}", issueKey, e.getMessage());
+            return false;
+        }
+    }
+
+    public void record(String issueKey, String srsContent) {
+        Path hashFile = hashFile(issueKey);
+        try {
+            Files.createDirectories(hashFile.getParent());
+            Files.writeString(hashFile, fingerprint(srsContent), StandardCharsets.UTF_8);
+            log.info("✅ Recorded SRS fingerprint for {}", issueKey);
+        } catch (IOException e) {
+            log.warn("Could not record SRS fingerprint for {}: {}", issueKey, e.getMessage());
+        }
+    }
+
+    private Path hashFile(String issueKey) {
+        // Issue keys are PROJ-123 style, but never trust them as path segments.
+        return stateDir.resolve(issueKey.replaceAll("[^A-Za-z0-9_.-]", "_") + ".sha256");
+    }
+
+}
@@ -0,0 +1,336 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+
+import com.msn.SDLCAutonomus.config.XmlProcessingProperties;
+import com.msn.SDLCAutonomus.model.MappingViolation;
+import com.msn.SDLCAutonomus.model.StreamingMappingResult;
+import com.msn.SDLCAutonomus.service.MappingPlan.ArrayRule;
+import com.msn.SDLCAutonomus.service.MappingPlan.FieldRule;
+import com.msn.SDLCAutonomus.service.MappingPlan.Rule;
+import com.msn.SDLCAutonomus.service.MappingPlan.SourceNode;
+import com.msn.SDLCAutonomus.service.MappingPlan.TargetNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes a {@link MappingPlan} in constant memory, for source documents too large for
+ * {@link MappingEngineService#transform}.
+ *
+ * <p>The source is read with StAX in one skeleton pass plus one more pass per top-level array mapping that has
+ * items. The skeleton pass keeps only the elements the single-value mappings read (the first match of each path)
+ * and notes which top-level array mappings have any item at all; each further pass streams the repeating elements
+ * of one such array: each item is read, mapped and written to an {@link XMLStreamWriter} before the next one is read. An array without items creates no target elements, just
+ * as in {@code transform}, so the output is the same document {@code transform} produces. Since the response is already under way
+ * when violations are found, they are reported in a comment after the root element: the total, and the first
+ * {@code sdlc.xml.max-validation-errors} of them.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StreamingMappingService {
+
+    private static final String INDENT = "    ";
+
+    private static final XMLInputFactory STAX = XmlValidationService.secureInputFactory();
+    private static final XMLOutputFactory XML_OUTPUT = XMLOutputFactory.newFactory();
+
+    private final XmlProcessingProperties xmlProcessingProperties;
+
+    /** Element paths the single-value mappings read, as a tree from the document node. */
+    private static final class PathTrie {
+        private final Map<String, PathTrie> children = new HashMap<>();
+        private boolean value;
+
+        void add(MappingPlan.Path path, int length, boolean value) {
+            PathTrie node = this;
+            for (int i = 0; i < length && !path.segment(i).startsWith("@"); i++) {
+                node = node.children.computeIfAbsent(path.segment(i), name -> new PathTrie());
+            }
+            node.value |= value;
+        }
+    }
+
+    private static final class Frame {
+        private final SourceNode node;
+        private final PathTrie trie;
+        private final Set<String> seen = new HashSet<>();
+        private final StringBuilder text = new StringBuilder();
+
+        Frame(SourceNode node, PathTrie trie) {
+            this.node = node;
+            this.trie = trie;
+        }
+    }
+
+    /** Keeps the first violations and counts the rest. */
+    private static final class CappedViolations extends ArrayList<MappingViolation> {
+        private final int limit;
+        private long total;
+
+        CappedViolations(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean add(MappingViolation violation) {
+            total++;
+            return size() < limit && super.add(violation);
+        }
+    }
+
+    /**
+     * Maps the source onto the target stream; {@code source} must be readable more than once (a file or an uploaded part).
+     * The target stream is flushed but not closed.
+     */
+    public StreamingMappingResult transform(MappingPlan plan, InputStreamSource source, OutputStream target) throws IOException {
+        log.info("--- 🤖 Starting streaming XML transformation ---");
+        long start = System.nanoTime();
+        CappedViolations violations = new CappedViolations(xmlProcessingProperties.getMaxValidationErrors());
+        try {
+            List<ArrayRule> arrays = new ArrayList<>();
+            plan.rules().stream().filter(ArrayRule.class::isInstance).map(ArrayRule.class::cast).forEach(arrays::add);
+            boolean[] hasItems = new boolean[arrays.size()];
+            SourceNode skeleton;
+            try (InputStream in = source.getInputStream()) {
+                skeleton = readSkeleton(STAX.createXMLStreamReader(in), pathTrie(plan), arrays, hasItems);
+            }
+
+            // Single values are mapped now; each array mapping with items leaves a placeholder that is streamed when
+            // written. Its enclosing target elements only exist once there is an item, as in transform.
+            TargetNode document = new TargetNode("#document");
+            Map<TargetNode, ArrayRule> streamed = new IdentityHashMap<>();
+            for (Rule rule : plan.rules()) {
+                if (rule instanceof ArrayRule array) {
+                    if (hasItems[arrays.indexOf(array)]) {
+                        streamed.put(array.targetPath().append(document), array);
+                    } else {
+                        array.checkOccurrence(0, "", violations);
+                    }
+                } else {
+                    rule.apply(skeleton, document, new StringBuilder(), violations);
+                }
+            }
+
+            XMLStreamWriter writer = XML_OUTPUT.createXMLStreamWriter(target, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeCharacters("\n");
+            long[] items = {0};
+            for (TargetNode root : document.children) {
+                write(writer, root, 0, streamed, source, violations, items);
+            }
+            if (violations.total > 0) {
+                writer.writeComment(" " + violations.total + " mapping violation(s): " + summary(violations) + " ");
+                writer.writeCharacters("\n");
+            }
+            writer.writeEndDocument();
+            writer.flush();
+            writer.close();
+
+            StreamingMappingResult result = new StreamingMappingResult(items[0], violations.total, new ArrayList<>(violations),
+                (System.nanoTime() - start) / 1_000_000);
+            log.info("✅ Streamed {} items in {} ms ({} violations).", result.getItemCount(), result.getElapsedMillis(), result.getViolationCount());
+            return result;
+        } catch (XMLStreamException e) {
+            log.error("❌ Streaming XML transformation failed: {}", e.getMessage());
+            throw new IOException("Could not transform the source XML: " + e.getMessage(), e);
+        }
+    }
+
+    private static PathTrie pathTrie(MappingPlan plan) {
+        PathTrie trie = new PathTrie();
+        for (Rule rule : plan.rules()) {
+            if (rule instanceof FieldRule field) {
+                if (field.sourcePath() != null) {
+                    trie.add(field.sourcePath(), field.sourcePath().length(), true);
+                }
+                if (field.transform() != null) {
+                    field.transform().sourcePaths().forEach(path -> trie.add(path, path.length(), true));
+                }
+            } else if (rule instanceof ArrayRule array) {
+                // Only the parents: the items themselves come from the second pass.
+                trie.add(array.sourcePath(), array.sourcePath().length() - 1, false);
+            }
+        }
+        return trie;
+    }
+
+    /**
+     * Reads the first element of each path in the trie and skips everything else, so the tree stays as small
+     * as the mapping. Sets {@code hasItems[i]} if the source has an element at the path of {@code arrays[i]}.
+     */
+    private static SourceNode readSkeleton(XMLStreamReader reader, PathTrie trie, List<ArrayRule> arrays, boolean[] hasItems)
+            throws XMLStreamException {
+        SourceNode document = new SourceNode("#document", Map.of());
+        Deque<Frame> open = new ArrayDeque<>();
+        open.push(new Frame(document, trie));
+        int skipped = 0;
+        // Depth of the reader, and per array how many leading path segments the open elements match.
+        int level = 0;
+        int[] matched = new int[arrays.size()];
+        try {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        level++;
+                        for (int i = 0; i < matched.length; i++) {
+                            MappingPlan.Path path = arrays.get(i).sourcePath();
+                            if (matched[i] == level - 1 && level <= path.length() && path.segment(level - 1).equals(reader.getLocalName())) {
+                                matched[i] = level;
+                                hasItems[i] |= level == path.length();
+                            }
+                        }
+                        if (skipped > 0) {
+                            skipped++;
+                        } else {
+                            Frame parent = open.peek();
+                            PathTrie next = parent.trie.children.get(reader.getLocalName());
+                            if (next == null || !parent.seen.add(reader.getLocalName())) {
+                                skipped = 1;
+                            } else {
+                                SourceNode node = MappingEngineService.startNode(reader);
+                                parent.node.children.add(node);
+                                open.push(new Frame(node, next));
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                        if (skipped == 0 && open.peek().trie.value) {
+                            open.peek().text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        level--;
+                        for (int i = 0; i < matched.length; i++) {
+                            matched[i] = Math.min(matched[i], level);
+                        }
+                        if (skipped > 0) {
+                            skipped--;
+                        } else {
+                            Frame frame = open.pop();
+                            String text = frame.text.toString().strip();
+                            frame.node.text = text.isEmpty() ? null : text;
+                        }
+                    }
+                    default -> { }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return document;
+    }
+
+    private static void write(XMLStreamWriter writer, TargetNode node, int depth, Map<TargetNode, ArrayRule> streamed,
+            InputStreamSource source, List<MappingViolation> violations, long[] items) throws XMLStreamException, IOException {
+        ArrayRule array = streamed.get(node);
+        if (array != null) {
+            items[0] += streamItems(writer, array, depth, source, violations);
+            return;
+        }
+        writer.writeCharacters(INDENT.repeat(depth));
+        if (node.children.isEmpty() && node.text == null) {
+            writer.writeEmptyElement(node.name);
+            writeAttributes(writer, node);
+            writer.writeCharacters("\n");
+            return;
+        }
+        writer.writeStartElement(node.name);
+        writeAttributes(writer, node);
+        if (node.text != null) {
+            writer.writeCharacters(node.text);
+        }
+        if (!node.children.isEmpty()) {
+            writer.writeCharacters("\n");
+            for (TargetNode child : node.children) {
+                write(writer, child, depth + 1, streamed, source, violations, items);
+            }
+            writer.writeCharacters(INDENT.repeat(depth));
+        }
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+    }
+
+    private static void writeAttributes(XMLStreamWriter writer, TargetNode node) throws XMLStreamException {
+        for (Map.Entry<String, String> attribute : node.attributes.entrySet()) {
+            writer.writeAttribute(attribute.getKey(), attribute.getValue());
+        }
+    }
+
+    /**
+     * Pass for one array mapping: every element at its source path is read, mapped and written on its own.
+     */
+    private static long streamItems(XMLStreamWriter writer, ArrayRule array, int depth, InputStreamSource source,
+            List<MappingViolation> violations) throws XMLStreamException, IOException {
+        MappingPlan.Path sourcePath = array.sourcePath();
+        StringBuilder targetPrefix = new StringBuilder();
+        String itemName = array.targetPath().segment(array.targetPath().length() - 1);
+        int count = 0;
+        try (InputStream in = source.getInputStream()) {
+            XMLStreamReader reader = STAX.createXMLStreamReader(in);
+            try {
+                // Depth of the reader, and how many leading path segments the open elements match.
+                int level = 0;
+                int matched = 0;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        level++;
+                        if (matched == level - 1 && sourcePath.segment(level - 1).equals(reader.getLocalName())) {
+                            matched = level;
+                            if (matched == sourcePath.length()) {
+                                SourceNode item = MappingEngineService.readElement(reader);
+                                TargetNode targetItem = new TargetNode(itemName);
+                                array.applyItem(item, targetItem, targetPrefix, count++, violations);
+                                write(writer, targetItem, depth, Map.of(), source, violations, new long[1]);
+                                level--;
+                                matched--;
+                            }
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        level--;
+                        matched = Math.min(matched, level);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        array.checkOccurrence(count, targetPrefix, violations);
+        return count;
+    }
+
+    private static String summary(List<MappingViolation> violations) {
+        StringBuilder summary = new StringBuilder();
+        for (MappingViolation violation : violations) {
+            if (!summary.isEmpty()) {
+                summary.append("; ");
+            }
+            summary.append(violation.getPath()).append(' ').append(violation.getRule()).append(": ").append(violation.getMessage());
+        }
+        // "--" may not appear inside a comment.
+        return summary.toString().replace("--", "- -");
+    }
+}
@@ -8,23 +8,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.awt.Desktop;
-import javax.xml.validation.SchemaFactory;
-import javax.xml.validation.Validator;
 import org.xml.sax.SAXException;
 import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
-import javax.xml.XMLConstants;
-import javax.xml.validation.Schema;
 import java.io.StringReader;
 
 import org.springframework.stereotype.Service;
@@ -46,6 +43,12 @@ public class UtilityService {
     private static final String DEPENDENCY_AGENT_NAME = "DependencyAgent";
     private static final String CODEGEN_AGENT_NAME = "CodeGenAgent";
     private static final String TESTGEN_AGENT_NAME = "TestGenAgent";
+    private static final int DIFF_CONTEXT_LINES = 2;
+    // Upper bound for the LCS table; larger inputs fall back to a plain replace of the changed block.
+    private static final long MAX_DIFF_CELLS = 4_000_000L;
+
+    private final XmlValidationService xmlValidationService;
+    private final PomService pomService;
 
     public <T> T retryWithBackoff(java.util.function.Supplier<T> action) {
         int maxRetries = 3;
@@ -171,73 +174,102 @@ public class UtilityService {
     }
 
 
+    /**
+     * The project dependencies of the POM as coordinates for the DependencyAgent; {@code dependencyManagement}
+     * and plugin dependencies are not included and {@code ${property}} versions are resolved.
+     */
     public List<String> parseExistingDependenciesFromPom(String pomContent) {
         log.info("--- 🤖 Starting parseExistingDependenciesFromPom ---");
-        log.debug("Parsing pomContent (first 500 chars):\n{}", pomContent.substring(0, Math.min(pomContent.length(), 500)));
-
-        List<String> dependencies = new ArrayList<>();
-        Pattern dependencyBlockPattern = Pattern.compile("<dependency>(.*?)</dependency>", Pattern.DOTALL);
-        Matcher blockMatcher = dependencyBlockPattern.matcher(pomContent);
-
-        Pattern groupIdPattern = Pattern.compile("<groupId>\s*(.*?)\s*</groupId>", Pattern.DOTALL);
-        Pattern artifactIdPattern = Pattern.compile("<artifactId>\s*(.*?)\s*</artifactId>", Pattern.DOTALL);
-        Pattern versionPattern = Pattern.compile("<version>\s*(.*?)\s*</version>", Pattern.DOTALL);
-        Pattern scopePattern = Pattern.compile("<scope>\s*(.*?)\s*</scope>", Pattern.DOTALL);
-        // Make optional pattern more flexible to just check for presence of the tag, not its content
-        Pattern optionalPattern = Pattern.compile("<optional(?:\s*[^>]*?)?>.*?</optional>|<optional\s*/>", Pattern.DOTALL);
-
-        while (blockMatcher.find()) {
-            String dependencyXml = blockMatcher.group(1); // Content within <dependency>...</dependency>
-            log.debug("Found dependency block:\n{}", dependencyXml);
-
-            String groupId = null;
-            String artifactId = null;
-            String version = null;
-            String scope = null;
-            boolean optional = false;
-
-            Matcher m;
-
-            m = groupIdPattern.matcher(dependencyXml);
-            if (m.find()) groupId = m.group(1).trim();
-            log.debug("  - groupId: {}", groupId);
-
-            m = artifactIdPattern.matcher(dependencyXml);
-            if (m.find()) artifactId = m.group(1).trim();
-            log.debug("  - artifactId: {}", artifactId);
-
-            m = versionPattern.matcher(dependencyXml);
-            if (m.find()) version = m.group(1).trim();
-            log.debug("  - version: {}", version);
-
-            m = scopePattern.matcher(dependencyXml);
-            if (m.find()) scope = m.group(1).trim();
-            log.debug("  - scope: {}", scope);
-
-            // Check for optional tag presence
-            optional = optionalPattern.matcher(dependencyXml).find();
-            log.debug("  - optional: {}", optional);
-
-            if (groupId != null && artifactId != null) {
-                StringBuilder dep = new StringBuilder();
-                dep.append(groupId).append(":").append(artifactId);
-                if (version != null) {
-                    dep.append(":").append(version);
+        List<String> dependencies;
+        try {
+            dependencies = PomService.coordinates(pomService.parse(pomContent).getDependencies());
+        } catch (IOException e) {
+            log.warn("⚠️ Could not parse the existing pom.xml: {}", e.getMessage());
+            dependencies = new ArrayList<>();
+        }
+        log.info("--- ✅ Finished parseExistingDependenciesFromPom. Found {} dependencies. ---", dependencies.size());
+        return dependencies;
+    }
+
+    /**
+     * Computes a line diff between two texts. Removed lines are prefixed with "- ", added lines with "+ ",
+     * and up to two unchanged lines around each change with "  ". Returns an empty string if no line differs.
+     */
+    public String computeLineDiff(String oldText, String newText) {
+        String[] oldLines = oldText.split("\r?\n");
+        String[] newLines = newText.split("\r?\n");
+
+        // Trim the common prefix and suffix so the LCS only runs over the changed region.
+        int prefix = 0;
+        while (prefix < oldLines.length && prefix < newLines.length && oldLines[prefix].equals(newLines[prefix])) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldLines.length - prefix && suffix < newLines.length - prefix
+                && oldLines[oldLines.length - 1 - suffix].equals(newLines[newLines.length - 1 - suffix])) {
+            suffix++;
+        }
+        int n = oldLines.length - prefix - suffix;
+        int m = newLines.length - prefix - suffix;
+        if (n == 0 && m == 0) {
+            return "";
+        }
+
+        // Each op is a line prefixed with its marker: ' ' unchanged, '-' removed, '+' added.
+        List<String> ops = new ArrayList<>();
+        for (int i = 0; i < prefix; i++) {
+            ops.add("  " + oldLines[i]);
+        }
+        if ((long) n * m > MAX_DIFF_CELLS) {
+            for (int i = 0; i < n; i++) ops.add("- " + oldLines[prefix + i]);
+            for (int j = 0; j < m; j++) ops.add("+ " + newLines[prefix + j]);
+        } else {
+            int[][] lcs = new int[n + 1][m + 1];
+            for (int i = n - 1; i >= 0; i--) {
+                for (int j = m - 1; j >= 0; j--) {
+                    lcs[i][j] = oldLines[prefix + i].equals(newLines[prefix + j])
+                        ? lcs[i + 1][j + 1] + 1
+                        : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
                 }
-                if (scope != null && !scope.equalsIgnoreCase("compile")) {
-                    dep.append(":").append(scope);
+            }
+            int i = 0, j = 0;
+            while (i < n || j < m) {
+                if (i < n && j < m && oldLines[prefix + i].equals(newLines[prefix + j])) {
+                    ops.add("  " + oldLines[prefix + i]);
+                    i++;
+                    j++;
+                } else if (j < m && (i == n || lcs[i][j + 1] >= lcs[i + 1][j])) {
+                    ops.add("+ " + newLines[prefix + j]);
+                    j++;
+                } else {
+                    ops.add("- " + oldLines[prefix + i]);
+                    i++;
                 }
-                if (optional) {
-                    dep.append(":optional");
+            }
+        }
+        for (int i = oldLines.length - suffix; i < oldLines.length; i++) {
+            ops.add("  " + oldLines[i]);
+        }
+
+        // Keep only the changes and their surrounding context.
+        boolean[] keep = new boolean[ops.size()];
+        for (int k = 0; k < ops.size(); k++) {
+            if (ops.get(k).charAt(0) != ' ') {
+                for (int c = Math.max(0, k - DIFF_CONTEXT_LINES); c <= Math.min(ops.size() - 1, k + DIFF_CONTEXT_LINES); c++) {
+                    keep[c] = true;
                 }
-                dependencies.add(dep.toString());
-                log.debug("  - Added dependency: {}", dep.toString());
-            } else {
-                log.warn("  - Skipping dependency block due to missing groupId or artifactId: {}", dependencyXml);
             }
         }
-        log.info("--- ✅ Finished parseExistingDependenciesFromPom. Found {} dependencies. ---", dependencies.size());
-        return dependencies;
+        StringBuilder diff = new StringBuilder();
+        for (int k = 0; k < ops.size(); k++) {
+            if (keep[k]) {
+                if (k > 0 && !keep[k - 1] && diff.length() > 0) {
+                    diff.append("  ...\n");
+                }
+                diff.append(ops.get(k)).append("\n");
+            }
+        }
+        return diff.toString();
     }
 
     public  Map<String, String> getAgentPrompts(SrsData srsData,String combinedContext, String existingFiles, List<String> existingPomDependencies){
@@ -383,26 +415,23 @@ public class UtilityService {
     }
 
     public void validateXmlWithXsd(String xmlContent, String xsdContent) throws IOException, SAXException {
-        log.info("Starting XML validation against generated XSD...");
-        try {
-
-            System.out.println("validateXmlWithXsd_xmlContent : "+xmlContent);
-            System.out.println("validateXmlWithXsd_xsdContent :"+xsdContent);
-            // Create a SchemaFactory capable of understanding W3C XML Schema.
-            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-
-            // Compile the schema from the XSD content.
-            Source xsdSource = new StreamSource(new StringReader(xsdContent));
-            Schema schema = factory.newSchema(xsdSource);
-
-            // Create a Validator object, which can be used to validate XML documents against the schema.
-            Validator validator = schema.newValidator();
+        validateXmlWithXsd(new StreamSource(new StringReader(xmlContent)), xsdContent);
+    }
 
-            // Parse the XML document to be validated.
-            Source xmlSource = new StreamSource(new StringReader(xmlContent));
+    /**
+     * Validates an XML file without loading it: the validator reads it as a stream, so memory use
+     * does not depend on the document size.
+     */
+    public void validateXmlWithXsd(Path xmlFile, String xsdContent) throws IOException, SAXException {
+        validateXmlWithXsd(new StreamSource(xmlFile.toFile()), xsdContent);
+    }
 
-            // Validate the XML content
-            validator.validate(xmlSource);
+    private void validateXmlWithXsd(Source xmlSource, String xsdContent) throws IOException, SAXException {
+        log.info("Starting XML validation against generated XSD...");
+        try {
+            log.debug("Validating against XSD ({} chars)", xsdContent.length());
+            // The compiled schema is cached by XSD content, so repeated validations skip compilation.
+            xmlValidationService.validate(xmlSource, xsdContent);
             log.info("✅ XML validation successful.");
         } catch (SAXException e) {
             log.error("❌ XML validation failed: {}", e.getMessage());
@@ -483,6 +512,24 @@ public class UtilityService {
         }
     }
 
+    public static String getMavenExecutable() {
+        return System.getProperty("os.name").toLowerCase().startsWith("windows") ? "mvn.cmd" : "mvn";
+    }
+
+    /** A fresh SHA-256 digest, for content hashed in pieces. */
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available on this JVM", e);
+        }
+    }
+
+    /** Lower-case hex SHA-256 of the UTF-8 bytes of {@code value}, the key of every content-addressed cache here. */
+    static String sha256Hex(String value) {
+        return HexFormat.of().formatHex(sha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
     private static void openInBrowser(String url) {
         if (Desktop.isDesktopSupported() && Desktop.getDesktop().isSupported(Desktop.Action.BROWSE)) {
             try {
@@ -496,23 +543,36 @@ public class UtilityService {
 
     
     /**
-     * Helper method to run external commands, checking for errors and handling process streams.
-     * This centralizes process execution for maintainability and robustness.
-     *
-     * @param workingDir The directory to run the command in.
-     * @param command The command and its arguments.
-     * @throws IOException If the command fails with a non-zero exit code.
-     * @throws InterruptedException If the thread is interrupted while waiting for the process.
+     * Runs the command and returns its standard output; throws with both streams if it exits non-zero. Interrupting
+     * the calling thread kills the process and its children, so a cancelled build does not keep running.
      */
     public String runCommand(File workingDir, String... command) throws IOException, InterruptedException {
-        ProcessBuilder pb = new ProcessBuilder(command).directory(workingDir);
-        Process process = pb.start();
-
-        // Capture stdout and stderr to prevent blocking and for better error reporting
-        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
-        String error = new String(process.getErrorStream().readAllBytes(), StandardCharsets.UTF_8);
+        // Capture stdout and stderr in files: neither stream can fill up and block the process, and waitFor stays interruptible
+        Path stdout = Files.createTempFile("sdlc-cmd-", ".out");
+        Path stderr = Files.createTempFile("sdlc-cmd-", ".err");
+        String output;
+        String error;
+        int exitCode;
+        try {
+            Process process = new ProcessBuilder(command).directory(workingDir)
+                .redirectOutput(stdout.toFile())
+                .redirectError(stderr.toFile())
+                .start();
+            try {
+                exitCode = process.waitFor();
+            } catch (InterruptedException e) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+                throw e;
+            }
+            // Decoded leniently: build tools do not always write UTF-8, and readString would throw on such bytes
+            output = new String(Files.readAllBytes(stdout), StandardCharsets.UTF_8);
+            error = new String(Files.readAllBytes(stderr), StandardCharsets.UTF_8);
+        } finally {
+            Files.deleteIfExists(stdout);
+            Files.deleteIfExists(stderr);
+        }
 
-        int exitCode = process.waitFor();
         if (exitCode != 0) {
             String combinedOutput = "--- STDOUT ---\n" + output + "\n\n--- STDERR ---\n" + error;
             // Print the error stream from the process for better debugging
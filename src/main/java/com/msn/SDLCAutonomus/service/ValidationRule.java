@@ -0,0 +1,327 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.json.JSONObject;
+
+import com.msn.SDLCAutonomus.model.MappingViolation;
+
+/**
+ * The {@code validation} block of one mapping, compiled once: patterns are compiled, bounds parsed and type
+ * checks resolved up front. Checking a conforming value allocates nothing; the violation path and message are
+ * only built for values that break a rule.
+ *
+ * <p>Supported rules are {@code required}, {@code type} (string, integer, decimal, boolean, date), {@code minLength},
+ * {@code maxLength}, {@code pattern}, {@code min} and {@code max}. Numeric bounds only apply to decimal values;
+ * anything else is left to the type check.
+ */
+final class ValidationRule {
+
+    static final ValidationRule NONE = new ValidationRule(false, new Check[0]);
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L};
+    private static final int[] DAYS_IN_MONTH = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private final boolean required;
+    private final Check[] checks;
+
+    interface Check {
+        String rule();
+
+        /** @return a message if the value breaks the rule, else null */
+        String violation(String value);
+    }
+
+    private ValidationRule(boolean required, Check[] checks) {
+        this.required = required;
+        this.checks = checks;
+    }
+
+    /**
+     * @throws IOException for an unknown rule or type
+     */
+    static ValidationRule compile(JSONObject validation) throws IOException {
+        if (validation == null || validation.isEmpty()) {
+            return NONE;
+        }
+        boolean required = false;
+        List<Check> checks = new ArrayList<>();
+        for (String key : validation.keySet()) {
+            Object limit = validation.get(key);
+            switch (key) {
+                case "required" -> required = isTrue(limit.toString());
+                case "type" -> {
+                    Check check = typeCheck(limit.toString());
+                    if (check != null) {
+                        checks.add(check);
+                    }
+                }
+                case "minLength" -> {
+                    int min = validation.getInt(key);
+                    checks.add(check(key, value -> value.length() < min ? "Shorter than " + min + " characters" : null));
+                }
+                case "maxLength" -> {
+                    int max = validation.getInt(key);
+                    checks.add(check(key, value -> value.length() > max ? "Longer than " + max + " characters" : null));
+                }
+                case "pattern" -> checks.add(patternCheck(Pattern.compile(limit.toString())));
+                case "min" -> {
+                    Bound min = new Bound(validation.getBigDecimal(key));
+                    checks.add(check(key, value -> isDecimal(value) && min.compareTo(value) > 0 ? "Less than " + min.text : null));
+                }
+                case "max" -> {
+                    Bound max = new Bound(validation.getBigDecimal(key));
+                    checks.add(check(key, value -> isDecimal(value) && max.compareTo(value) < 0 ? "Greater than " + max.text : null));
+                }
+                default -> throw new IOException("Unknown validation rule: " + key);
+            }
+        }
+        return new ValidationRule(required, checks.toArray(new Check[0]));
+    }
+
+    boolean isRequired() {
+        return required;
+    }
+
+    /**
+     * Adds one violation per broken check, at {@code pathPrefix + field}.
+     */
+    void check(String value, CharSequence pathPrefix, String field, List<MappingViolation> violations) {
+        for (Check check : checks) {
+            String message = check.violation(value);
+            if (message != null) {
+                violations.add(new MappingViolation(pathPrefix + field, check.rule(), message));
+            }
+        }
+    }
+
+    private static Check typeCheck(String type) throws IOException {
+        return switch (type.toLowerCase(Locale.ROOT)) {
+            case "string" -> null;
+            case "integer", "int", "long" -> check("type", value -> isInteger(value) ? null : "Not an integer");
+            case "decimal", "number", "double" -> check("type", value -> isDecimal(value) ? null : "Not a decimal");
+            case "boolean" -> check("type", value -> isBoolean(value) ? null : "Not a boolean");
+            case "date" -> check("type", value -> isDate(value) ? null : "Not a date (yyyy-MM-dd)");
+            default -> throw new IOException("Unknown validation type: " + type);
+        };
+    }
+
+    /** Matchers are per thread, since plans are shared; resetting one allocates nothing. */
+    private static Check patternCheck(Pattern pattern) {
+        ThreadLocal<Matcher> matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        return check("pattern", value -> matchers.get().reset(value).matches() ? null : "Does not match " + pattern.pattern());
+    }
+
+    private static Check check(String rule, Function<String, String> violation) {
+        return new Check() {
+            @Override
+            public String rule() {
+                return rule;
+            }
+
+            @Override
+            public String violation(String value) {
+                return violation.apply(value);
+            }
+        };
+    }
+
+    static boolean isTrue(String value) {
+        return value != null && (value.strip().equalsIgnoreCase("true") || value.strip().equals("1") || value.strip().equalsIgnoreCase("yes"));
+    }
+
+    // --- Scanners: the value's surrounding whitespace is ignored, nothing is allocated ---
+
+    private static int start(String value) {
+        int start = 0;
+        while (start < value.length() && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int end(String value, int start) {
+        int end = value.length();
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    static boolean isInteger(String value) {
+        int i = start(value);
+        int end = end(value, i);
+        if (i < end && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+        for (; i < end; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** What {@link BigDecimal#BigDecimal(String)} accepts: sign, digits with an optional point, optional exponent. */
+    static boolean isDecimal(String value) {
+        int i = start(value);
+        int end = end(value, i);
+        if (i < end && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+            i++;
+        }
+        int digits = 0;
+        boolean point = false;
+        for (; i < end; i++) {
+            char c = value.charAt(i);
+            if (isDigit(c)) {
+                digits++;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < end && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            for (; i < end && isDigit(value.charAt(i)); i++) {
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+        return i == end;
+    }
+
+    private static boolean isBoolean(String value) {
+        int start = start(value);
+        int length = end(value, start) - start;
+        return (length == 4 && value.regionMatches(true, start, "true", 0, 4))
+            || (length == 5 && value.regionMatches(true, start, "false", 0, 5));
+    }
+
+    /** An ISO date (yyyy-MM-dd) that exists in the calendar. */
+    static boolean isDate(String value) {
+        int s = start(value);
+        if (end(value, s) - s != 10 || value.charAt(s + 4) != '-' || value.charAt(s + 7) != '-') {
+            return false;
+        }
+        int year = digits(value, s, 4);
+        int month = digits(value, s + 5, 2);
+        int day = digits(value, s + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > DAYS_IN_MONTH[month - 1]) {
+            return false;
+        }
+        return month != 2 || day < 29 || (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0));
+    }
+
+    /** The number in {@code length} digits from {@code from}, or -1. */
+    private static int digits(String value, int from, int length) {
+        int number = 0;
+        for (int i = from; i < from + length; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * A numeric bound, compared against plain decimal values of up to 18 digits as scaled longs. Longer values and
+     * exponents fall back to {@link BigDecimal}.
+     */
+    private static final class Bound {
+        private final BigDecimal value;
+        private final String text;
+        private final boolean exact;
+        private final long unscaled;
+        private final int scale;
+
+        Bound(BigDecimal bound) {
+            this.value = bound;
+            this.text = bound.toPlainString();
+            BigDecimal normalized = bound.scale() < 0 ? bound.setScale(0) : bound;
+            this.exact = normalized.precision() <= 18 && normalized.scale() <= 18;
+            this.unscaled = exact ? normalized.unscaledValue().longValue() : 0;
+            this.scale = exact ? normalized.scale() : 0;
+        }
+
+        /** Sign of {@code bound - decimal}; the decimal must pass {@link ValidationRule#isDecimal}. */
+        int compareTo(String decimal) {
+            if (exact) {
+                int i = start(decimal);
+                int end = end(decimal, i);
+                boolean negative = decimal.charAt(i) == '-';
+                if (decimal.charAt(i) == '+' || negative) {
+                    i++;
+                }
+                long number = 0;
+                int significantDigits = 0;
+                int decimalScale = 0;
+                boolean point = false;
+                for (; i < end; i++) {
+                    char c = decimal.charAt(i);
+                    if (c == '.') {
+                        point = true;
+                        continue;
+                    }
+                    if (!isDigit(c)) {
+                        break;
+                    }
+                    if (number != 0 || c != '0') {
+                        significantDigits++;
+                    }
+                    number = number * 10 + (c - '0');
+                    if (point) {
+                        decimalScale++;
+                    }
+                }
+                if (i == end && significantDigits <= 18 && decimalScale <= 18) {
+                    return compareScaled(unscaled, scale, negative ? -number : number, decimalScale);
+                }
+            }
+            return value.compareTo(new BigDecimal(decimal.strip()));
+        }
+
+        /** Sign of {@code left - right} for two scaled longs with scales of at most 18. */
+        private static int compareScaled(long left, int leftScale, long right, int rightScale) {
+            if (leftScale < rightScale) {
+                return -compareScaled(right, rightScale, left, leftScale);
+            }
+            long factor = POWERS_OF_TEN[leftScale - rightScale];
+            long high = Math.multiplyHigh(right, factor);
+            long scaled = right * factor;
+            if ((high == 0 && scaled >= 0) || (high == -1 && scaled < 0)) {
+                return Long.compare(left, scaled);
+            }
+            // right * factor exceeds the long range, so its magnitude is beyond any long on the left.
+            return -Long.signum(right);
+        }
+    }
+}
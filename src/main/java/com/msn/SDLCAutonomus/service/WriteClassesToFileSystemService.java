@@ -29,25 +29,28 @@ public class WriteClassesToFileSystemService {
 
     
     // --- Constants for File System and Git ---
-    private static final String AI_STATE_DIR = ".ai-state";
-    private static final String JIRA_STATE_FILE_NAME = "jira_issue.txt";
     private static final String CHANGELOG_FILE_NAME = "AI_CHANGELOG.md";
+
+    /** Dependencies of a project the DependencyAgent returned none for. */
+    static final List<String> DEFAULT_DEPENDENCIES = List.of(
+        "org.springframework.boot:spring-boot-starter-web",
+        "org.springframework.boot:spring-boot-starter-data-jpa",
+        "org.postgresql:postgresql:runtime",
+        "org.projectlombok:lombok:optional"
+    );
     
     private final CodeMergeAgent codeMergeAgent;
+    private final AiStateStore aiStateStore;
+    private final PipelineProfiler pipelineProfiler;
+    private final PomService pomService;
 
 
-    public void generateProjectFiles(String repoName, WorkflowResult result, String srsContent, String changeAnalysis, ProjectConfig projectConfig, String featureBranch) {
-        writeClassesToFileSystem(result.getCodeAndTestOutput(), repoName);
+    public void generateProjectFiles(String repoName, WorkflowResult result, String issueKey, String srsContent, String changeAnalysis, ProjectConfig projectConfig, String featureBranch) {
+        List<String> generatedFiles = new ArrayList<>(writeClassesToFileSystem(result.getCodeAndTestOutput(), repoName));
 
         if (result.getDependencyList().isEmpty()) {
             log.warn("⚠️ DependencyAgent did not return any dependencies. Falling back to default pom.xml.");
-            List<String> defaultDeps = List.of(
-                "org.springframework.boot:spring-boot-starter-web",
-                "org.springframework.boot:spring-boot-starter-data-jpa",
-                "org.postgresql:postgresql:runtime",
-                "org.projectlombok:lombok:optional"
-            );
-            addPomXml(repoName, defaultDeps, projectConfig);
+            addPomXml(repoName, DEFAULT_DEPENDENCIES, projectConfig);
         } else {
             addPomXml(repoName, result.getDependencyList(), projectConfig);
         }
@@ -61,17 +64,28 @@ public class WriteClassesToFileSystemService {
             readmeContent.append("- `").append(dep).append("`\n");
         }
 
-        // Append to changelog, state file, and README to keep a running history.
+        // Append to changelog and README to keep a running, human-readable history.
         appendContentWithMetadata(Paths.get(repoName, CHANGELOG_FILE_NAME), changeAnalysis, featureBranch);
-        appendContentWithMetadata(Paths.get(repoName, AI_STATE_DIR, JIRA_STATE_FILE_NAME), srsContent, featureBranch);
         appendContentWithMetadata(Paths.get(repoName, "README.md"), readmeContent.toString(), featureBranch);
 
         addApplicationYml(repoName);
         addGithubActionsCiConfig(repoName);
+        generatedFiles.addAll(List.of("pom.xml", "src/main/resources/application.yml", ".github/workflows/ci.yml"));
+
+        // --- NEW: One indexed record per run replaces the append-only .ai-state/jira_issue.txt ---
+        try {
+            aiStateStore.appendRun(repoName, issueKey, featureBranch, srsContent, changeAnalysis, generatedFiles);
+        } catch (IOException e) {
+            log.error("❌ Failed to record the run in .ai-state: {}", e.getMessage());
+        }
     }
 
 
-    public void writeClassesToFileSystem(String combinedOutput, String baseDir) {
+    /**
+     * Applies the file markers in the agent output and returns the relative paths that were written.
+     */
+    public List<String> writeClassesToFileSystem(String combinedOutput, String baseDir) {
+        List<String> writtenFiles = new ArrayList<>();
         // Regex to capture the action (Create/Modify), file path, and the code block.
         // It looks for a marker like "// Create File: " or "// Modify File: "
         Pattern pattern = Pattern.compile("// (Create File|Modify File|Refactored File): ([^\\n]+)\\s*\\n(.*?)(?=\\n// (?:Create|Modify|Refactored) File:|$)", Pattern.DOTALL);
@@ -109,6 +123,7 @@ public class WriteClassesToFileSystemService {
                     Files.createDirectories(filePath.getParent());
                     Files.writeString(filePath, content, StandardCharsets.UTF_8);
                     log.info("✅ Created: {}", filePath);
+                    writtenFiles.add(relativePath);
                 } catch (IOException e) {
                     log.error("❌ Failed to write new file: {} - {}", filePath, e.getMessage());
                 }
@@ -119,6 +134,7 @@ public class WriteClassesToFileSystemService {
                         Files.createDirectories(filePath.getParent());
                         Files.writeString(filePath, content, StandardCharsets.UTF_8);
                         log.info("✅ Created (as fallback): {}", filePath);
+                        writtenFiles.add(relativePath);
                     } catch (IOException e) {
                         log.error("❌ Failed to write fallback file: {} - {}", filePath, e.getMessage());
                     }
@@ -130,10 +146,14 @@ public class WriteClassesToFileSystemService {
                     String newJavaCode = content;               
 
                     // Run the merge agent to combine existing code with the new snippet.
-                    String mergedCode = filteredContent(codeMergeAgent.runCodeMergeAgent(existingCode, newJavaCode));
+                    String mergedCode;
+                    try (PipelineProfiler.Stage stage = pipelineProfiler.stage("merge")) {
+                        mergedCode = filteredContent(codeMergeAgent.runCodeMergeAgent(existingCode, newJavaCode));
+                    }
                     System.out.println("mergedCode: " + mergedCode);
                     Files.writeString(filePath, mergedCode, StandardCharsets.UTF_8); // Overwrite with merged content
                     log.info("✅ Merged and updated: {}", filePath);
+                    writtenFiles.add(relativePath);
 
             } catch (IOException e) {
                     log.error("❌ Failed to read or write modified file: {} - {}", filePath, e.getMessage());
@@ -147,15 +167,17 @@ public class WriteClassesToFileSystemService {
                     Files.createDirectories(filePath.getParent());
                     Files.writeString(filePath, content, StandardCharsets.UTF_8);
                     log.info("✅ Refactored and Created New File: {}", filePath);
+                    writtenFiles.add(relativePath);
                 } catch (IOException e) {
                     log.error("❌ Failed to refactor/write file: {} - {}", filePath, e.getMessage());
                 }
             }
         }
+        return writtenFiles;
     }
 
 
-    private String filteredContent(String rawContent) {
+    static String filteredContent(String rawContent) {
         // Always wrap rawContent in ```java ... ``` if not already present
         String content = "";
 
@@ -172,7 +194,27 @@ public class WriteClassesToFileSystemService {
     }
 
     private void addPomXml(String baseDir, List<String> dependencies, ProjectConfig projectConfig) {
-        StringBuilder dependenciesXml = new StringBuilder();
+        boolean xmlPojos = Files.isDirectory(Paths.get(baseDir, "src/main/java", PojoGeneratorService.GENERATED_PACKAGE.replace('.', '/')));
+        List<String> managedDependencies = managedDependencies(dependencies, xmlPojos);
+
+        // --- NEW: Merge into the existing pom.xml instead of regenerating it, so its plugins and properties survive ---
+        // The merged list is the full set of dependencies; the parent version and java.version follow the project config.
+        Path pomPath = Paths.get(baseDir, "pom.xml");
+        try {
+            boolean exists = Files.exists(pomPath);
+            String pom = exists ? Files.readString(pomPath, StandardCharsets.UTF_8) : newPom(projectConfig);
+            Files.writeString(pomPath, pomService.mergeDependencies(pom, managedDependencies, projectConfig), StandardCharsets.UTF_8);
+            log.info(exists ? "✅ Updated: pom.xml" : "✅ Created: pom.xml");
+        } catch (IOException e) {
+            log.error("❌ Failed to write pom.xml: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * The given dependencies plus the ones every generated project gets; {@code xmlPojos} adds what the
+     * generated XML POJOs need.
+     */
+    static List<String> managedDependencies(List<String> dependencies, boolean xmlPojos) {
         List<String> managedDependencies = new ArrayList<>(dependencies);
 
         // --- Resilient Dependency Management ---
@@ -182,35 +224,21 @@ public class WriteClassesToFileSystemService {
         enforceDependency(managedDependencies, "org.springdoc:springdoc-openapi-starter-webmvc-ui:2.5.0");
         // Always ensure the test starter is present.
         addDependencyIfNotExists(managedDependencies, "org.springframework.boot:spring-boot-starter-test:test");
-
-
-        for (String dep : managedDependencies) {
-            String[] parts = dep.split(":");
-            if (parts.length < 2) continue; // Skip invalid lines
-
-                String groupId = parts[0].trim();
-                String artifactId = parts[1].trim();
-            String version = (parts.length > 2 && !parts[2].matches("compile|runtime|test|optional")) ? parts[2].trim() : null;
-            String scope = (parts.length > 2 && version == null) ? parts[2].trim() :
-                           (parts.length > 3) ? parts[3].trim() : null;
-
-                dependenciesXml.append("        <dependency>\n");
-                dependenciesXml.append(String.format("            <groupId>%s</groupId>\n", groupId));
-                dependenciesXml.append(String.format("            <artifactId>%s</artifactId>\n", artifactId));
-
-            if (version != null) {
-                dependenciesXml.append(String.format("            <version>%s</version>\n", version));
-            }
-
-                if ("optional".equalsIgnoreCase(scope)) {
-                    dependenciesXml.append("            <optional>true</optional>\n");
-                } else if (scope != null && !scope.equalsIgnoreCase("compile")) {
-                    dependenciesXml.append(String.format("            <scope>%s</scope>\n", scope));
-                }
-                dependenciesXml.append("        </dependency>\n");
+        // Logging with SLF4J and Logback, which the project template always declared.
+        addDependencyIfNotExists(managedDependencies, "org.slf4j:slf4j-api");
+        addDependencyIfNotExists(managedDependencies, "ch.qos.logback:logback-classic");
+        // Generated XML POJOs need Jackson XML and Lombok.
+        if (xmlPojos) {
+            PojoGeneratorService.REQUIRED_DEPENDENCIES.forEach(dependency -> addDependencyIfNotExists(managedDependencies, dependency));
         }
+        return managedDependencies;
+    }
 
-        String pom = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+    /**
+     * The POM of a new project, before the agent's dependencies are merged in.
+     */
+    static String newPom(ProjectConfig projectConfig) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
             + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n"
             + "    xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 https://maven.apache.org/xsd/maven-4.0.0.xsd\">\n"
             + "    <modelVersion>4.0.0</modelVersion>\n"
@@ -229,7 +257,6 @@ public class WriteClassesToFileSystemService {
             + "        <java.version>" + projectConfig.getJavaVersion() + "</java.version>\n"
             + "    </properties>\n"
             + "    <dependencies>\n"
-            + dependenciesXml.toString()
             + "        <!-- Logging dependencies for SLF4J with Logback -->\n"
             + "        <dependency>\n"
             + "            <groupId>org.slf4j</groupId>\n"
@@ -269,13 +296,6 @@ public class WriteClassesToFileSystemService {
             + "    </repositories>\n"
             + "\n"
             + "</project>\n";
-
-        try {
-            Files.writeString(Paths.get(baseDir, "pom.xml"), pom);
-            log.info("✅ Created: pom.xml");
-        } catch (IOException e) {
-            log.error("❌ Failed to write pom.xml: {}", e.getMessage());
-        }
     }
 
 
@@ -0,0 +1,468 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.transform.Source;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+
+import org.springframework.stereotype.Service;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+import com.msn.SDLCAutonomus.model.XmlStreamValidationResult;
+import com.msn.SDLCAutonomus.model.XmlStructureSummary;
+import com.msn.SDLCAutonomus.model.XmlValidationError;
+import com.msn.SDLCAutonomus.model.XmlValidationResult;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Validates XML against generated XSDs without recompiling the schema on every call.
+ *
+ * <p>Compiled {@link Schema}s are thread-safe and cached by the SHA-256 of the XSD text. {@link Validator}s are
+ * not, and are cheap next to the compilation, so each document gets its own.
+ *
+ * <p>Neither the XSD nor a document may read external DTDs, entities or schemas: both come from the LLM or an
+ * upload, and resolving them would let either read local files or make the server fetch URLs.
+ *
+ * <p>{@link #validateStream} reads large documents through StAX in constant memory, collects the first errors
+ * with their positions instead of failing on the first one, and summarises the document structure in the same pass.
+ */
+@Service
+@Slf4j
+public class XmlValidationService {
+
+    private static final int MAX_CACHED_SCHEMAS = 32;
+    private static final int SAMPLE_VALUE_LENGTH = 64;
+    private static final int MAX_ATTRIBUTES_PER_PATH = 32;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private static final XMLInputFactory STAX = secureInputFactory();
+
+    private final Map<String, CompiledSchema> schemas = new ConcurrentHashMap<>();
+    private final ExecutorService validationPool;
+
+    private static final class CompiledSchema {
+        private final Schema schema;
+
+        private CompiledSchema(Schema schema) {
+            this.schema = schema;
+        }
+
+        /**
+         * A new validator per document: with external access restricted, a reused one fails its next StAX
+         * validation with a NullPointerException inside the JDK parser.
+         */
+        private Validator validator() throws SAXException {
+            Validator validator = schema.newValidator();
+            validator.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            validator.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+            return validator;
+        }
+    }
+
+    public XmlValidationService() {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.validationPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "xml-validation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        validationPool.shutdownNow();
+    }
+
+
+    /**
+     * Returns the compiled schema for this XSD, compiling it only the first time it is seen.
+     */
+    public Schema getSchema(String xsdContent) throws SAXException {
+        return compiledSchema(xsdContent).schema;
+    }
+
+    /**
+     * Validates one document. A {@link StreamSource} with a stream or reader is parsed by {@link #secureInputFactory()},
+     * as in {@link #validateStream}, so a DOCTYPE is not read at all.
+     */
+    public void validate(Source xmlSource, String xsdContent) throws IOException, SAXException {
+        Validator validator = compiledSchema(xsdContent).validator();
+        if (xmlSource instanceof StreamSource stream && (stream.getInputStream() != null || stream.getReader() != null)) {
+            validateSecurely(validator, stream);
+        } else {
+            validator.validate(xmlSource);
+        }
+    }
+
+    /**
+     * Validates every file against the same XSD in parallel, one task per document on a pool sized to the
+     * number of cores. The schema is compiled once; an invalid document does not stop the others.
+     *
+     * @return one result per file, in the order given
+     * @throws SAXException if the XSD itself does not compile
+     */
+    public List<XmlValidationResult> validateAll(List<Path> xmlFiles, String xsdContent) throws SAXException, InterruptedException {
+        CompiledSchema compiled = compiledSchema(xsdContent);
+        long start = System.nanoTime();
+
+        List<Callable<XmlValidationResult>> tasks = new ArrayList<>();
+        for (Path xmlFile : xmlFiles) {
+            tasks.add(() -> {
+                try {
+                    try (InputStream in = new BufferedInputStream(Files.newInputStream(xmlFile), STREAM_BUFFER_SIZE)) {
+                        validateSecurely(compiled.validator(), new StreamSource(in, xmlFile.toUri().toString()));
+                    }
+                    return new XmlValidationResult(xmlFile.toString(), true, null);
+                } catch (SAXException | IOException e) {
+                    return new XmlValidationResult(xmlFile.toString(), false, e.getMessage());
+                }
+            });
+        }
+
+        List<XmlValidationResult> results = new ArrayList<>();
+        for (Future<XmlValidationResult> future : validationPool.invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("XML validation task failed", e.getCause());
+            }
+        }
+
+        long invalid = results.stream().filter(result -> !result.isValid()).count();
+        log.info("✅ Validated {} XML documents in {} ms ({} invalid).", results.size(), (System.nanoTime() - start) / 1_000_000, invalid);
+        return results;
+    }
+
+    /**
+     * Validates an XML file as a StAX stream; the document is never held in memory as a whole.
+     *
+     * @param maxErrors validation stops once this many errors have been collected
+     * @param maxSummaryPaths distinct element paths kept in the structural summary
+     * @throws SAXException if the XSD itself does not compile
+     */
+    public XmlStreamValidationResult validateStream(Path xmlFile, String xsdContent, int maxErrors, int maxSummaryPaths) throws IOException, SAXException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(xmlFile), STREAM_BUFFER_SIZE)) {
+            return validateStream(in, xmlFile.toUri().toString(), xsdContent, maxErrors, maxSummaryPaths);
+        }
+    }
+
+    /**
+     * Same as {@link #validateStream(Path, String, int, int)} for a stream the caller owns and closes.
+     */
+    public XmlStreamValidationResult validateStream(InputStream xml, String systemId, String xsdContent, int maxErrors, int maxSummaryPaths) throws IOException, SAXException {
+        CompiledSchema compiled = compiledSchema(xsdContent);
+        long start = System.nanoTime();
+        CollectingErrorHandler errors = new CollectingErrorHandler(Math.max(1, maxErrors));
+        XmlStructureSummary summary = new XmlStructureSummary();
+
+        XMLStreamReader reader;
+        try {
+            reader = STAX.createXMLStreamReader(systemId, xml);
+        } catch (XMLStreamException e) {
+            errors.add(toError(e));
+            summary.setComplete(false);
+            return new XmlStreamValidationResult(false, errors.errors, false, summary);
+        }
+
+        SummarizingReader summarizingReader = new SummarizingReader(reader, summary, maxSummaryPaths);
+        Validator validator = compiled.validator();
+        validator.setErrorHandler(errors);
+        try {
+            validator.validate(new StAXSource(summarizingReader));
+        } catch (SAXException e) {
+            // Hitting the error limit surfaces here wrapped by the StAX bridge. Fatal errors (e.g. malformed XML)
+            // also end the pass; the handler may already have recorded them.
+            if (!errors.limitReached) {
+                XmlValidationError error = toError(e);
+                if (!errors.errors.contains(error)) {
+                    errors.add(error);
+                }
+            }
+            summary.setComplete(false);
+        } finally {
+            validator.setErrorHandler(null);
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                log.debug("Could not close XML stream reader: {}", e.getMessage());
+            }
+        }
+
+        boolean valid = errors.errors.isEmpty();
+        log.info("{} Streamed {} elements of {} in {} ms ({} errors{}).", valid ? "✅" : "❌", summary.getElementCount(), systemId,
+            (System.nanoTime() - start) / 1_000_000, errors.errors.size(), errors.limitReached ? ", limit reached" : "");
+        return new XmlStreamValidationResult(valid, errors.errors, errors.limitReached, summary);
+    }
+
+    /**
+     * Renders a structural summary as a compact indented outline, one line per element path.
+     */
+    public String formatSummary(XmlStructureSummary summary) {
+        StringBuilder outline = new StringBuilder();
+        outline.append("root ").append(summary.getRootElement()).append(", ").append(summary.getElementCount())
+            .append(" elements, max depth ").append(summary.getMaxDepth())
+            .append(summary.isComplete() ? "" : " (partial)").append('\n');
+        summary.getPaths().forEach((path, stats) -> {
+            int depth = (int) path.chars().filter(c -> c == '/').count() - 1;
+            outline.append("  ".repeat(depth)).append(path.substring(path.lastIndexOf('/') + 1));
+            if (stats.getMaxPerParent() > 1) {
+                outline.append("[]");
+            }
+            if (!stats.getAttributes().isEmpty()) {
+                outline.append(" @").append(String.join(" @", stats.getAttributes()));
+            }
+            outline.append(" x").append(stats.getOccurrences());
+            if (stats.getMaxPerParent() > 1) {
+                outline.append(" (up to ").append(stats.getMaxPerParent()).append(" per parent)");
+            }
+            if (!stats.isHasChildren() && stats.getSampleValue() != null) {
+                outline.append(" = \"").append(stats.getSampleValue()).append('"');
+            }
+            outline.append('\n');
+        });
+        return outline.toString();
+    }
+
+    private static void validateSecurely(Validator validator, StreamSource source) throws IOException, SAXException {
+        XMLStreamReader reader;
+        try {
+            reader = source.getReader() != null
+                ? STAX.createXMLStreamReader(source.getSystemId(), source.getReader())
+                : STAX.createXMLStreamReader(source.getSystemId(), source.getInputStream());
+        } catch (XMLStreamException e) {
+            throw toParseException(e, source.getSystemId());
+        }
+        try {
+            validator.validate(new StAXSource(reader));
+        } catch (SAXException e) {
+            // The StAX bridge wraps the failure twice; report it the way the stream parser would have.
+            throw toParseException(e, source.getSystemId());
+        } finally {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                log.debug("Could not close XML stream reader: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static SAXParseException toParseException(Exception failure, String systemId) {
+        XmlValidationError error = toError(failure);
+        return new SAXParseException(error.getMessage(), null, systemId, error.getLine(), error.getColumn(), failure);
+    }
+
+    static XMLInputFactory secureInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static XmlValidationError toError(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SAXParseException parse) {
+                return new XmlValidationError(parse.getLineNumber(), parse.getColumnNumber(), parse.getMessage());
+            }
+            if (cause instanceof XMLStreamException stream && stream.getLocation() != null) {
+                Location location = stream.getLocation();
+                // The JDK parser prefixes the message with "ParseError at [row,col]:[..]\nMessage: ".
+                String message = stream.getMessage();
+                int detail = message.indexOf("Message: ");
+                return new XmlValidationError(location.getLineNumber(), location.getColumnNumber(), detail >= 0 ? message.substring(detail + 9) : message);
+            }
+        }
+        return new XmlValidationError(-1, -1, failure.getMessage());
+    }
+
+    /**
+     * Collects errors up to the limit, then aborts the pass; warnings are only logged.
+     */
+    private static final class CollectingErrorHandler implements ErrorHandler {
+        private final int limit;
+        private final List<XmlValidationError> errors = new ArrayList<>();
+        private boolean limitReached;
+
+        private CollectingErrorHandler(int limit) {
+            this.limit = limit;
+        }
+
+        private void add(XmlValidationError error) {
+            errors.add(error);
+        }
+
+        @Override
+        public void warning(SAXParseException exception) {
+            log.debug("XML validation warning at {}:{}: {}", exception.getLineNumber(), exception.getColumnNumber(), exception.getMessage());
+        }
+
+        @Override
+        public void error(SAXParseException exception) throws SAXException {
+            errors.add(toError(exception));
+            if (errors.size() >= limit) {
+                limitReached = true;
+                throw new SAXException("Stopped after " + limit + " validation errors");
+            }
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) throws SAXException {
+            errors.add(toError(exception));
+            throw exception;
+        }
+    }
+
+    /**
+     * Passes every event through to the validator and records the element structure on the way.
+     * Memory is bounded by the number of distinct paths and the nesting depth, not by the document size.
+     */
+    private static final class SummarizingReader extends StreamReaderDelegate {
+        private final XmlStructureSummary summary;
+        private final int maxPaths;
+        private final Deque<Frame> open = new ArrayDeque<>();
+
+        private static final class Frame {
+            private final String path;
+            private final XmlStructureSummary.PathStats stats;
+            private final Map<String, Integer> childCounts = new HashMap<>();
+            private StringBuilder text;
+
+            private Frame(String path, XmlStructureSummary.PathStats stats) {
+                this.path = path;
+                this.stats = stats;
+                if (stats != null && stats.getSampleValue() == null) {
+                    this.text = new StringBuilder();
+                }
+            }
+        }
+
+        private SummarizingReader(XMLStreamReader reader, XmlStructureSummary summary, int maxPaths) {
+            super(reader);
+            this.summary = summary;
+            this.maxPaths = maxPaths;
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+            int event = super.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> startElement();
+                case XMLStreamConstants.END_ELEMENT -> endElement();
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> text();
+                default -> { }
+            }
+            return event;
+        }
+
+        private void startElement() {
+            String name = getLocalName();
+            Frame parent = open.peek();
+            String path = (parent == null ? "" : parent.path) + "/" + name;
+            if (parent == null) {
+                summary.setRootElement(name);
+            }
+
+            XmlStructureSummary.PathStats stats = summary.getPaths().get(path);
+            if (stats == null) {
+                if (summary.getPaths().size() < maxPaths) {
+                    stats = new XmlStructureSummary.PathStats();
+                    summary.getPaths().put(path, stats);
+                } else {
+                    summary.setComplete(false);
+                }
+            }
+            if (stats != null) {
+                stats.setOccurrences(stats.getOccurrences() + 1);
+                for (int i = 0; i < getAttributeCount() && stats.getAttributes().size() < MAX_ATTRIBUTES_PER_PATH; i++) {
+                    stats.getAttributes().add(getAttributeLocalName(i));
+                }
+            }
+            if (parent != null) {
+                int siblings = parent.childCounts.merge(name, 1, Integer::sum);
+                if (stats != null && siblings > stats.getMaxPerParent()) {
+                    stats.setMaxPerParent(siblings);
+                }
+                if (parent.stats != null) {
+                    parent.stats.setHasChildren(true);
+                }
+            } else if (stats != null) {
+                stats.setMaxPerParent(1);
+            }
+
+            open.push(new Frame(path, stats));
+            summary.setElementCount(summary.getElementCount() + 1);
+            summary.setMaxDepth(Math.max(summary.getMaxDepth(), open.size()));
+        }
+
+        private void text() {
+            Frame frame = open.peek();
+            if (frame == null || frame.text == null || frame.text.length() >= SAMPLE_VALUE_LENGTH || isWhiteSpace()) {
+                return;
+            }
+            int length = Math.min(getTextLength(), SAMPLE_VALUE_LENGTH - frame.text.length());
+            frame.text.append(getTextCharacters(), getTextStart(), length);
+        }
+
+        private void endElement() {
+            Frame frame = open.pop();
+            if (frame.text != null && frame.stats.getSampleValue() == null) {
+                String value = frame.text.toString().strip();
+                if (!value.isEmpty()) {
+                    frame.stats.setSampleValue(value);
+                }
+            }
+        }
+    }
+
+    private CompiledSchema compiledSchema(String xsdContent) throws SAXException {
+        String key = UtilityService.sha256Hex(xsdContent);
+        CompiledSchema cached = schemas.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        log.debug("Compiling XSD ({} chars, sha256 {})", xsdContent.length(), key);
+        // SchemaFactory is not thread-safe, so each compilation gets its own.
+        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+        CompiledSchema compiled = new CompiledSchema(factory.newSchema(new StreamSource(new StringReader(xsdContent))));
+        if (schemas.size() >= MAX_CACHED_SCHEMAS) {
+            schemas.clear();
+        }
+        CompiledSchema existing = schemas.putIfAbsent(key, compiled);
+        return existing != null ? existing : compiled;
+    }
+}
@@ -0,0 +1,585 @@
+package com.msn.SDLCAutonomus.service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.springframework.stereotype.Service;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import com.msn.SDLCAutonomus.model.InferredXmlElement;
+import com.msn.SDLCAutonomus.model.InferredXmlElement.ValueType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Infers an XSD from sample XML documents in a single streaming pass per document.
+ *
+ * <p>Every element path becomes a local element declaration. Occurrence bounds come from how often a child
+ * appeared under each parent instance (more than once means {@code unbounded}, missing once means
+ * {@code minOccurs="0"}); leaf and attribute values are classified as boolean, int, decimal, date, dateTime
+ * or string and widened across all samples. Several samples merge into one schema.
+ *
+ * <p>{@link #fromXsd} reads an existing XSD into the same model, so code generation works from either.
+ */
+@Service
+@Slf4j
+public class XsdInferenceService {
+
+    private static final int MAX_CLASSIFIED_VALUE_LENGTH = 64;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private static final Pattern INTEGER = Pattern.compile("[+-]?\\d+");
+    private static final Pattern DECIMAL = Pattern.compile("[+-]?(\\d+\\.\\d*|\\.\\d+)");
+    private static final Pattern DATE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+
+    private static final XMLInputFactory STAX = XmlValidationService.secureInputFactory();
+
+    /** Mutable inference state per element path; converted to {@link InferredXmlElement} at the end. */
+    private static final class PathNode {
+        private final String name;
+        private final String namespace;
+        private final List<PathNode> children = new ArrayList<>();
+        private final Map<String, AttributeStats> attributes = new LinkedHashMap<>();
+        private long instances;
+        private int minOccurs = Integer.MAX_VALUE;
+        private int maxOccurs;
+        private ValueType type;
+        private boolean emptySeen;
+        private boolean unordered;
+        private boolean mixed;
+
+        private PathNode(String name, String namespace) {
+            this.name = name;
+            this.namespace = namespace;
+        }
+
+        private int indexOf(String childName) {
+            for (int i = 0; i < children.size(); i++) {
+                if (children.get(i).name.equals(childName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final class AttributeStats {
+        private ValueType type;
+        private long count;
+    }
+
+    /** One open element instance while streaming. */
+    private static final class Frame {
+        private final PathNode node;
+        private final Map<PathNode, Integer> childCounts = new HashMap<>();
+        private final StringBuilder text = new StringBuilder();
+        private int lastChildIndex = -1;
+        private boolean textOverflow;
+
+        private Frame(PathNode node) {
+            this.node = node;
+        }
+    }
+
+    /**
+     * Infers one declaration per distinct root element from the given files, merged across all of them.
+     */
+    public List<InferredXmlElement> infer(List<Path> samples) throws IOException {
+        long start = System.nanoTime();
+        Map<String, PathNode> roots = new LinkedHashMap<>();
+        for (Path sample : samples) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(sample), STREAM_BUFFER_SIZE)) {
+                XMLStreamReader reader = STAX.createXMLStreamReader(sample.toUri().toString(), in);
+                read(reader, roots);
+            } catch (XMLStreamException e) {
+                throw new IOException("Could not infer a schema from " + sample.getFileName() + ": " + e.getMessage(), e);
+            }
+        }
+        List<InferredXmlElement> result = roots.values().stream().map(XsdInferenceService::toElement).toList();
+        log.info("✅ Inferred schema for {} from {} sample(s) in {} ms.", roots.keySet(), samples.size(), (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    /**
+     * Same as {@link #infer(List)} for a single document held in memory.
+     */
+    public List<InferredXmlElement> infer(String xmlContent) throws IOException {
+        Map<String, PathNode> roots = new LinkedHashMap<>();
+        try {
+            read(STAX.createXMLStreamReader(new StringReader(xmlContent)), roots);
+        } catch (XMLStreamException e) {
+            throw new IOException("Could not infer a schema from the XML content: " + e.getMessage(), e);
+        }
+        return roots.values().stream().map(XsdInferenceService::toElement).toList();
+    }
+
+    public String inferXsd(List<Path> samples) throws IOException {
+        return toXsd(infer(samples));
+    }
+
+    /**
+     * Renders the declarations as a self-contained XSD with nested anonymous types. The target namespace is
+     * taken from the first root element.
+     */
+    public String toXsd(List<InferredXmlElement> roots) {
+        String namespace = roots.isEmpty() ? "" : roots.get(0).getNamespace();
+        StringBuilder xsd = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xsd.append("<xs:schema xmlns:xs=\"").append(XMLConstants.W3C_XML_SCHEMA_NS_URI).append('"');
+        if (namespace != null && !namespace.isEmpty()) {
+            xsd.append(" targetNamespace=\"").append(escape(namespace)).append("\" xmlns=\"").append(escape(namespace)).append('"');
+        }
+        xsd.append(" elementFormDefault=\"qualified\">\n");
+        for (InferredXmlElement root : roots) {
+            appendElement(xsd, root, 1, false);
+        }
+        return xsd.append("</xs:schema>\n").toString();
+    }
+
+    /**
+     * Reads the element declarations of an XSD: global elements that no other element references become roots.
+     * Supports nested and named types, element references, sequence/choice/all groups, simple content and
+     * complex content extension, which covers the schemas inferred here and typical hand-written ones.
+     */
+    public List<InferredXmlElement> fromXsd(String xsdContent) throws IOException {
+        Document document;
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xsdContent)));
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Could not read the XSD: " + e.getMessage(), e);
+        }
+        return new XsdReader(document.getDocumentElement()).roots();
+    }
+
+    /** Walks one parsed schema document. */
+    private static final class XsdReader {
+        private final Element schema;
+        private final String targetNamespace;
+        private final boolean qualified;
+        private final Map<String, Element> elements = new LinkedHashMap<>();
+        private final Map<String, Element> types = new HashMap<>();
+        private final Set<String> expanding = new HashSet<>();
+
+        private XsdReader(Element schema) {
+            this.schema = schema;
+            this.targetNamespace = schema.getAttribute("targetNamespace");
+            this.qualified = "qualified".equals(schema.getAttribute("elementFormDefault"));
+            for (Element child : children(schema)) {
+                switch (child.getLocalName()) {
+                    case "element" -> elements.put(child.getAttribute("name"), child);
+                    case "complexType", "simpleType" -> types.put(child.getAttribute("name"), child);
+                    default -> { }
+                }
+            }
+        }
+
+        private List<InferredXmlElement> roots() {
+            Set<String> referenced = new HashSet<>();
+            collectReferences(schema, referenced);
+            List<InferredXmlElement> roots = new ArrayList<>();
+            elements.forEach((name, declaration) -> {
+                if (!referenced.contains(name)) {
+                    roots.add(element(declaration, true));
+                }
+            });
+            if (roots.isEmpty()) {
+                elements.values().forEach(declaration -> roots.add(element(declaration, true)));
+            }
+            return roots;
+        }
+
+        private void collectReferences(Element parent, Set<String> referenced) {
+            for (Element child : children(parent)) {
+                if ("element".equals(child.getLocalName()) && child.hasAttribute("ref")) {
+                    referenced.add(localPart(child.getAttribute("ref")));
+                }
+                collectReferences(child, referenced);
+            }
+        }
+
+        private InferredXmlElement element(Element declaration, boolean global) {
+            Element definition = declaration.hasAttribute("ref") ? elements.get(localPart(declaration.getAttribute("ref"))) : declaration;
+            InferredXmlElement element = new InferredXmlElement();
+            element.setName(definition != null ? definition.getAttribute("name") : localPart(declaration.getAttribute("ref")));
+            element.setNamespace(global || definition != declaration || qualified ? targetNamespace : "");
+            element.setMinOccurs(global || !isOptional(declaration.getAttribute("minOccurs")) ? 1 : 0);
+            element.setMaxOccurs(global || !isRepeating(declaration.getAttribute("maxOccurs")) ? 1 : -1);
+            if (definition == null) {
+                element.setType(ValueType.STRING);
+                return element;
+            }
+
+            String typeName = definition.getAttribute("type");
+            Element inlineType = first(definition, "complexType");
+            if (inlineType == null) {
+                inlineType = first(definition, "simpleType");
+            }
+            Element type = !typeName.isEmpty() ? types.get(localPart(typeName)) : inlineType;
+            if (type == null) {
+                element.setType(typeName.isEmpty() ? ValueType.STRING : builtIn(typeName));
+            } else if (typeName.isEmpty()) {
+                applyType(element, type);
+            } else if (expanding.add(typeName)) {
+                // Named types can be recursive; a type is not expanded again inside itself.
+                try {
+                    applyType(element, type);
+                } finally {
+                    expanding.remove(typeName);
+                }
+            }
+            if (!element.isComplex() && element.getType() == null) {
+                element.setType(ValueType.STRING);
+            }
+            return element;
+        }
+
+        private void applyType(InferredXmlElement element, Element type) {
+            if ("simpleType".equals(type.getLocalName())) {
+                element.setType(simpleType(type));
+                return;
+            }
+            if (type.hasAttribute("mixed")) {
+                element.setMixed("true".equals(type.getAttribute("mixed")));
+            }
+            for (Element child : children(type)) {
+                switch (child.getLocalName()) {
+                    case "sequence", "all" -> group(element, child, false);
+                    case "choice" -> group(element, child, true);
+                    case "attribute" -> attribute(element, child);
+                    case "simpleContent", "complexContent" -> {
+                        Element derivation = first(child, "extension");
+                        if (derivation == null) {
+                            derivation = first(child, "restriction");
+                        }
+                        if (derivation != null) {
+                            String base = derivation.getAttribute("base");
+                            Element baseType = types.get(localPart(base));
+                            if (baseType != null) {
+                                applyType(element, baseType);
+                            } else if ("simpleContent".equals(child.getLocalName())) {
+                                element.setType(builtIn(base));
+                            }
+                            applyType(element, derivation);
+                        }
+                    }
+                    default -> { }
+                }
+            }
+            if (element.getChildren().isEmpty() && !element.getAttributes().isEmpty() && element.getType() == null) {
+                element.setType(ValueType.STRING);
+            }
+        }
+
+        private void group(InferredXmlElement parent, Element group, boolean choice) {
+            boolean repeating = isRepeating(group.getAttribute("maxOccurs"));
+            if (choice && repeating) {
+                parent.setUnordered(true);
+            }
+            for (Element child : children(group)) {
+                switch (child.getLocalName()) {
+                    case "element" -> {
+                        InferredXmlElement element = element(child, false);
+                        if (choice || isOptional(group.getAttribute("minOccurs"))) {
+                            element.setMinOccurs(0);
+                        }
+                        if (repeating) {
+                            element.setMaxOccurs(-1);
+                        }
+                        parent.getChildren().add(element);
+                    }
+                    case "sequence", "all" -> group(parent, child, false);
+                    case "choice" -> group(parent, child, true);
+                    default -> { }
+                }
+            }
+        }
+
+        /**
+         * Whether a {@code minOccurs} value allows no occurrence at all. Surrounding whitespace is ignored, and an
+         * absent or malformed value counts as the default of 1.
+         */
+        private static boolean isOptional(String minOccurs) {
+            String value = minOccurs.strip();
+            return !value.isEmpty() && value.chars().allMatch(c -> c == '0');
+        }
+
+        /** Whether a {@code maxOccurs} value is {@code unbounded} or a number above 1, of any size. */
+        private static boolean isRepeating(String maxOccurs) {
+            String value = maxOccurs.strip();
+            if (value.equals("unbounded")) {
+                return true;
+            }
+            String digits = value.replaceFirst("^0+", "");
+            return !digits.isEmpty() && digits.chars().allMatch(Character::isDigit) && !digits.equals("1");
+        }
+
+        private void attribute(InferredXmlElement element, Element attribute) {
+            String name = attribute.hasAttribute("ref") ? localPart(attribute.getAttribute("ref")) : attribute.getAttribute("name");
+            Element inline = first(attribute, "simpleType");
+            ValueType type = inline != null ? simpleType(inline) : attribute.hasAttribute("type") ? typeOf(attribute.getAttribute("type")) : ValueType.STRING;
+            element.getAttributes().put(name, new InferredXmlElement.Attribute(name, type, "required".equals(attribute.getAttribute("use"))));
+        }
+
+        private ValueType simpleType(Element simpleType) {
+            Element restriction = first(simpleType, "restriction");
+            return restriction != null && restriction.hasAttribute("base") ? typeOf(restriction.getAttribute("base")) : ValueType.STRING;
+        }
+
+        private ValueType typeOf(String typeName) {
+            Element named = types.get(localPart(typeName));
+            return named != null && "simpleType".equals(named.getLocalName()) ? simpleType(named) : builtIn(typeName);
+        }
+
+        private static ValueType builtIn(String typeName) {
+            return switch (localPart(typeName)) {
+                case "boolean" -> ValueType.BOOLEAN;
+                case "int", "short", "byte", "unsignedShort", "unsignedByte" -> ValueType.INT;
+                case "long", "integer", "unsignedInt", "positiveInteger", "nonNegativeInteger", "negativeInteger", "nonPositiveInteger" -> ValueType.LONG;
+                case "decimal", "float", "double", "unsignedLong" -> ValueType.DECIMAL;
+                case "date" -> ValueType.DATE;
+                case "dateTime" -> ValueType.DATE_TIME;
+                default -> ValueType.STRING;
+            };
+        }
+
+        private static String localPart(String qualifiedName) {
+            return qualifiedName.substring(qualifiedName.indexOf(':') + 1);
+        }
+
+        private static Element first(Element parent, String localName) {
+            for (Element child : children(parent)) {
+                if (localName.equals(child.getLocalName())) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private static List<Element> children(Element parent) {
+            List<Element> children = new ArrayList<>();
+            for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child instanceof Element element && XMLConstants.W3C_XML_SCHEMA_NS_URI.equals(element.getNamespaceURI())) {
+                    children.add(element);
+                }
+            }
+            return children;
+        }
+    }
+
+    private void read(XMLStreamReader reader, Map<String, PathNode> roots) throws XMLStreamException {
+        Deque<Frame> open = new ArrayDeque<>();
+        try {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> open.push(startElement(reader, open.peek(), roots));
+                    case XMLStreamConstants.END_ELEMENT -> endElement(open.pop());
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                        Frame frame = open.peek();
+                        if (frame != null && !reader.isWhiteSpace()) {
+                            int room = MAX_CLASSIFIED_VALUE_LENGTH - frame.text.length();
+                            frame.text.append(reader.getTextCharacters(), reader.getTextStart(), Math.max(0, Math.min(room, reader.getTextLength())));
+                            frame.textOverflow |= reader.getTextLength() > room;
+                        }
+                    }
+                    default -> { }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private Frame startElement(XMLStreamReader reader, Frame parent, Map<String, PathNode> roots) {
+        String name = reader.getLocalName();
+        String namespace = reader.getNamespaceURI() == null ? "" : reader.getNamespaceURI();
+        PathNode node;
+        if (parent == null) {
+            node = roots.computeIfAbsent(name, key -> new PathNode(name, namespace));
+            node.minOccurs = 1;
+            node.maxOccurs = 1;
+        } else {
+            PathNode parentNode = parent.node;
+            int index = parentNode.indexOf(name);
+            if (index < 0) {
+                node = new PathNode(name, namespace);
+                // A child first seen in a later instance was missing from the earlier ones.
+                if (parentNode.instances > 1) {
+                    node.minOccurs = 0;
+                }
+                index = parent.lastChildIndex + 1;
+                parentNode.children.add(index, node);
+            } else {
+                node = parentNode.children.get(index);
+                if (index < parent.lastChildIndex) {
+                    parentNode.unordered = true;
+                }
+            }
+            parent.lastChildIndex = index;
+            parent.childCounts.merge(node, 1, Integer::sum);
+        }
+
+        node.instances++;
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI.equals(reader.getAttributeNamespace(i))) {
+                continue;
+            }
+            AttributeStats stats = node.attributes.computeIfAbsent(reader.getAttributeLocalName(i), key -> new AttributeStats());
+            stats.count++;
+            stats.type = classify(reader.getAttributeValue(i).strip()).widen(stats.type);
+        }
+        return new Frame(node);
+    }
+
+    private void endElement(Frame frame) {
+        PathNode node = frame.node;
+        for (PathNode child : node.children) {
+            int count = frame.childCounts.getOrDefault(child, 0);
+            child.minOccurs = Math.min(child.minOccurs, count);
+            child.maxOccurs = Math.max(child.maxOccurs, count);
+        }
+
+        String value = frame.text.toString().strip();
+        if (!frame.childCounts.isEmpty()) {
+            node.mixed |= !value.isEmpty();
+        } else if (frame.textOverflow) {
+            node.type = ValueType.STRING;
+        } else if (value.isEmpty()) {
+            node.emptySeen = true;
+        } else {
+            node.type = classify(value).widen(node.type);
+        }
+    }
+
+    static ValueType classify(String value) {
+        if (value.isEmpty()) {
+            return ValueType.STRING;
+        }
+        if ("true".equals(value) || "false".equals(value)) {
+            return ValueType.BOOLEAN;
+        }
+        if (INTEGER.matcher(value).matches()) {
+            // Leading zeros (zip codes) would be lost in a number, and long digit runs are identifiers
+            // such as phone or account numbers rather than quantities.
+            String digits = value.charAt(0) == '+' || value.charAt(0) == '-' ? value.substring(1) : value;
+            boolean leadingZero = digits.length() > 1 && digits.charAt(0) == '0';
+            return leadingZero || digits.length() > 9 ? ValueType.STRING : ValueType.INT;
+        }
+        if (DECIMAL.matcher(value).matches()) {
+            return ValueType.DECIMAL;
+        }
+        if (DATE.matcher(value).matches()) {
+            return parses(() -> LocalDate.parse(value)) ? ValueType.DATE : ValueType.STRING;
+        }
+        if (value.length() >= 19 && value.charAt(10) == 'T'
+                && (parses(() -> LocalDateTime.parse(value)) || parses(() -> OffsetDateTime.parse(value)))) {
+            return ValueType.DATE_TIME;
+        }
+        return ValueType.STRING;
+    }
+
+    private static boolean parses(Runnable parse) {
+        try {
+            parse.run();
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static InferredXmlElement toElement(PathNode node) {
+        InferredXmlElement element = new InferredXmlElement();
+        element.setName(node.name);
+        element.setNamespace(node.namespace);
+        element.setMinOccurs(node.minOccurs >= 1 && node.minOccurs != Integer.MAX_VALUE ? 1 : 0);
+        element.setMaxOccurs(node.maxOccurs > 1 ? -1 : 1);
+        element.setUnordered(node.unordered);
+        node.attributes.forEach((name, stats) -> element.getAttributes().put(name,
+            new InferredXmlElement.Attribute(name, stats.type, stats.count == node.instances)));
+        if (node.children.isEmpty()) {
+            element.setType(node.type == null || node.emptySeen ? ValueType.STRING : node.type);
+        } else {
+            element.setMixed(node.mixed || node.type != null);
+            node.children.forEach(child -> element.getChildren().add(toElement(child)));
+        }
+        return element;
+    }
+
+    private void appendElement(StringBuilder xsd, InferredXmlElement element, int depth, boolean inChoice) {
+        String indent = "  ".repeat(depth);
+        xsd.append(indent).append("<xs:element name=\"").append(element.getName()).append('"');
+        if (!inChoice && depth > 1) {
+            if (element.getMinOccurs() == 0) {
+                xsd.append(" minOccurs=\"0\"");
+            }
+            if (element.getMaxOccurs() < 0) {
+                xsd.append(" maxOccurs=\"unbounded\"");
+            }
+        }
+        if (!element.isComplex()) {
+            xsd.append(" type=\"").append(element.getType().getXsdType()).append("\"/>\n");
+            return;
+        }
+
+        xsd.append(">\n").append(indent).append("  <xs:complexType").append(element.isMixed() ? " mixed=\"true\"" : "").append(">\n");
+        String inner = indent + "    ";
+        if (element.getChildren().isEmpty()) {
+            // Text with attributes.
+            xsd.append(inner).append("<xs:simpleContent>\n")
+                .append(inner).append("  <xs:extension base=\"").append(element.getType().getXsdType()).append("\">\n");
+            appendAttributes(xsd, element, inner + "    ");
+            xsd.append(inner).append("  </xs:extension>\n").append(inner).append("</xs:simpleContent>\n");
+        } else {
+            String group = element.isUnordered() ? "xs:choice minOccurs=\"0\" maxOccurs=\"unbounded\"" : "xs:sequence";
+            xsd.append(inner).append('<').append(group).append(">\n");
+            for (InferredXmlElement child : element.getChildren()) {
+                appendElement(xsd, child, depth + 3, element.isUnordered());
+            }
+            xsd.append(inner).append("</").append(element.isUnordered() ? "xs:choice" : "xs:sequence").append(">\n");
+            appendAttributes(xsd, element, inner);
+        }
+        xsd.append(indent).append("  </xs:complexType>\n").append(indent).append("</xs:element>\n");
+    }
+
+    private void appendAttributes(StringBuilder xsd, InferredXmlElement element, String indent) {
+        for (InferredXmlElement.Attribute attribute : element.getAttributes().values()) {
+            xsd.append(indent).append("<xs:attribute name=\"").append(attribute.getName()).append("\" type=\"")
+                .append(attribute.getType().getXsdType()).append('"').append(attribute.isRequired() ? " use=\"required\"" : "").append("/>\n");
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;");
+    }
+}
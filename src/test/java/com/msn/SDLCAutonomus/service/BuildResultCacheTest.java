@@ -0,0 +1,118 @@
+package com.msn.SDLCAutonomus.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.msn.SDLCAutonomus.config.BuildProperties;
+import com.msn.SDLCAutonomus.model.BuildOutcome;
+
+class BuildResultCacheTest {
+
+    private final BuildProperties buildProperties = new BuildProperties();
+    private final BuildResultCache cache = new BuildResultCache(buildProperties);
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void useTempDir() {
+        buildProperties.setResultCacheDir(dir.toString());
+    }
+
+    @Test
+    void distillDropsInfoChatterAndKeepsSummaries() {
+        String log = """
+            [INFO] Scanning for projects...
+            [INFO] Downloading from central: https://repo.maven.apache.org/maven2/x.pom
+            [INFO] --- compiler:3.13.0:compile (default-compile) @ orders ---
+            [ERROR] /src/main/java/App.java:[3,5] cannot find symbol
+
+
+            [INFO] Tests run: 4, Failures: 1, Errors: 0, Skipped: 0
+            [INFO] BUILD FAILURE
+            [WARNING] deprecated API
+            """;
+
+        assertEquals("""
+            [ERROR] /src/main/java/App.java:[3,5] cannot find symbol
+
+            [INFO] Tests run: 4, Failures: 1, Errors: 0, Skipped: 0
+            [INFO] BUILD FAILURE
+            [WARNING] deprecated API
+            """, BuildResultCache.distill(log, 1_000).stripTrailing() + "\n");
+        assertNull(BuildResultCache.distill(null, 1_000));
+    }
+
+    @Test
+    void distillCutsTheMiddleOfALongLog() {
+        StringBuilder log = new StringBuilder("[ERROR] first\n");
+        for (int i = 0; i < 1_000; i++) {
+            log.append("[ERROR] line ").append(i).append('\n');
+        }
+        log.append("[ERROR] last\n");
+
+        String distilled = BuildResultCache.distill(log.toString(), 200);
+
+        assertTrue(distilled.startsWith("[ERROR] first\n"), distilled);
+        assertTrue(distilled.stripTrailing().endsWith("[ERROR] last"), distilled);
+        assertTrue(distilled.contains(" characters omitted) ..."), distilled);
+        assertTrue(distilled.length() < 260, distilled);
+    }
+
+    @Test
+    void outcomesAreKeptByTreeHash() {
+        cache.put(new BuildOutcome("tree-a", true, null, 1200, "2026-01-01T00:00:00Z"));
+        cache.put(new BuildOutcome("tree-b", false, "[ERROR] cannot find symbol", 900, "2026-01-01T00:01:00Z"));
+
+        assertEquals(new BuildOutcome("tree-a", true, null, 1200, "2026-01-01T00:00:00Z"), cache.get("tree-a").orElseThrow());
+        assertEquals("[ERROR] cannot find symbol", cache.get("tree-b").orElseThrow().getLog());
+        assertFalse(cache.get("tree-c").isPresent());
+    }
+
+    @Test
+    void environmentFailuresAreNotCached() {
+        cache.put(new BuildOutcome("tree-a", false, "[ERROR] Could not resolve dependencies for project", 900, null));
+        cache.put(new BuildOutcome("tree-b", false, null, 900, null));
+
+        assertFalse(cache.get("tree-a").isPresent());
+        assertFalse(cache.get("tree-b").isPresent());
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvicted() throws IOException, InterruptedException {
+        buildProperties.setResultCacheMaxEntries(2);
+        cache.put(new BuildOutcome("tree-a", true, null, 1, null));
+        Thread.sleep(20);
+        cache.put(new BuildOutcome("tree-b", true, null, 1, null));
+        Thread.sleep(20);
+        cache.get("tree-a");
+        Thread.sleep(20);
+        cache.put(new BuildOutcome("tree-c", true, null, 1, null));
+
+        assertTrue(cache.get("tree-a").isPresent());
+        assertFalse(cache.get("tree-b").isPresent());
+        assertTrue(cache.get("tree-c").isPresent());
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void disabledCacheKeepsNothing() {
+        buildProperties.setResultCache(false);
+        cache.put(new BuildOutcome("tree-a", true, null, 1, null));
+
+        assertFalse(cache.get("tree-a").isPresent());
+    }
+}
@@ -0,0 +1,93 @@
+package com.msn.SDLCAutonomus.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.msn.SDLCAutonomus.model.MappingResult;
+import com.msn.SDLCAutonomus.model.MappingViolation;
+
+class MappingEngineServiceTest {
+
+    private final MappingEngineService mappingEngineService = new MappingEngineService();
+
+    static String sample(String name) throws IOException {
+        try (InputStream in = MappingEngineServiceTest.class.getResourceAsStream("/sample/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void sampleMappingProducesTheExpectedTarget() throws IOException {
+        MappingPlan plan = mappingEngineService.compile(sample("mapping_with_validation.json"));
+
+        MappingResult result = mappingEngineService.transform(plan, sample("source.xml"));
+
+        assertEquals(sample("expected_target.xml"), result.getTargetXml());
+        assertTrue(result.isValid(), () -> "Unexpected violations: " + result.getViolations());
+    }
+
+    @Test
+    void compiledPlansAreCachedByContent() throws IOException {
+        String mapping = sample("mapping_with_validation.json");
+
+        assertSame(mappingEngineService.compile(mapping), mappingEngineService.compile(new String(mapping)));
+    }
+
+    @Test
+    void brokenRulesAreReportedAtTheirTargetPath() throws IOException {
+        MappingPlan plan = mappingEngineService.compile(sample("mapping_with_validation.json"));
+        String source = sample("source.xml")
+            .replace("<Email>jane@example.com</Email>", "<Email>not-an-email</Email>")
+            .replace("<Quantity>2</Quantity>", "<Quantity>0</Quantity>");
+
+        List<MappingViolation> violations = mappingEngineService.transform(plan, source).getViolations();
+
+        assertEquals(List.of(
+            new MappingViolation("PurchaseOrder.Client.Email", "pattern", "Does not match ^\\S+@\\S+\\.\\S+$"),
+            new MappingViolation("PurchaseOrder.Products.Product[2].Qty", "min", "Less than 1")), violations);
+    }
+
+    @Test
+    void missingRequiredValueIsAViolation() throws IOException {
+        MappingPlan plan = mappingEngineService.compile(sample("mapping_with_validation.json"));
+        String source = sample("source.xml").replace("<OrderId>ORD12345</OrderId>", "");
+
+        List<MappingViolation> violations = mappingEngineService.transform(plan, source).getViolations();
+
+        assertEquals(1, violations.size());
+        assertEquals("PurchaseOrder.Id", violations.get(0).getPath());
+        assertEquals("required", violations.get(0).getRule());
+    }
+
+    @Test
+    void unknownTransformIsRejected() {
+        String mapping = """
+            {"mappings": [{"sourceField": "Order.OrderId", "targetField": "PurchaseOrder.Id", "transform": "REVERSE"}]}
+            """;
+
+        assertThrows(IOException.class, () -> mappingEngineService.compile(mapping));
+    }
+
+    @Test
+    void unbalancedParenthesesNameTheRule() throws IOException {
+        for (String transform : List.of("CONCAT(Order.OrderId, '-'", "CONCAT(Order.OrderId))", "CONCAT(Order.OrderId) x")) {
+            String mapping = "{\"mappings\": [{\"targetField\": \"PurchaseOrder.Id\", \"transform\": \"" + transform + "\"}]}";
+
+            IOException e = assertThrows(IOException.class, () -> mappingEngineService.compile(mapping));
+            assertTrue(e.getMessage().contains("PurchaseOrder.Id"), e.getMessage());
+        }
+
+        String quoted = "{\"mappings\": [{\"targetField\": \"PurchaseOrder.Id\", \"transform\": \"CONCAT('(', Order.OrderId, ')')\"}]}";
+        MappingResult result = mappingEngineService.transform(mappingEngineService.compile(quoted), sample("source.xml"));
+        assertTrue(result.getTargetXml().contains("<Id>(ORD12345)</Id>"), result.getTargetXml());
+    }
+}
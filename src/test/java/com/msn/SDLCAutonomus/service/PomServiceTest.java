@@ -0,0 +1,154 @@
+package com.msn.SDLCAutonomus.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.msn.SDLCAutonomus.model.PomDependency;
+import com.msn.SDLCAutonomus.model.PomModel;
+import com.msn.SDLCAutonomus.model.ProjectConfig;
+
+class PomServiceTest {
+
+    private static final String POM = """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <project xmlns="http://maven.apache.org/POM/4.0.0">
+            <modelVersion>4.0.0</modelVersion>
+            <parent>
+                <groupId>org.springframework.boot</groupId>
+                <artifactId>spring-boot-starter-parent</artifactId>
+                <version>3.2.4</version>
+            </parent>
+            <groupId>com.example</groupId>
+            <artifactId>orders</artifactId>
+            <version>0.0.1-SNAPSHOT</version>
+            <properties>
+                <java.version>17</java.version>
+                <json.version>20231013</json.version>
+            </properties>
+            <dependencies>
+                <!-- web layer -->
+                <dependency>
+                    <groupId>org.springframework.boot</groupId>
+                    <artifactId>spring-boot-starter-web</artifactId>
+                </dependency>
+                <dependency>
+                    <groupId>org.json</groupId>
+                    <artifactId>json</artifactId>
+                    <version>${json.version}</version>
+                </dependency>
+                <dependency>
+                    <groupId>org.projectlombok</groupId>
+                    <artifactId>lombok</artifactId>
+                    <version>1.18.30</version>
+                    <optional>true</optional>
+                </dependency>
+                <dependency>
+                    <groupId>org.springframework.boot</groupId>
+                    <artifactId>spring-boot-starter-test</artifactId>
+                    <scope>test</scope>
+                </dependency>
+            </dependencies>
+        </project>
+        """;
+
+    private final PomService pomService = new PomService();
+
+    @Test
+    void parsesDependenciesWithResolvedVersions() throws IOException {
+        PomModel model = pomService.parse(POM);
+
+        assertEquals(List.of(
+            "org.springframework.boot:spring-boot-starter-web",
+            "org.json:json:20231013",
+            "org.projectlombok:lombok:1.18.30:optional",
+            "org.springframework.boot:spring-boot-starter-test:test"), PomService.coordinates(model.getDependencies()));
+    }
+
+    @Test
+    void parsesCoordinatePartsInAnyOrder() {
+        PomDependency dependency = PomService.parseCoordinate(" org.example:lib:test:1.0:optional ");
+
+        assertEquals("org.example:lib", dependency.getKey());
+        assertEquals("1.0", dependency.getVersion());
+        assertEquals("test", dependency.getScope());
+        assertTrue(dependency.isOptional());
+        assertNull(PomService.parseCoordinate("no-artifact"));
+    }
+
+    @Test
+    void sameDependenciesLeaveThePomAsItIs() throws IOException {
+        List<String> coordinates = PomService.coordinates(pomService.parse(POM).getDependencies());
+
+        assertSame(POM, pomService.mergeDependencies(POM, coordinates));
+    }
+
+    @Test
+    void listIsTheFullSetOfDependencies() throws IOException {
+        String merged = pomService.mergeDependencies(POM, List.of(
+            "org.springframework.boot:spring-boot-starter-web",
+            "org.json:json:20240303",
+            "org.projectlombok:lombok:optional",
+            "org.springframework.boot:spring-boot-starter-validation"));
+
+        assertEquals(POM
+            .replace("<json.version>20231013</json.version>", "<json.version>20240303</json.version>")
+            .replace("<version>1.18.30</version>\n            ", "")
+            .replace("spring-boot-starter-test</artifactId>\n            <scope>test</scope>", "spring-boot-starter-validation</artifactId>"),
+            merged);
+    }
+
+    @Test
+    void repeatedDeclarationIsRemoved() throws IOException {
+        String duplicated = POM.replace("    </dependencies>",
+            "        <dependency>\n"
+            + "            <groupId>org.json</groupId>\n"
+            + "            <artifactId>json</artifactId>\n"
+            + "        </dependency>\n"
+            + "    </dependencies>");
+        List<String> coordinates = PomService.coordinates(pomService.parse(POM).getDependencies());
+
+        assertEquals(2, pomService.parse(duplicated).getDependencies().stream().filter(dependency -> dependency.getKey().equals("org.json:json")).count());
+        assertEquals(POM, pomService.mergeDependencies(duplicated, coordinates));
+    }
+
+    @Test
+    void classifiedAndTypedArtifactsAreLeftAlone() throws IOException {
+        String withTestJar = POM.replace("    </dependencies>",
+            "        <dependency>\n"
+            + "            <groupId>org.json</groupId>\n"
+            + "            <artifactId>json</artifactId>\n"
+            + "            <version>20231013</version>\n"
+            + "            <type>test-jar</type>\n"
+            + "        </dependency>\n"
+            + "        <dependency>\n"
+            + "            <groupId>org.projectlombok</groupId>\n"
+            + "            <artifactId>lombok</artifactId>\n"
+            + "            <classifier>sources</classifier>\n"
+            + "        </dependency>\n"
+            + "    </dependencies>");
+        List<String> coordinates = PomService.coordinates(pomService.parse(POM).getDependencies());
+
+        assertEquals(coordinates, PomService.coordinates(pomService.parse(withTestJar).getDependencies()));
+        assertSame(withTestJar, pomService.mergeDependencies(withTestJar, coordinates));
+        assertEquals(withTestJar.replace("<json.version>20231013</json.version>", "<json.version>20240303</json.version>"),
+            pomService.mergeDependencies(withTestJar, coordinates.stream().map(coordinate -> coordinate.replace("20231013", "20240303")).toList()));
+    }
+
+    @Test
+    void projectConfigSetsParentAndJavaVersion() throws IOException {
+        ProjectConfig projectConfig = new ProjectConfig("21", "3.5.3", "com.example.orders");
+        List<String> coordinates = PomService.coordinates(pomService.parse(POM).getDependencies());
+
+        String merged = pomService.mergeDependencies(POM, coordinates, projectConfig);
+
+        assertEquals(POM.replace("<version>3.2.4</version>", "<version>3.5.3</version>")
+            .replace("<java.version>17</java.version>", "<java.version>21</java.version>"), merged);
+    }
+}
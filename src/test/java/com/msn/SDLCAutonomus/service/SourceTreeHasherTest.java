@@ -0,0 +1,90 @@
+package com.msn.SDLCAutonomus.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SourceTreeHasherTest {
+
+    private final SourceTreeHasher hasher = new SourceTreeHasher();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void hashCoversPomAndSourcesOnly() throws IOException {
+        Path first = project("first");
+        Path second = project("second");
+        write(second, "target/classes/App.class", "compiled");
+        write(second, "README.md", "not built");
+
+        assertEquals(hasher.hash(first), hasher.hash(second));
+    }
+
+    @Test
+    void contentAndPathsChangeTheHash() throws IOException {
+        Path project = project("project");
+        String hash = hasher.hash(project);
+
+        write(project, "src/main/java/App.java", "class App { int changed; }");
+        String changed = hasher.hash(project);
+        Files.move(project.resolve("src/main/java/App.java"), project.resolve("src/main/java/Main.java"));
+        String renamed = hasher.hash(project);
+
+        assertNotEquals(hash, changed);
+        assertNotEquals(changed, renamed);
+        assertEquals(hash, hasher.hash(project("copy")), "same tree, same hash");
+    }
+
+    @Test
+    void fileModifiedDuringTheScanIsReadAgain() throws IOException {
+        Path project = project("project");
+        Path app = project.resolve("src/main/java/App.java");
+        FileTime modified = Files.getLastModifiedTime(app);
+        String hash = hasher.hash(project);
+
+        // Same size and modification time: only reading the file can tell.
+        Files.writeString(app, "class App { int x = 2; }".replace('2', '3'));
+        Files.setLastModifiedTime(app, modified);
+
+        assertNotEquals(hash, hasher.hash(project));
+    }
+
+    @Test
+    void unchangedOldFileIsNotReadAgain() throws IOException {
+        Path project = project("project");
+        Path app = project.resolve("src/main/java/App.java");
+        FileTime old = FileTime.from(Instant.now().minusSeconds(60));
+        Files.setLastModifiedTime(app, old);
+        String hash = hasher.hash(project);
+
+        Files.writeString(app, "class App { int x = 3; }");
+        Files.setLastModifiedTime(app, old);
+
+        assertEquals(hash, hasher.hash(project), "the remembered digest is trusted");
+        hasher.forget(project);
+        assertNotEquals(hash, hasher.hash(project));
+    }
+
+    private Path project(String name) throws IOException {
+        Path project = dir.resolve(name);
+        write(project, "pom.xml", "<project/>");
+        write(project, "src/main/java/App.java", "class App { int x = 2; }");
+        write(project, "src/main/resources/application.properties", "server.port=8080");
+        return project;
+    }
+
+    private static void write(Path project, String file, String content) throws IOException {
+        Path path = project.resolve(file);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+    }
+}
@@ -0,0 +1,116 @@
+package com.msn.SDLCAutonomus.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.msn.SDLCAutonomus.config.AttachmentProperties;
+
+class SpreadsheetMappingReaderTest {
+
+    private static final String EXPECTED_CSV = """
+        SourcePath,TargetPath,TransformationRule,ValidationRule
+        Order.OrderId,PurchaseOrder.Id,,"required, maxLength=20"
+        Order.Billing.Paid,PurchaseOrder.Payment.Status,"CONCAT(""Paid"")",TRUE
+        Order.Customer.Name,PurchaseOrder.Client.FullName,UPPER,required
+        """;
+
+    private final AttachmentProperties attachmentProperties = new AttachmentProperties();
+    private final SpreadsheetMappingReader reader = new SpreadsheetMappingReader(attachmentProperties);
+
+    @TempDir
+    Path dir;
+    private Path workbook;
+
+    /**
+     * The mapping sheet comes first in the workbook but is stored as sheet2.xml. Its columns are in another order
+     * next to a Notes column, one row is empty, and the cells use shared strings (one with rich text and a phonetic
+     * hint), inline strings, a boolean and no cell references.
+     */
+    @BeforeEach
+    void writeWorkbook() throws IOException {
+        workbook = dir.resolve("mapping.xlsx");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(workbook))) {
+            entry(zip, "xl/workbook.xml", """
+                <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+                xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">
+                <sheets><sheet name="Mapping" sheetId="2" r:id="rId2"/><sheet name="Notes" sheetId="1" r:id="rId1"/></sheets></workbook>
+                """);
+            entry(zip, "xl/_rels/workbook.xml.rels", """
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+                <Relationship Id="rId1" Type="worksheet" Target="worksheets/sheet1.xml"/>
+                <Relationship Id="rId2" Type="worksheet" Target="/xl/worksheets/sheet2.xml"/></Relationships>
+                """);
+            entry(zip, "xl/sharedStrings.xml", """
+                <sst xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">
+                <si><t>Source Path</t></si><si><t>target_path</t></si><si><t>Transformation Rule</t></si>
+                <si><t>ValidationRule</t></si><si><t>Notes</t></si>
+                <si><r><t>required, </t></r><r><t>maxLength=20</t></r><rPh><t>ignored</t></rPh></si></sst>
+                """);
+            entry(zip, "xl/worksheets/sheet1.xml", """
+                <worksheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main"><sheetData>
+                <row r="1"><c r="A1" t="inlineStr"><is><t>Not the mapping sheet</t></is></c></row></sheetData></worksheet>
+                """);
+            entry(zip, "xl/worksheets/sheet2.xml", """
+                <worksheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main"><sheetData>
+                <row r="1"><c r="A1" t="s"><v>4</v></c><c r="B1" t="s"><v>1</v></c><c r="C1" t="s"><v>0</v></c>\
+                <c r="D1" t="s"><v>3</v></c><c r="E1" t="s"><v>2</v></c></row>
+                <row r="2"><c r="A2" t="inlineStr"><is><t>key</t></is></c><c r="B2" t="inlineStr"><is><t>PurchaseOrder.Id</t></is></c>\
+                <c r="C2" t="inlineStr"><is><t>Order.OrderId</t></is></c><c r="D2" t="s"><v>5</v></c></row>
+                <row r="3"><c r="A3" t="inlineStr"><is><t>only a note</t></is></c></row>
+                <row r="4"><c t="inlineStr"><is><t>-</t></is></c><c t="inlineStr"><is><t>PurchaseOrder.Payment.Status</t></is></c>\
+                <c t="inlineStr"><is><t>Order.Billing.Paid</t></is></c><c t="b"><v>1</v></c>\
+                <c t="inlineStr"><is><t>CONCAT("Paid")</t></is></c></row>
+                <row r="6"><c r="B6" t="inlineStr"><is><t>PurchaseOrder.Client.FullName</t></is></c>\
+                <c r="C6" t="inlineStr"><is><t>Order.Customer.Name</t></is></c><c r="D6" t="inlineStr"><is><t>required</t></is></c>\
+                <c r="E6" t="inlineStr"><is><t>UPPER</t></is></c></row>
+                </sheetData></worksheet>
+                """);
+        }
+    }
+
+    @Test
+    void writesTheMappingColumnsOfTheFirstSheet() throws IOException {
+        StringBuilder csv = new StringBuilder();
+
+        long rows = reader.writeCsv(workbook, csv);
+
+        assertEquals(3, rows);
+        assertEquals(EXPECTED_CSV, csv.toString());
+    }
+
+    @Test
+    void sampleStopsAfterTheLastRowWithinTheLimit() throws IOException {
+        String firstTwoLines = EXPECTED_CSV.lines().limit(2).map(line -> line + "\n").reduce("", String::concat);
+        attachmentProperties.setLlmSampleSize(DataSize.ofBytes(firstTwoLines.length() + 10));
+
+        assertEquals(firstTwoLines, reader.readCsvSample(workbook));
+    }
+
+    @Test
+    void recognizesAZipWhateverItIsCalled() throws IOException {
+        Path renamed = Files.copy(workbook, dir.resolve("mapping.bin"));
+        Path csv = Files.writeString(dir.resolve("mapping.xlsx.csv"), EXPECTED_CSV);
+
+        assertTrue(SpreadsheetMappingReader.isSpreadsheet(renamed));
+        assertFalse(SpreadsheetMappingReader.isSpreadsheet(csv));
+    }
+
+    private static void entry(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,77 @@
+package com.msn.SDLCAutonomus.service;
+
+import static com.msn.SDLCAutonomus.service.MappingEngineServiceTest.sample;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import com.msn.SDLCAutonomus.config.XmlProcessingProperties;
+import com.msn.SDLCAutonomus.model.MappingResult;
+import com.msn.SDLCAutonomus.model.StreamingMappingResult;
+
+class StreamingMappingServiceTest {
+
+    private final MappingEngineService mappingEngineService = new MappingEngineService();
+    private final StreamingMappingService streamingMappingService = new StreamingMappingService(new XmlProcessingProperties());
+    private MappingPlan plan;
+
+    @BeforeEach
+    void compilePlan() throws IOException {
+        plan = mappingEngineService.compile(sample("mapping_with_validation.json"));
+    }
+
+    @Test
+    void sampleStreamsToTheInMemoryTarget() throws IOException {
+        String source = sample("source.xml");
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        StreamingMappingResult result = streamingMappingService.transform(plan, resource(source), target);
+
+        assertEquals(mappingEngineService.transform(plan, source).getTargetXml(), target.toString(StandardCharsets.UTF_8));
+        assertEquals(2, result.getItemCount());
+        assertEquals(0, result.getViolationCount());
+    }
+
+    @Test
+    void manyItemsStreamToTheInMemoryTarget() throws IOException {
+        StringBuilder items = new StringBuilder();
+        for (int i = 1; i <= 50; i++) {
+            items.append("<Item><ItemId>IT").append(i).append("</ItemId><Description>Item ").append(i)
+                .append("</Description><Quantity>").append(i).append(".4</Quantity><Price>").append(i).append(".50</Price></Item>");
+        }
+        String source = sample("source.xml").replaceAll("(?s)<Items>.*</Items>", "<Items>" + items + "</Items>");
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        StreamingMappingResult result = streamingMappingService.transform(plan, resource(source), target);
+
+        assertEquals(mappingEngineService.transform(plan, source).getTargetXml(), target.toString(StandardCharsets.UTF_8));
+        assertEquals(50, result.getItemCount());
+    }
+
+    @Test
+    void sourceWithoutItemsCreatesNoArrayContainers() throws IOException {
+        String source = sample("source.xml").replaceAll("(?s)<Items>.*</Items>", "");
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        StreamingMappingResult result = streamingMappingService.transform(plan, resource(source), target);
+
+        MappingResult inMemory = mappingEngineService.transform(plan, source);
+        String streamed = target.toString(StandardCharsets.UTF_8);
+        // The streamed document reports its violations in a comment line after the root; the in-memory result does not.
+        assertEquals(inMemory.getTargetXml(), streamed.replaceAll("\\n<!--[^>]*-->", ""));
+        assertTrue(streamed.contains("<!-- 1 mapping violation(s)"), streamed);
+        assertEquals(inMemory.getViolations(), result.getViolations());
+        assertEquals("occurrence", result.getViolations().get(0).getRule());
+    }
+
+    private static ByteArrayResource resource(String xml) {
+        return new ByteArrayResource(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
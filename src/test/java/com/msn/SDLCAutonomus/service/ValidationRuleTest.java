@@ -0,0 +1,104 @@
+package com.msn.SDLCAutonomus.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import com.msn.SDLCAutonomus.model.MappingViolation;
+
+class ValidationRuleTest {
+
+    @Test
+    void integerScanner() {
+        for (String value : List.of("0", "42", "-7", "+7", " 12 ", "007")) {
+            assertTrue(ValidationRule.isInteger(value), value);
+        }
+        for (String value : List.of("", " ", "-", "+", "1.0", "1e3", "12a", "1 2")) {
+            assertFalse(ValidationRule.isInteger(value), value);
+        }
+    }
+
+    @Test
+    void decimalScannerAcceptsWhatBigDecimalAccepts() {
+        for (String value : List.of("0", "1.5", "-0.25", "+3.", ".5", "1e3", "1.5E-2", " 2.50 ")) {
+            assertTrue(ValidationRule.isDecimal(value), value);
+            new BigDecimal(value.strip());
+        }
+        for (String value : List.of("", ".", "-", "1.2.3", "1e", "1e+", "e3", "abc", "1,5")) {
+            assertFalse(ValidationRule.isDecimal(value), value);
+        }
+    }
+
+    @Test
+    void dateScannerChecksTheCalendar() {
+        for (String value : List.of("2025-08-01", "2024-02-29", "2000-02-29", " 1999-12-31 ")) {
+            assertTrue(ValidationRule.isDate(value), value);
+        }
+        for (String value : List.of("2025-02-29", "1900-02-29", "2025-13-01", "2025-04-31", "2025-00-10", "2025-8-01", "20250801", "2025/08/01")) {
+            assertFalse(ValidationRule.isDate(value), value);
+        }
+    }
+
+    @Test
+    void boundsCompareExactly() throws IOException {
+        ValidationRule rule = ValidationRule.compile(new JSONObject().put("min", new BigDecimal("0.01")).put("max", 100000.0));
+
+        assertEquals(List.of(), violations(rule, "0.01"));
+        assertEquals(List.of(), violations(rule, "100000.000"));
+        assertEquals(List.of(), violations(rule, "1E+5"));
+        assertEquals(List.of("min"), violations(rule, "0.009999999999999999999"));
+        assertEquals(List.of("min"), violations(rule, "-5"));
+        assertEquals(List.of("max"), violations(rule, "100000.0000000000000000001"));
+        assertEquals(List.of("max"), violations(rule, "99999999999999999999"));
+        // Bounds leave non-numbers to the type check.
+        assertEquals(List.of(), violations(rule, "abc"));
+    }
+
+    @Test
+    void everyBrokenCheckIsReported() throws IOException {
+        ValidationRule rule = ValidationRule.compile(new JSONObject()
+            .put("required", "True").put("type", "string").put("minLength", 3).put("maxLength", 5).put("pattern", "[a-z]+"));
+        List<MappingViolation> violations = new ArrayList<>();
+
+        rule.check("AB", "PurchaseOrder.Client.", "FullName", violations);
+
+        assertTrue(rule.isRequired());
+        assertEquals(List.of(
+            new MappingViolation("PurchaseOrder.Client.FullName", "minLength", "Shorter than 3 characters"),
+            new MappingViolation("PurchaseOrder.Client.FullName", "pattern", "Does not match [a-z]+")),
+            sorted(violations));
+    }
+
+    @Test
+    void emptyBlockIsNone() throws IOException {
+        assertSame(ValidationRule.NONE, ValidationRule.compile(new JSONObject()));
+        assertSame(ValidationRule.NONE, ValidationRule.compile(null));
+    }
+
+    @Test
+    void unknownRuleOrTypeIsRejected() {
+        assertThrows(IOException.class, () -> ValidationRule.compile(new JSONObject().put("format", "email")));
+        assertThrows(IOException.class, () -> ValidationRule.compile(new JSONObject().put("type", "uuid")));
+    }
+
+    private static List<String> violations(ValidationRule rule, String value) {
+        List<MappingViolation> violations = new ArrayList<>();
+        rule.check(value, "", "Amount", violations);
+        return violations.stream().map(MappingViolation::getRule).sorted().toList();
+    }
+
+    /** JSON object keys come in no particular order, and neither do the checks. */
+    private static List<MappingViolation> sorted(List<MappingViolation> violations) {
+        return violations.stream().sorted((a, b) -> a.getRule().compareTo(b.getRule())).toList();
+    }
+}
@@ -0,0 +1,106 @@
+package com.msn.SDLCAutonomus.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.SAXException;
+
+import com.msn.SDLCAutonomus.model.XmlStreamValidationResult;
+import com.msn.SDLCAutonomus.model.XmlValidationResult;
+
+class XmlValidationServiceTest {
+
+    private static final String XSD = """
+        <xs:schema xmlns:xs="http://www.w3.org/2001/XMLSchema">
+          <xs:element name="Order" type="xs:string"/>
+        </xs:schema>
+        """;
+
+    private final XmlValidationService xmlValidationService = new XmlValidationService();
+
+    @TempDir
+    Path dir;
+    private String entityDocument;
+
+    @BeforeEach
+    void writeSecret() throws IOException {
+        Path secret = Files.writeString(dir.resolve("secret.txt"), "SECRET");
+        entityDocument = "<!DOCTYPE Order [<!ENTITY x SYSTEM \"" + secret.toUri() + "\">]><Order>&x;</Order>";
+    }
+
+    @AfterEach
+    void shutdown() {
+        xmlValidationService.shutdown();
+    }
+
+    @Test
+    void externalEntitiesAreNotRead() throws IOException, InterruptedException, SAXException {
+        Path file = Files.writeString(dir.resolve("order.xml"), entityDocument);
+
+        SAXException fromReader = assertThrows(SAXException.class,
+            () -> xmlValidationService.validate(new StreamSource(new StringReader(entityDocument)), XSD));
+        SAXException fromFile = assertThrows(SAXException.class,
+            () -> xmlValidationService.validate(new StreamSource(file.toFile()), XSD));
+        List<XmlValidationResult> batch = xmlValidationService.validateAll(List.of(file), XSD);
+        XmlStreamValidationResult streamed = xmlValidationService.validateStream(file, XSD, 10, 10);
+
+        assertFalse(fromReader.getMessage().contains("SECRET"), fromReader.getMessage());
+        assertTrue(fromFile.getMessage().contains("accessExternalDTD"), fromFile.getMessage());
+        assertFalse(batch.get(0).isValid());
+        assertFalse(streamed.isValid());
+    }
+
+    @Test
+    void schemaImportsAreNotRead() throws IOException {
+        Path imported = Files.writeString(dir.resolve("other.xsd"),
+            "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"urn:other\"/>");
+        String xsd = XSD.replace("<xs:element", "<xs:import namespace=\"urn:other\" schemaLocation=\"" + imported.toUri() + "\"/>\n  <xs:element");
+
+        SAXException e = assertThrows(SAXException.class, () -> xmlValidationService.getSchema(xsd));
+
+        assertTrue(e.getMessage().contains("accessExternalSchema"), e.getMessage());
+    }
+
+    @Test
+    void validationKeepsWorkingAfterARejectedDocument() throws IOException, SAXException {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(SAXException.class, () -> xmlValidationService.validate(new StreamSource(new StringReader(entityDocument)), XSD));
+            xmlValidationService.validate(new StreamSource(new StringReader("<Order>1</Order>")), XSD);
+
+            XmlStreamValidationResult valid = validateStream("<Order>1</Order>");
+            XmlStreamValidationResult invalid = validateStream("<Invoice/>");
+
+            assertTrue(valid.isValid(), valid.getErrors().toString());
+            assertEquals(1, valid.getSummary().getElementCount());
+            assertFalse(invalid.isValid());
+        }
+    }
+
+    @Test
+    void errorsReadLikeTheParsersOwn() {
+        SAXException e = assertThrows(SAXException.class,
+            () -> xmlValidationService.validate(new StreamSource(new StringReader("<Invoice/>")), XSD));
+
+        assertTrue(e.getMessage().startsWith("cvc-elt.1.a"), e.getMessage());
+    }
+
+    private XmlStreamValidationResult validateStream(String xml) throws IOException, SAXException {
+        return xmlValidationService.validateStream(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), "order.xml", XSD, 10, 10);
+    }
+}
@@ -0,0 +1,138 @@
+package com.msn.SDLCAutonomus.service;
+
+import static com.msn.SDLCAutonomus.service.MappingEngineServiceTest.sample;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.SAXException;
+
+import com.msn.SDLCAutonomus.model.InferredXmlElement;
+import com.msn.SDLCAutonomus.model.InferredXmlElement.ValueType;
+
+class XsdInferenceServiceTest {
+
+    private final XsdInferenceService xsdInferenceService = new XsdInferenceService();
+    private final XmlValidationService xmlValidationService = new XmlValidationService();
+
+    @AfterEach
+    void shutdown() {
+        xmlValidationService.shutdown();
+    }
+
+    @Test
+    void inferredSchemaValidatesTheSamples(@TempDir Path dir) throws IOException, SAXException {
+        for (String name : List.of("source.xml", "expected_target.xml")) {
+            Path file = Files.writeString(dir.resolve(name), sample(name));
+
+            String xsd = xsdInferenceService.inferXsd(List.of(file));
+
+            xmlValidationService.validate(new StreamSource(file.toFile()), xsd);
+        }
+    }
+
+    @Test
+    void inferredSchemaRejectsAnotherShape() throws IOException {
+        String xsd = xsdInferenceService.toXsd(xsdInferenceService.infer(sample("source.xml")));
+        String wrongType = sample("source.xml").replace("<Quantity>2</Quantity>", "<Quantity>two</Quantity>");
+        String missingChild = sample("source.xml").replace("<OrderId>ORD12345</OrderId>", "");
+
+        assertThrows(SAXException.class, () -> xmlValidationService.validate(new StreamSource(new StringReader(wrongType)), xsd));
+        assertThrows(SAXException.class, () -> xmlValidationService.validate(new StreamSource(new StringReader(missingChild)), xsd));
+    }
+
+    @Test
+    void occurrencesAndTypesComeFromTheSample() throws IOException {
+        InferredXmlElement order = xsdInferenceService.infer(sample("source.xml")).get(0);
+
+        assertEquals("Order", order.getName());
+        assertEquals(ValueType.DATE, child(order, "OrderDate").getType());
+        assertEquals(ValueType.BOOLEAN, child(child(order, "Billing"), "Paid").getType());
+        // Ten digits read as an identifier, not a number.
+        assertEquals(ValueType.STRING, child(child(child(order, "Customer"), "Contact"), "Phone").getType());
+        InferredXmlElement item = child(child(order, "Items"), "Item");
+        assertEquals(1, item.getMinOccurs());
+        assertEquals(-1, item.getMaxOccurs());
+        assertEquals(ValueType.INT, child(item, "Quantity").getType());
+        assertEquals(ValueType.DECIMAL, child(item, "Price").getType());
+    }
+
+    @Test
+    void childMissingFromOneInstanceIsOptional() throws IOException {
+        InferredXmlElement root = xsdInferenceService.infer("<a><b><c>1</c><d>x</d></b><b><c>2</c></b><b><c>3</c><e>y</e></b></a>").get(0);
+        InferredXmlElement b = child(root, "b");
+
+        assertEquals(1, child(b, "c").getMinOccurs());
+        assertEquals(0, child(b, "d").getMinOccurs());
+        assertEquals(0, child(b, "e").getMinOccurs());
+    }
+
+    @Test
+    void readingTheInferredXsdGivesTheSameDeclarations() throws IOException {
+        List<InferredXmlElement> inferred = xsdInferenceService.infer(sample("source.xml"));
+
+        List<InferredXmlElement> read = xsdInferenceService.fromXsd(xsdInferenceService.toXsd(inferred));
+
+        assertEquals(inferred, read);
+    }
+
+    @Test
+    void occurrenceBoundsOfAHandWrittenXsd() throws IOException {
+        String xsd = """
+            <xs:schema xmlns:xs="http://www.w3.org/2001/XMLSchema">
+              <xs:element name="Order">
+                <xs:complexType>
+                  <xs:sequence>
+                    <xs:element name="Note" type="xs:string" minOccurs=" 0 "/>
+                    <xs:element name="Line" type="xs:int" maxOccurs="unbounded"/>
+                    <xs:element name="Tag" type="xs:string" minOccurs="2" maxOccurs="5"/>
+                  </xs:sequence>
+                </xs:complexType>
+              </xs:element>
+            </xs:schema>
+            """;
+
+        InferredXmlElement order = xsdInferenceService.fromXsd(xsd).get(0);
+
+        assertEquals(0, child(order, "Note").getMinOccurs());
+        assertEquals(1, child(order, "Note").getMaxOccurs());
+        assertEquals(1, child(order, "Line").getMinOccurs());
+        assertEquals(-1, child(order, "Line").getMaxOccurs());
+        // Declarations only tell required from optional and single from repeating.
+        assertEquals(1, child(order, "Tag").getMinOccurs());
+        assertEquals(-1, child(order, "Tag").getMaxOccurs());
+    }
+
+    @Test
+    void malformedOccurrenceDoesNotThrow() {
+        String xsd = """
+            <xs:schema xmlns:xs="http://www.w3.org/2001/XMLSchema">
+              <xs:element name="Order">
+                <xs:complexType>
+                  <xs:sequence>
+                    <xs:element name="Line" type="xs:int" minOccurs="" maxOccurs="many"/>
+                  </xs:sequence>
+                </xs:complexType>
+              </xs:element>
+            </xs:schema>
+            """;
+
+        assertDoesNotThrow(() -> xsdInferenceService.fromXsd(xsd));
+    }
+
+    private static InferredXmlElement child(InferredXmlElement parent, String name) {
+        return parent.getChildren().stream().filter(child -> child.getName().equals(name)).findFirst()
+            .orElseThrow(() -> new AssertionError(parent.getName() + " has no child " + name));
+    }
+}